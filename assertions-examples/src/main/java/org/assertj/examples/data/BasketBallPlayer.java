@@ -33,7 +33,8 @@ public class BasketBallPlayer {
   private String team;
   private boolean rookie;
   private List<BasketBallPlayer> teamMates = new ArrayList<BasketBallPlayer>();
-  private List<int[]> points = new ArrayList<>();
+  private final PointsLog pointsLog = new PointsLog();
+  private final List<int[]> points = pointsLog.asList();
 
   public BasketBallPlayer(Name name, String team) {
     setName(name);
@@ -103,10 +104,20 @@ public class BasketBallPlayer {
     return teamMates;
   }
 
+  /**
+   * Returns the player's {@link PointsLog} as a list, always the same instance.
+   * <p>
+   * Adding to it records a new game, the games it returns are copies: changing them or calling {@code set} or
+   * {@code remove} does not change the player's points, the latter throw an {@link UnsupportedOperationException}.
+   */
   public List<int[]> getPoints() {
     return points;
   }
 
+  public PointsLog getPointsLog() {
+    return pointsLog;
+  }
+
   @Override public String toString() {
     return format("%s[%s %s, team=%s]", getClass().getSimpleName(), name.getFirst(), name.getLast(), team);
   }
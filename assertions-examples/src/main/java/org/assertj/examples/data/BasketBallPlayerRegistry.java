@@ -0,0 +1,195 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Gives {@link BasketBallPlayer}s dense int ids (0, 1, 2 ...) and stores the team mates relation by id in a compressed
+ * adjacency array: the team mates ids of player i are {@code teamMateIds[offsets[i] .. offsets[i + 1][}, sorted.
+ * <p>
+ * Team mates are always mutual and traversing them does not need to follow object references, hence no cycle
+ * detection is needed.
+ */
+public class BasketBallPlayerRegistry {
+
+  private final List<BasketBallPlayer> players = new ArrayList<>();
+  private final Map<BasketBallPlayer, Integer> ids = new IdentityHashMap<>();
+  // links added since the last compaction, a link is packed as (id1 << 32 | id2)
+  private long[] pendingLinks = new long[16];
+  private int pendingLinkCount;
+  private int[] offsets = new int[1];
+  private int[] teamMateIds = new int[0];
+
+  /**
+   * Registers the given players and their team mates (transitively) and links them as given by
+   * {@link BasketBallPlayer#getTeamMates()}.
+   */
+  public static BasketBallPlayerRegistry of(Iterable<BasketBallPlayer> players) {
+    BasketBallPlayerRegistry registry = new BasketBallPlayerRegistry();
+    for (BasketBallPlayer player : players) {
+      registry.register(player);
+    }
+    // registered players list grows while team mates get registered
+    for (int id = 0; id < registry.players.size(); id++) {
+      for (BasketBallPlayer teamMate : registry.players.get(id).getTeamMates()) {
+        registry.linkTeamMates(id, registry.register(teamMate));
+      }
+    }
+    return registry;
+  }
+
+  /**
+   * Registers the given player if needed and returns its id.
+   */
+  public int register(BasketBallPlayer player) {
+    Integer id = ids.get(player);
+    if (id == null) {
+      id = players.size();
+      players.add(player);
+      ids.put(player, id);
+    }
+    return id;
+  }
+
+  public int size() {
+    return players.size();
+  }
+
+  /**
+   * @return the id of the given player or -1 if it is not registered.
+   */
+  public int idOf(BasketBallPlayer player) {
+    Integer id = ids.get(player);
+    return id == null ? -1 : id;
+  }
+
+  public BasketBallPlayer player(int id) {
+    return players.get(id);
+  }
+
+  /**
+   * Links the players with the given ids as team mates of each other.
+   */
+  public void linkTeamMates(int id1, int id2) {
+    checkId(id1);
+    checkId(id2);
+    if (id1 == id2) return;
+    if (pendingLinkCount + 2 > pendingLinks.length) pendingLinks = Arrays.copyOf(pendingLinks, pendingLinks.length * 2);
+    pendingLinks[pendingLinkCount++] = link(id1, id2);
+    pendingLinks[pendingLinkCount++] = link(id2, id1);
+  }
+
+  public boolean areTeamMates(int id1, int id2) {
+    compact();
+    checkId(id1);
+    checkId(id2);
+    return Arrays.binarySearch(teamMateIds, offsets[id1], offsets[id1 + 1], id2) >= 0;
+  }
+
+  public int teamMatesCount(int id) {
+    compact();
+    checkId(id);
+    return offsets[id + 1] - offsets[id];
+  }
+
+  /**
+   * @return the id of the i-th (in ascending id order) team mate of the given player.
+   */
+  public int teamMate(int id, int i) {
+    if (i < 0 || i >= teamMatesCount(id)) throw new IndexOutOfBoundsException("team mate: " + i);
+    return teamMateIds[offsets[id] + i];
+  }
+
+  public void forEachTeamMate(int id, IntConsumer teamMateIdConsumer) {
+    compact();
+    checkId(id);
+    for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+      teamMateIdConsumer.accept(teamMateIds[i]);
+    }
+  }
+
+  /**
+   * Compares the team mates relation of this registry with the other one id by id, this does not compare the players
+   * themselves.
+   */
+  public boolean hasSameTeamMatesAs(BasketBallPlayerRegistry other) {
+    compact();
+    other.compact();
+    return Arrays.equals(offsets, other.offsets) && Arrays.equals(teamMateIds, other.teamMateIds);
+  }
+
+  /**
+   * Compares the team mates ids of the player {@code id} in this registry with the ones of player {@code otherId} in
+   * the other registry.
+   */
+  public boolean hasSameTeamMatesAs(int id, BasketBallPlayerRegistry other, int otherId) {
+    int count = teamMatesCount(id);
+    if (count != other.teamMatesCount(otherId)) return false;
+    for (int i = 0; i < count; i++) {
+      if (teamMateIds[offsets[id] + i] != other.teamMateIds[other.offsets[otherId] + i]) return false;
+    }
+    return true;
+  }
+
+  // merges pending links into the adjacency arrays, removing duplicate links.
+  private void compact() {
+    int playersCount = players.size();
+    if (pendingLinkCount == 0 && offsets.length == playersCount + 1) return;
+    long[] links = new long[teamMateIds.length + pendingLinkCount];
+    int linkCount = 0;
+    for (int id = 0; id + 1 < offsets.length; id++) {
+      for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+        links[linkCount++] = link(id, teamMateIds[i]);
+      }
+    }
+    System.arraycopy(pendingLinks, 0, links, linkCount, pendingLinkCount);
+    linkCount += pendingLinkCount;
+    // sorting packed links sorts them by player id then team mate id
+    Arrays.sort(links, 0, linkCount);
+    int[] newOffsets = new int[playersCount + 1];
+    int[] newTeamMateIds = new int[linkCount];
+    int teamMatesCount = 0;
+    for (int i = 0; i < linkCount; i++) {
+      if (i > 0 && links[i] == links[i - 1]) continue;
+      newOffsets[(int) (links[i] >>> 32) + 1]++;
+      newTeamMateIds[teamMatesCount++] = (int) links[i];
+    }
+    for (int id = 0; id < playersCount; id++) {
+      newOffsets[id + 1] += newOffsets[id];
+    }
+    offsets = newOffsets;
+    teamMateIds = Arrays.copyOf(newTeamMateIds, teamMatesCount);
+    pendingLinkCount = 0;
+  }
+
+  private void checkId(int id) {
+    if (id < 0 || id >= players.size()) throw new IndexOutOfBoundsException("id: " + id + ", size: " + players.size());
+  }
+
+  private static long link(int id1, int id2) {
+    return ((long) id1 << 32) | id2;
+  }
+
+  @Override
+  public String toString() {
+    compact();
+    return "BasketBallPlayerRegistry[players=" + players.size() + ", teamMatesLinks=" + teamMateIds.length / 2 + "]";
+  }
+
+}
@@ -0,0 +1,132 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Runs a large number of dinner parties on the packed {@link Mansion} state and checks each outcome against the
+ * outcome expected for the same mansion, like the soft assertions examples do but without creating any object per
+ * party.
+ * <p>
+ * Each party starts from a random mansion state (0 to 6 guests and bullets, random rooms, candlestick and guests
+ * appearance). A party and its expected outcome are functions from packed state to packed state (see
+ * {@link Mansion#state()}), the party defaults to {@link Mansion#hostPotentiallyMurderousDinnerParty(long)}.
+ */
+public class DinnerPartySimulator {
+
+  private static final long DEFAULT_SEED = 0x9E3779B97F4A7C15L;
+
+  private final LongUnaryOperator dinnerParty;
+
+  public DinnerPartySimulator() {
+    this(Mansion::hostPotentiallyMurderousDinnerParty);
+  }
+
+  /**
+   * @param dinnerParty the party to simulate, it takes and returns a packed mansion state.
+   */
+  public DinnerPartySimulator(LongUnaryOperator dinnerParty) {
+    this.dinnerParty = dinnerParty;
+  }
+
+  /**
+   * Hosts the given number of parties, each one in a random mansion, and compares each outcome to the one
+   * {@link Mansion#hostPotentiallyMurderousDinnerParty(long)} gives for the same mansion.
+   */
+  public Report run(long parties) {
+    return run(parties, DEFAULT_SEED, Mansion::hostPotentiallyMurderousDinnerParty);
+  }
+
+  /**
+   * Hosts the given number of parties, each one in a random mansion, and compares each outcome to the one the given
+   * function expects for the same mansion.
+   */
+  public Report run(long parties, LongUnaryOperator expectedOutcome) {
+    return run(parties, DEFAULT_SEED, expectedOutcome);
+  }
+
+  /**
+   * Hosts the given number of parties, each one in a random mansion generated from the given seed, and compares each
+   * outcome to the one the given function expects for the same mansion. The same seed gives the same mansions.
+   */
+  public Report run(long parties, long seed, LongUnaryOperator expectedOutcome) {
+    long[] slotFailures = new long[Mansion.SLOT_MASKS.length];
+    long failedParties = 0;
+    // xorshift needs a non zero seed
+    long random = seed == 0 ? DEFAULT_SEED : seed;
+    long start = System.nanoTime();
+    for (long party = 0; party < parties; party++) {
+      random ^= random << 13;
+      random ^= random >>> 7;
+      random ^= random << 17;
+      long state = Mansion.randomState(random);
+      long differences = dinnerParty.applyAsLong(state) ^ expectedOutcome.applyAsLong(state);
+      if (differences == 0) continue;
+      failedParties++;
+      for (int slot = 0; slot < slotFailures.length; slot++) {
+        if ((differences & Mansion.SLOT_MASKS[slot]) != 0) slotFailures[slot]++;
+      }
+    }
+    return new Report(parties, failedParties, slotFailures, System.nanoTime() - start);
+  }
+
+  /**
+   * The outcome of a simulation: the number of parties that did not end as expected and, for each part of the mansion
+   * state, how many times it was not as expected.
+   */
+  public static class Report {
+
+    private final long parties;
+    private final long failedParties;
+    private final Map<String, Long> failuresBySlot = new LinkedHashMap<>();
+    private final long elapsedNanos;
+
+    Report(long parties, long failedParties, long[] slotFailures, long elapsedNanos) {
+      this.parties = parties;
+      this.failedParties = failedParties;
+      this.elapsedNanos = elapsedNanos;
+      for (int slot = 0; slot < slotFailures.length; slot++) {
+        failuresBySlot.put(Mansion.SLOT_NAMES[slot], slotFailures[slot]);
+      }
+    }
+
+    public long getParties() {
+      return parties;
+    }
+
+    public long getFailedParties() {
+      return failedParties;
+    }
+
+    /**
+     * @return the number of failures per mansion state part, keys are the {@link Mansion} accessors names.
+     */
+    public Map<String, Long> getFailuresBySlot() {
+      return failuresBySlot;
+    }
+
+    public double getPartiesPerSecond() {
+      return elapsedNanos == 0 ? 0 : parties * 1_000_000_000d / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Report[parties=%s, failedParties=%s, failuresBySlot=%s, partiesPerSecond=%.0f]", parties,
+                           failedParties, failuresBySlot, getPartiesPerSecond());
+    }
+  }
+
+}
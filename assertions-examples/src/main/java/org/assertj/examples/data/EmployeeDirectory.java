@@ -0,0 +1,125 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable directory of {@link Person}s ({@link Employee}s, {@link EmployeeOfTheMonth}s ...) with:
+ * <ul>
+ * <li>a hash index of {@link Employee}s by {@link Employee#getCompany() company}</li>
+ * <li>a hash index of {@link EmployeeOfTheMonth}s by month</li>
+ * <li>a sorted names array to find the persons whose name starts with a given prefix by binary search</li>
+ * </ul>
+ * All indexes are built while going once through the given persons.
+ */
+public class EmployeeDirectory {
+
+  private static final Comparator<String> NAME_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+  private final Map<String, List<Employee>> employeesByCompany = new HashMap<>();
+  private final Map<String, List<EmployeeOfTheMonth>> employeesOfTheMonthByMonth = new HashMap<>();
+  // persons sorted by name and their names
+  private final Person[] personsByName;
+  private final String[] sortedNames;
+
+  private EmployeeDirectory(Collection<? extends Person> persons) {
+    personsByName = new Person[persons.size()];
+    int i = 0;
+    for (Person person : persons) {
+      personsByName[i++] = person;
+      if (person instanceof Employee) {
+        Employee employee = (Employee) person;
+        employeesByCompany.computeIfAbsent(employee.getCompany(), company -> new ArrayList<>()).add(employee);
+      } else if (person instanceof EmployeeOfTheMonth) {
+        EmployeeOfTheMonth employeeOfTheMonth = (EmployeeOfTheMonth) person;
+        employeesOfTheMonthByMonth.computeIfAbsent(employeeOfTheMonth.month, month -> new ArrayList<>())
+                                  .add(employeeOfTheMonth);
+      }
+    }
+    Arrays.sort(personsByName, Comparator.comparing(Person::getName, NAME_ORDER));
+    sortedNames = new String[personsByName.length];
+    for (i = 0; i < sortedNames.length; i++) {
+      sortedNames[i] = personsByName[i].getName();
+    }
+  }
+
+  public static EmployeeDirectory of(Collection<? extends Person> persons) {
+    return new EmployeeDirectory(persons);
+  }
+
+  public static EmployeeDirectory of(Person... persons) {
+    return of(asList(persons));
+  }
+
+  public int size() {
+    return personsByName.length;
+  }
+
+  /**
+   * @return the employees of the given company in loading order.
+   */
+  public List<Employee> employeesOf(String company) {
+    return unmodifiableList(employeesByCompany.getOrDefault(company, emptyList()));
+  }
+
+  /**
+   * @return the employees of the given month in loading order.
+   */
+  public List<EmployeeOfTheMonth> employeesOfTheMonth(String month) {
+    return unmodifiableList(employeesOfTheMonthByMonth.getOrDefault(month, emptyList()));
+  }
+
+  /**
+   * @return the persons whose name starts with the given prefix sorted by name.
+   */
+  public List<Person> namesStartingWith(String prefix) {
+    // names starting with prefix are contiguous and start at the first name >= prefix
+    int start = firstIndexNotBefore(prefix);
+    int low = start;
+    int high = sortedNames.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedNames[middle].startsWith(prefix)) low = middle + 1;
+      else high = middle;
+    }
+    return unmodifiableList(asList(personsByName).subList(start, low));
+  }
+
+  private int firstIndexNotBefore(String name) {
+    int low = 0;
+    int high = sortedNames.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (NAME_ORDER.compare(sortedNames[middle], name) < 0) low = middle + 1;
+      else high = middle;
+    }
+    return low;
+  }
+
+  @Override
+  public String toString() {
+    return "EmployeeDirectory[persons=" + personsByName.length + ", companies=" + employeesByCompany.size() + "]";
+  }
+
+}
@@ -0,0 +1,107 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe histogram of positive values (latencies, sizes ...).
+ * <p>
+ * The values are counted in one bucket per power of two, percentiles are thus reported as the upper bound of their
+ * bucket (at most twice the actual value).
+ */
+public class Histogram {
+
+  private static final int BUCKETS = 64;
+
+  private final LongAdder count = new LongAdder();
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+  public void record(long value) {
+    count.increment();
+    total.add(value);
+    max.accumulate(value);
+    buckets.incrementAndGet(bucketOf(value));
+  }
+
+  /**
+   * @return a copy of this histogram, not affected by the values recorded afterwards.
+   */
+  public Histogram snapshot() {
+    Histogram snapshot = new Histogram();
+    snapshot.count.add(count.sum());
+    snapshot.total.add(total.sum());
+    snapshot.max.accumulate(max.get());
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot.buckets.set(i, buckets.get(i));
+    }
+    return snapshot;
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getTotal() {
+    return total.sum();
+  }
+
+  public double getMean() {
+    long count = getCount();
+    return count == 0 ? 0 : (double) getTotal() / count;
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * @param percentile between 0 and 100.
+   * @return the upper bound of the bucket containing the given percentile, 0 if no value was recorded.
+   */
+  public long getPercentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile must be between 0 and 100 but was " + percentile);
+    }
+    long[] counts = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0) return 0;
+    long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank) return i == 0 ? 0 : i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+    }
+    return Long.MAX_VALUE;
+  }
+
+  // bucket i holds the values in [2^(i-1), 2^i[, bucket 0 holds 0
+  private static int bucketOf(long value) {
+    return Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(Math.max(0, value)));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Histogram[count=%s, mean=%.1f, p50=%s, p99=%s, max=%s]", getCount(), getMean(),
+                         getPercentile(50), getPercentile(99), getMax());
+  }
+
+}
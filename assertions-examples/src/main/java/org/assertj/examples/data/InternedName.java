@@ -0,0 +1,117 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import java.util.Objects;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * An immutable first and last name shared through a weak intern pool: equal names give the same instance as long as it
+ * is referenced somewhere. Use {@link #toName()} to get a (mutable) {@link Name}.
+ * <p>
+ * Hash code and last name sort key are computed once, {@code toString()} is computed on first use.
+ */
+public final class InternedName implements Comparable<InternedName> {
+
+  private static final Interner<InternedName> POOL = Interners.newWeakInterner();
+
+  private final String first;
+  private final String last;
+  private final int hash;
+  // first 4 chars of the last name, compared as an unsigned long they give the same order as the last names
+  private final long sortKey;
+  private String rendered;
+
+  private InternedName(String first, String last) {
+    this.first = first;
+    this.last = last;
+    this.hash = new Name(first, last).hashCode();
+    this.sortKey = sortKeyOf(last);
+  }
+
+  public static InternedName of(String first, String last) {
+    return POOL.intern(new InternedName(first, last));
+  }
+
+  public static InternedName of(String first) {
+    return of(first, null);
+  }
+
+  public static InternedName of(Name name) {
+    return of(name.getFirst(), name.getLast());
+  }
+
+  public String getFirst() {
+    return first;
+  }
+
+  public String getLast() {
+    return last;
+  }
+
+  /**
+   * @return a new {@link Name} with this first and last name.
+   */
+  public Name toName() {
+    return new Name(first, last);
+  }
+
+  /**
+   * Same hash code as a {@link Name} with the same first and last name.
+   */
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof InternedName)) return false;
+    InternedName other = (InternedName) o;
+    // cheap rejection before comparing names, this is what the intern pool mostly does
+    return hash == other.hash && Objects.equals(first, other.first) && Objects.equals(last, other.last);
+  }
+
+  /**
+   * Compares last names, like {@link Name#compareTo(Name)}.
+   */
+  @Override
+  public int compareTo(InternedName other) {
+    if (sortKey != other.sortKey) return Long.compareUnsigned(sortKey, other.sortKey);
+    return last.compareTo(other.last);
+  }
+
+  @Override
+  public String toString() {
+    // racy single check is fine, String being immutable
+    String result = rendered;
+    if (result == null) {
+      result = String.format("%s[first=%s, last=%s]", getClass().getSimpleName(), first, last);
+      rendered = result;
+    }
+    return result;
+  }
+
+  private static long sortKeyOf(String last) {
+    if (last == null) return 0;
+    long key = 0;
+    for (int i = 0; i < 4; i++) {
+      key = (key << 16) | (i < last.length() ? last.charAt(i) : 0);
+    }
+    return key;
+  }
+
+}
@@ -12,46 +12,118 @@
  */
 package org.assertj.examples.data;
 
+/**
+ * A mansion whose state (living guests, revolver ammo, rooms, candlestick and guests appearance) is packed in a
+ * {@code long}, the accessors decode it and return shared constants.
+ * <p>
+ * Layout (from the lowest bits): guests (8 bits), revolver ammo (8 bits), then 2 bits codes for kitchen, library,
+ * candlestick, colonel and professor.
+ */
 public class Mansion {
-  private int guests = 6;
-  private int revolverAmmo = 6;
-  private String kitchen = "clean";
-  private String library = "clean";
-  private String candlestick = "pristine";
-  private String colonel = "well kempt";
-  private String professor = "well kempt";
+
+  static final String[] ROOM_STATES = { "clean", "messy" };
+  static final String[] CANDLESTICK_STATES = { "pristine", "bent" };
+  static final String[] PERSON_STATES = { "well kempt", "bloodied and disheveled" };
+
+  static final int GUESTS_SHIFT = 0;
+  static final int REVOLVER_AMMO_SHIFT = 8;
+  static final int KITCHEN_SHIFT = 16;
+  static final int LIBRARY_SHIFT = 18;
+  static final int CANDLESTICK_SHIFT = 20;
+  static final int COLONEL_SHIFT = 22;
+  static final int PROFESSOR_SHIFT = 24;
+  private static final int[] CODE_SHIFTS = { KITCHEN_SHIFT, LIBRARY_SHIFT, CANDLESTICK_SHIFT, COLONEL_SHIFT,
+      PROFESSOR_SHIFT };
+  private static final long COUNT_MASK = 0xFF;
+  private static final long CODE_MASK = 0x3;
+
+  // slots in the order of the accessors, used to report which part of the state differs.
+  static final String[] SLOT_NAMES = { "guests", "revolverAmmo", "kitchen", "library", "candlestick", "colonel",
+      "professor" };
+  static final long[] SLOT_MASKS = { COUNT_MASK << GUESTS_SHIFT, COUNT_MASK << REVOLVER_AMMO_SHIFT,
+      CODE_MASK << KITCHEN_SHIFT, CODE_MASK << LIBRARY_SHIFT, CODE_MASK << CANDLESTICK_SHIFT, CODE_MASK << COLONEL_SHIFT,
+      CODE_MASK << PROFESSOR_SHIFT };
+
+  // 6 guests, 6 bullets, everything else clean, pristine and well kempt (code 0)
+  static final long INITIAL_STATE = (6L << GUESTS_SHIFT) | (6L << REVOLVER_AMMO_SHIFT);
+
+  private long state;
+
+  public Mansion() {
+    this(INITIAL_STATE);
+  }
+
+  Mansion(long state) {
+    this.state = state;
+  }
 
   public void hostPotentiallyMurderousDinnerParty() {
-    library = "messy";
-    candlestick = "bent";
-    professor = "bloodied and disheveled";
+    state = hostPotentiallyMurderousDinnerParty(state);
+  }
+
+  /**
+   * The dinner party as a function of the packed state: library gets messy, candlestick bent and professor bloodied
+   * and disheveled.
+   */
+  public static long hostPotentiallyMurderousDinnerParty(long state) {
+    state = withCode(state, LIBRARY_SHIFT, 1);
+    state = withCode(state, CANDLESTICK_SHIFT, 1);
+    return withCode(state, PROFESSOR_SHIFT, 1);
+  }
+
+  /**
+   * @return a valid packed state built from the given random bits: 0 to 6 guests and bullets, random codes.
+   */
+  static long randomState(long random) {
+    long guests = ((random >>> 8) & 0xFFFF) % 7;
+    long revolverAmmo = ((random >>> 24) & 0xFFFF) % 7;
+    long state = (guests << GUESTS_SHIFT) | (revolverAmmo << REVOLVER_AMMO_SHIFT);
+    for (int i = 0; i < CODE_SHIFTS.length; i++) {
+      state = withCode(state, CODE_SHIFTS[i], (random >>> (40 + i)) & 1);
+    }
+    return state;
+  }
+
+  /**
+   * @return the packed state of this mansion.
+   */
+  public long state() {
+    return state;
   }
 
   public int guests() {
-    return guests;
+    return (int) ((state >>> GUESTS_SHIFT) & COUNT_MASK);
   }
 
   public int revolverAmmo() {
-    return revolverAmmo;
+    return (int) ((state >>> REVOLVER_AMMO_SHIFT) & COUNT_MASK);
   }
 
   public String kitchen() {
-    return kitchen;
+    return ROOM_STATES[code(KITCHEN_SHIFT)];
   }
 
   public String library() {
-    return library;
+    return ROOM_STATES[code(LIBRARY_SHIFT)];
   }
 
   public String professor() {
-    return professor;
+    return PERSON_STATES[code(PROFESSOR_SHIFT)];
   }
 
   public String colonel() {
-    return colonel;
+    return PERSON_STATES[code(COLONEL_SHIFT)];
   }
 
   public String candlestick() {
-    return candlestick;
+    return CANDLESTICK_STATES[code(CANDLESTICK_SHIFT)];
+  }
+
+  private int code(int shift) {
+    return (int) ((state >>> shift) & CODE_MASK);
+  }
+
+  private static long withCode(long state, int shift, long code) {
+    return (state & ~(CODE_MASK << shift)) | (code << shift);
   }
 }
@@ -0,0 +1,134 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The per game stats of a {@link BasketBallPlayer} stored in one int array, game i values being between offsets i and
+ * i+1.
+ * <p>
+ * The arrays are kept at their exact size, appending a game copies them, so that two logs with the same games have
+ * equal fields, whatever the way they were built.
+ * <p>
+ * A game stats line is read as points, assists and rebounds (missing values count as 0), their totals are maintained
+ * on each append so that totals and averages are O(1).
+ */
+public class PointsLog {
+
+  private static final int POINTS = 0;
+  private static final int ASSISTS = 1;
+  private static final int REBOUNDS = 2;
+
+  private int[] values = new int[0];
+  // game i values are in values[offsets[i] .. offsets[i + 1][
+  private int[] offsets = new int[1];
+  private int games;
+  private long totalPoints;
+  private long totalAssists;
+  private long totalRebounds;
+
+  /**
+   * Appends the stats of a game, usually its points, assists and rebounds.
+   */
+  public void addGame(int... gameStats) {
+    if (gameStats == null) throw new NullPointerException("game stats should not be null");
+    int start = offsets[games];
+    int end = start + gameStats.length;
+    values = Arrays.copyOf(values, end);
+    offsets = Arrays.copyOf(offsets, games + 2);
+    System.arraycopy(gameStats, 0, values, start, gameStats.length);
+    offsets[++games] = end;
+    totalPoints += valueOf(gameStats, POINTS);
+    totalAssists += valueOf(gameStats, ASSISTS);
+    totalRebounds += valueOf(gameStats, REBOUNDS);
+  }
+
+  public int games() {
+    return games;
+  }
+
+  /**
+   * @return a copy of the stats of the given game.
+   */
+  public int[] game(int game) {
+    if (game < 0 || game >= games) throw new IndexOutOfBoundsException("game: " + game + ", games: " + games);
+    return Arrays.copyOfRange(values, offsets[game], offsets[game + 1]);
+  }
+
+  public long totalPoints() {
+    return totalPoints;
+  }
+
+  public long totalAssists() {
+    return totalAssists;
+  }
+
+  public long totalRebounds() {
+    return totalRebounds;
+  }
+
+  public double averagePoints() {
+    return average(totalPoints);
+  }
+
+  public double averageAssists() {
+    return average(totalAssists);
+  }
+
+  public double averageRebounds() {
+    return average(totalRebounds);
+  }
+
+  /**
+   * Returns a new {@code List<int[]>} view of this log: {@code get} returns a copy of the game stats, {@code add}
+   * appends a game to this log, games can't be replaced or removed.
+   */
+  public List<int[]> asList() {
+    return new AbstractList<int[]>() {
+      @Override
+      public int[] get(int index) {
+        return game(index);
+      }
+
+      @Override
+      public boolean add(int[] gameStats) {
+        addGame(gameStats);
+        modCount++;
+        return true;
+      }
+
+      @Override
+      public int size() {
+        return games;
+      }
+    };
+  }
+
+  private double average(long total) {
+    return games == 0 ? 0 : (double) total / games;
+  }
+
+  private static int valueOf(int[] gameStats, int stat) {
+    return stat < gameStats.length ? gameStats[stat] : 0;
+  }
+
+  @Override
+  public String toString() {
+    return "PointsLog[games=" + games + ", points=" + totalPoints + ", assists=" + totalAssists + ", rebounds="
+           + totalRebounds + "]";
+  }
+
+}
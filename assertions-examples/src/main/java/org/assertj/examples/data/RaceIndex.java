@@ -0,0 +1,126 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes a list of {@link TolkienCharacter}s by {@link Race}, {@link Alignment} and immortality with one
+ * {@link BitSet} per value, bit i being set when the i-th character of the list matches.
+ * <p>
+ * Combining criteria is done with {@link BitSet#and(BitSet)}, {@link BitSet#or(BitSet)} ... which work a word (64
+ * characters) at a time, ex: immortal good characters:
+ * <pre><code class='java'> BitSet immortalGood = index.immortals();
+ * immortalGood.and(index.withAlignment(GOOD));
+ * List&lt;TolkienCharacter&gt; characters = index.characters(immortalGood);</code></pre>
+ * <p>
+ * The index follows the characters appended to the indexed list, other modifications are not supported.
+ */
+public class RaceIndex {
+
+  private final List<TolkienCharacter> characters;
+  private final Map<Race, BitSet> byRace = new EnumMap<>(Race.class);
+  private final Map<Alignment, BitSet> byAlignment = new EnumMap<>(Alignment.class);
+  private final BitSet immortals = new BitSet();
+  private final BitSet mortals = new BitSet();
+  private int indexedSize;
+
+  public RaceIndex(List<TolkienCharacter> characters) {
+    this.characters = characters;
+    for (Race race : Race.values()) {
+      byRace.put(race, new BitSet());
+    }
+    for (Alignment alignment : Alignment.values()) {
+      byAlignment.put(alignment, new BitSet());
+    }
+    indexNewCharacters();
+  }
+
+  /**
+   * Appends the given character to the indexed list and indexes it.
+   */
+  public void add(TolkienCharacter character) {
+    characters.add(character);
+    indexNewCharacters();
+  }
+
+  /**
+   * @return the positions of the characters of the given race, the returned {@link BitSet} can be freely modified.
+   */
+  public BitSet withRace(Race race) {
+    indexNewCharacters();
+    return (BitSet) byRace.get(race).clone();
+  }
+
+  /**
+   * @return the positions of the characters of the given alignment, the returned {@link BitSet} can be freely
+   *         modified.
+   */
+  public BitSet withAlignment(Alignment alignment) {
+    indexNewCharacters();
+    return (BitSet) byAlignment.get(alignment).clone();
+  }
+
+  /**
+   * @return the positions of the immortal characters, the returned {@link BitSet} can be freely modified.
+   */
+  public BitSet immortals() {
+    indexNewCharacters();
+    return (BitSet) immortals.clone();
+  }
+
+  /**
+   * @return the positions of the mortal characters, the returned {@link BitSet} can be freely modified.
+   */
+  public BitSet mortals() {
+    indexNewCharacters();
+    return (BitSet) mortals.clone();
+  }
+
+  public int count(Race race) {
+    indexNewCharacters();
+    return byRace.get(race).cardinality();
+  }
+
+  public int count(Alignment alignment) {
+    indexNewCharacters();
+    return byAlignment.get(alignment).cardinality();
+  }
+
+  /**
+   * @return the characters at the positions set in the given {@link BitSet}, in list order.
+   */
+  public List<TolkienCharacter> characters(BitSet positions) {
+    List<TolkienCharacter> selected = new ArrayList<>(positions.cardinality());
+    for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+      selected.add(characters.get(i));
+    }
+    return selected;
+  }
+
+  private void indexNewCharacters() {
+    for (int size = characters.size(); indexedSize < size; indexedSize++) {
+      Race race = characters.get(indexedSize).getRace();
+      // characters without race are not indexed
+      if (race == null) continue;
+      byRace.get(race).set(indexedSize);
+      byAlignment.get(race.getAlignment()).set(indexedSize);
+      (race.immortal ? immortals : mortals).set(indexedSize);
+    }
+  }
+
+}
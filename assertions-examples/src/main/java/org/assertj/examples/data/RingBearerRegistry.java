@@ -0,0 +1,142 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A thread safe and lock free registry of {@link Ring} bearers, bearers are stored in an {@link AtomicReferenceArray}
+ * indexed by {@link Ring#ordinal()}.
+ * <p>
+ * Each update stores a new holder object in the ring slot, this allows {@link #snapshot()} to detect concurrent
+ * updates by reading all the slots twice: if both reads give the same holders, no update happened in between and the
+ * snapshot is consistent.
+ */
+public class RingBearerRegistry {
+
+  private static final Ring[] RINGS = Ring.values();
+
+  private final AtomicReferenceArray<Bearer> bearers = new AtomicReferenceArray<>(RINGS.length);
+
+  public static RingBearerRegistry of(Map<Ring, TolkienCharacter> ringBearers) {
+    RingBearerRegistry registry = new RingBearerRegistry();
+    ringBearers.forEach(registry::setBearer);
+    return registry;
+  }
+
+  /**
+   * @return the current bearer of the given ring or null if the ring has no bearer.
+   */
+  public TolkienCharacter bearerOf(Ring ring) {
+    Bearer bearer = bearers.get(ring.ordinal());
+    return bearer == null ? null : bearer.character;
+  }
+
+  /**
+   * Sets the bearer of the given ring whoever the current bearer is.
+   *
+   * @return the previous bearer or null if the ring had no bearer.
+   */
+  public TolkienCharacter setBearer(Ring ring, TolkienCharacter character) {
+    Bearer previous = bearers.getAndSet(ring.ordinal(), new Bearer(character));
+    return previous == null ? null : previous.character;
+  }
+
+  /**
+   * Gives the ring to {@code newBearer} if and only if {@code currentBearer} is its bearer (compared by reference, null
+   * meaning no bearer).
+   *
+   * @return true if the ring was transferred, false if {@code currentBearer} was not the ring bearer.
+   */
+  public boolean transfer(Ring ring, TolkienCharacter currentBearer, TolkienCharacter newBearer) {
+    int index = ring.ordinal();
+    Bearer newHolder = new Bearer(newBearer);
+    while (true) {
+      Bearer bearer = bearers.get(index);
+      TolkienCharacter character = bearer == null ? null : bearer.character;
+      if (character != currentBearer) return false;
+      if (bearers.compareAndSet(index, bearer, newHolder)) return true;
+      // a concurrent update replaced the holder, it may still be for the same character so retry.
+    }
+  }
+
+  /**
+   * @return the rings held by the given character (compared by reference) in a consistent snapshot of the registry.
+   */
+  public Set<Ring> ringsHeldBy(TolkienCharacter character) {
+    Set<Ring> rings = EnumSet.noneOf(Ring.class);
+    Bearer[] holders = consistentHolders();
+    for (int i = 0; i < holders.length; i++) {
+      if (holders[i] != null && holders[i].character == character) rings.add(RINGS[i]);
+    }
+    return rings;
+  }
+
+  /**
+   * @return an immutable map of the rings having a bearer, all bearers having been read at the same instant.
+   */
+  public Map<Ring, TolkienCharacter> snapshot() {
+    Map<Ring, TolkienCharacter> snapshot = new EnumMap<>(Ring.class);
+    Bearer[] holders = consistentHolders();
+    for (int i = 0; i < holders.length; i++) {
+      if (holders[i] != null && holders[i].character != null) snapshot.put(RINGS[i], holders[i].character);
+    }
+    return unmodifiableMap(snapshot);
+  }
+
+  // double collect: retry until two successive reads of all slots give the same holders.
+  private Bearer[] consistentHolders() {
+    Bearer[] previous = collect();
+    while (true) {
+      Bearer[] current = collect();
+      if (sameHolders(previous, current)) return current;
+      previous = current;
+    }
+  }
+
+  private Bearer[] collect() {
+    Bearer[] holders = new Bearer[RINGS.length];
+    for (int i = 0; i < holders.length; i++) {
+      holders[i] = bearers.get(i);
+    }
+    return holders;
+  }
+
+  private static boolean sameHolders(Bearer[] holders1, Bearer[] holders2) {
+    for (int i = 0; i < holders1.length; i++) {
+      if (holders1[i] != holders2[i]) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return "RingBearerRegistry" + snapshot();
+  }
+
+  // never reused: a new holder is created for each update, even for the same character.
+  private static final class Bearer {
+    private final TolkienCharacter character;
+
+    private Bearer(TolkienCharacter character) {
+      this.character = character;
+    }
+  }
+
+}
@@ -54,6 +54,13 @@ public class TolkienCharacter {
     this.age = age;
   }
 
+  /**
+   * @return an immutable copy of this character current state, see {@link TolkienCharacterSnapshot}.
+   */
+  public TolkienCharacterSnapshot snapshot() {
+    return TolkienCharacterSnapshot.of(this);
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
@@ -0,0 +1,116 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An immutable copy of a {@link TolkienCharacter} taken at a given time.
+ * <p>
+ * Unlike {@link TolkienCharacter#age}, {@link #age} is final and not volatile, surname and hash code are computed once,
+ * this makes snapshots a better fit for large comparisons/sorts than live characters.
+ */
+public final class TolkienCharacterSnapshot {
+
+  // public to test extract on field, like TolkienCharacter.age
+  public final int age;
+  private final String name;
+  private final Race race;
+  private final String surname;
+  private final int hash;
+
+  private TolkienCharacterSnapshot(String name, int age, Race race) {
+    this.name = name;
+    this.age = age;
+    this.race = race;
+    this.surname = race == null ? null : name + " the " + race.getName();
+    this.hash = hashCode(name, age, race);
+  }
+
+  public static TolkienCharacterSnapshot of(TolkienCharacter character) {
+    // single volatile read of age
+    return new TolkienCharacterSnapshot(character.getName(), character.age, character.getRace());
+  }
+
+  public static List<TolkienCharacterSnapshot> snapshot(Collection<TolkienCharacter> characters) {
+    List<TolkienCharacterSnapshot> snapshots = new ArrayList<>(characters.size());
+    for (TolkienCharacter character : characters) {
+      snapshots.add(of(character));
+    }
+    return snapshots;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getAge() {
+    return age;
+  }
+
+  public Race getRace() {
+    return race;
+  }
+
+  /**
+   * Same as {@link TolkienCharacter#getSurname()} except that it returns null instead of failing when race is null.
+   */
+  public String getSurname() {
+    return surname;
+  }
+
+  /**
+   * @return a new live {@link TolkienCharacter} with this snapshot values.
+   */
+  public TolkienCharacter toCharacter() {
+    return new TolkienCharacter(name, age, race);
+  }
+
+  /**
+   * Same value as {@link TolkienCharacter#hashCode()} for a character with the same name, age and race.
+   */
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (obj == null) return false;
+    if (getClass() != obj.getClass()) return false;
+    TolkienCharacterSnapshot other = (TolkienCharacterSnapshot) obj;
+    if (hash != other.hash) return false;
+    if (age != other.age) return false;
+    if (race != other.race) return false;
+    if (name == null) return other.name == null;
+    return name.equals(other.name);
+  }
+
+  @Override
+  public String toString() {
+    return name + " " + age + " years old " + (race != null ? race.getName() : "unknown race");
+  }
+
+  private static int hashCode(String name, int age, Race race) {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + age;
+    result = prime * result + ((name == null) ? 0 : name.hashCode());
+    result = prime * result + ((race == null) ? 0 : race.hashCode());
+    return result;
+  }
+
+}
@@ -0,0 +1,222 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A columnar store of {@link TolkienCharacter}s: ages, race ordinals and name ids are kept in primitive arrays, names
+ * are deduplicated in a dictionary.
+ * <p>
+ * Filtering and sorting work on row indexes and never create per-row objects, {@link TolkienCharacter} instances are
+ * only built when asked for with {@link #characterAt(int)} or {@link #characters(int[])}.
+ */
+public class TolkienCharacterTable {
+
+  private static final Race[] RACES = Race.values();
+  private static final byte NO_RACE = -1;
+
+  private int[] ages;
+  private byte[] races;
+  private int[] nameIds;
+  private int size;
+  // name dictionary
+  private final List<String> names = new ArrayList<>();
+  private final Map<String, Integer> nameIdByName = new HashMap<>();
+
+  public TolkienCharacterTable() {
+    this(16);
+  }
+
+  public TolkienCharacterTable(int initialCapacity) {
+    ages = new int[initialCapacity];
+    races = new byte[initialCapacity];
+    nameIds = new int[initialCapacity];
+  }
+
+  public static TolkienCharacterTable of(Iterable<TolkienCharacter> characters) {
+    TolkienCharacterTable table = new TolkienCharacterTable();
+    for (TolkienCharacter character : characters) {
+      table.add(character);
+    }
+    return table;
+  }
+
+  /**
+   * Appends the given character and returns its row index.
+   */
+  public int add(TolkienCharacter character) {
+    return add(character.getName(), character.age, character.getRace());
+  }
+
+  /**
+   * Appends a character made of the given values and returns its row index.
+   */
+  public int add(String name, int age, Race race) {
+    ensureCapacity(size + 1);
+    ages[size] = age;
+    races[size] = race == null ? NO_RACE : (byte) race.ordinal();
+    nameIds[size] = nameIdOf(name);
+    return size++;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the number of distinct names stored in this table.
+   */
+  public int distinctNames() {
+    return names.size();
+  }
+
+  public int ageAt(int row) {
+    checkRow(row);
+    return ages[row];
+  }
+
+  public Race raceAt(int row) {
+    checkRow(row);
+    return races[row] == NO_RACE ? null : RACES[races[row]];
+  }
+
+  public String nameAt(int row) {
+    checkRow(row);
+    return names.get(nameIds[row]);
+  }
+
+  /**
+   * Builds a new {@link TolkienCharacter} from the given row.
+   */
+  public TolkienCharacter characterAt(int row) {
+    return new TolkienCharacter(nameAt(row), ageAt(row), raceAt(row));
+  }
+
+  /**
+   * Builds new {@link TolkienCharacter}s from the given rows, in the given order.
+   */
+  public List<TolkienCharacter> characters(int[] rows) {
+    List<TolkienCharacter> characters = new ArrayList<>(rows.length);
+    for (int row : rows) {
+      characters.add(characterAt(row));
+    }
+    return characters;
+  }
+
+  /**
+   * @return the indexes of the rows whose race is the given one, in row order.
+   */
+  public int[] rowsWithRace(Race race) {
+    byte ordinal = race == null ? NO_RACE : (byte) race.ordinal();
+    int count = 0;
+    for (int row = 0; row < size; row++) {
+      if (races[row] == ordinal) count++;
+    }
+    int[] rows = new int[count];
+    for (int row = 0, i = 0; i < count; row++) {
+      if (races[row] == ordinal) rows[i++] = row;
+    }
+    return rows;
+  }
+
+  /**
+   * @return the indexes of the rows whose age is in [minAge, maxAge], in row order.
+   */
+  public int[] rowsWithAgeBetween(int minAge, int maxAge) {
+    int count = 0;
+    for (int row = 0; row < size; row++) {
+      if (ages[row] >= minAge && ages[row] <= maxAge) count++;
+    }
+    int[] rows = new int[count];
+    for (int row = 0, i = 0; i < count; row++) {
+      if (ages[row] >= minAge && ages[row] <= maxAge) rows[i++] = row;
+    }
+    return rows;
+  }
+
+  /**
+   * @return all row indexes sorted by ascending age, rows with the same age keep their insertion order.
+   */
+  public int[] rowsSortedByAge() {
+    return sortRows(ages);
+  }
+
+  /**
+   * @return all row indexes sorted by ascending name, rows with the same name keep their insertion order.
+   */
+  public int[] rowsSortedByName() {
+    // rank the dictionary once, then sort rows on their name rank
+    Integer[] dictionaryOrder = new Integer[names.size()];
+    for (int nameId = 0; nameId < dictionaryOrder.length; nameId++) {
+      dictionaryOrder[nameId] = nameId;
+    }
+    Arrays.sort(dictionaryOrder, Comparator.comparing(names::get, Comparator.nullsFirst(Comparator.naturalOrder())));
+    int[] rankByNameId = new int[dictionaryOrder.length];
+    for (int rank = 0; rank < dictionaryOrder.length; rank++) {
+      rankByNameId[dictionaryOrder[rank]] = rank;
+    }
+    int[] nameRanks = new int[size];
+    for (int row = 0; row < size; row++) {
+      nameRanks[row] = rankByNameId[nameIds[row]];
+    }
+    return sortRows(nameRanks);
+  }
+
+  // sorts rows on a primitive key column by packing (key, row) in a long, no boxing and no comparator involved.
+  private int[] sortRows(int[] keys) {
+    long[] packed = new long[size];
+    for (int row = 0; row < size; row++) {
+      packed[row] = ((long) keys[row] << 32) | row;
+    }
+    Arrays.sort(packed);
+    int[] rows = new int[size];
+    for (int i = 0; i < size; i++) {
+      rows[i] = (int) packed[i];
+    }
+    return rows;
+  }
+
+  private int nameIdOf(String name) {
+    Integer nameId = nameIdByName.get(name);
+    if (nameId == null) {
+      nameId = names.size();
+      names.add(name);
+      nameIdByName.put(name, nameId);
+    }
+    return nameId;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= ages.length) return;
+    int newCapacity = Math.max(capacity, ages.length * 2);
+    ages = Arrays.copyOf(ages, newCapacity);
+    races = Arrays.copyOf(races, newCapacity);
+    nameIds = Arrays.copyOf(nameIds, newCapacity);
+  }
+
+  private void checkRow(int row) {
+    if (row < 0 || row >= size) throw new IndexOutOfBoundsException("row: " + row + ", size: " + size);
+  }
+
+  @Override
+  public String toString() {
+    return "TolkienCharacterTable[size=" + size + ", distinctNames=" + names.size() + "]";
+  }
+
+}
@@ -0,0 +1,191 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.movie;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable catalog of {@link Movie}s indexed by release date (as epoch days) and by duration (in minutes), both
+ * computed once when the catalog is built.
+ * <p>
+ * Release date range and duration queries are answered by binary search over sorted primitive arrays. Movies without
+ * release date or with an unparseable duration (ex: "unknown" or more than 9 digits) are not part of the corresponding index.
+ */
+public class MovieCatalog {
+
+  static final int UNKNOWN_DURATION = -1;
+  // at most 9 digits so that the minutes always fit in an int
+  private static final Pattern DURATION = Pattern.compile("\\s*(\\d{1,9})\\s*min\\s*");
+
+  private final int size;
+  private final ZoneId zone;
+  // movies sorted by release date and their release epoch days
+  private final Movie[] moviesByReleaseDate;
+  private final long[] releaseEpochDays;
+  // movies sorted by duration and their duration in minutes
+  private final Movie[] moviesByDuration;
+  private final int[] durations;
+
+  private MovieCatalog(Collection<Movie> movies, ZoneId zone) {
+    this.size = movies.size();
+    this.zone = zone;
+    // compute the keys once, then sort movies on them
+    Movie[] allMovies = movies.toArray(new Movie[size]);
+    long[] epochDays = new long[size];
+    int[] minutes = new int[size];
+    int releasedCount = 0;
+    int timedCount = 0;
+    for (int i = 0; i < size; i++) {
+      Date releaseDate = allMovies[i].getReleaseDate();
+      if (releaseDate != null) {
+        epochDays[i] = epochDayOf(releaseDate, zone);
+        releasedCount++;
+      }
+      minutes[i] = minutesOf(allMovies[i].duration());
+      if (minutes[i] != UNKNOWN_DURATION) timedCount++;
+    }
+    Integer[] releaseOrder = new Integer[releasedCount];
+    Integer[] durationOrder = new Integer[timedCount];
+    for (int i = 0, released = 0, timed = 0; i < size; i++) {
+      if (allMovies[i].getReleaseDate() != null) releaseOrder[released++] = i;
+      if (minutes[i] != UNKNOWN_DURATION) durationOrder[timed++] = i;
+    }
+    Arrays.sort(releaseOrder, Comparator.comparingLong(i -> epochDays[i]));
+    Arrays.sort(durationOrder, Comparator.comparingInt(i -> minutes[i]));
+
+    moviesByReleaseDate = new Movie[releasedCount];
+    releaseEpochDays = new long[releasedCount];
+    for (int i = 0; i < releasedCount; i++) {
+      moviesByReleaseDate[i] = allMovies[releaseOrder[i]];
+      releaseEpochDays[i] = epochDays[releaseOrder[i]];
+    }
+    moviesByDuration = new Movie[timedCount];
+    durations = new int[timedCount];
+    for (int i = 0; i < timedCount; i++) {
+      moviesByDuration[i] = allMovies[durationOrder[i]];
+      durations[i] = minutes[durationOrder[i]];
+    }
+  }
+
+  /**
+   * Builds a catalog of the given movies, release days are computed in the system default time zone.
+   */
+  public static MovieCatalog of(Collection<Movie> movies) {
+    return new MovieCatalog(movies, ZoneId.systemDefault());
+  }
+
+  public static MovieCatalog of(Movie... movies) {
+    return of(asList(movies));
+  }
+
+  public static MovieCatalog of(Collection<Movie> movies, ZoneId zone) {
+    return new MovieCatalog(movies, zone);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the movies released between the given dates (inclusive) sorted by release date.
+   */
+  public List<Movie> releasedBetween(LocalDate from, LocalDate to) {
+    int start = firstIndexNotBefore(releaseEpochDays, from.toEpochDay());
+    int end = firstIndexNotBefore(releaseEpochDays, to.toEpochDay() + 1);
+    return slice(moviesByReleaseDate, start, end);
+  }
+
+  /**
+   * @return the movies released between the days of the given dates (inclusive) sorted by release date.
+   */
+  public List<Movie> releasedBetween(Date from, Date to) {
+    return releasedBetween(LocalDate.ofEpochDay(epochDayOf(from, zone)), LocalDate.ofEpochDay(epochDayOf(to, zone)));
+  }
+
+  /**
+   * @return the movies strictly longer than the given minutes sorted by ascending duration.
+   */
+  public List<Movie> longerThan(int minutes) {
+    return slice(moviesByDuration, firstIndexNotBefore(durations, minutes + 1L), durations.length);
+  }
+
+  /**
+   * @return the movies strictly shorter than the given minutes sorted by ascending duration.
+   */
+  public List<Movie> shorterThan(int minutes) {
+    return slice(moviesByDuration, 0, firstIndexNotBefore(durations, minutes));
+  }
+
+  /**
+   * @return the movie duration in minutes or -1 if the duration could not be parsed.
+   */
+  public static int durationInMinutes(Movie movie) {
+    return minutesOf(movie.duration());
+  }
+
+  static int minutesOf(String duration) {
+    if (duration == null) return UNKNOWN_DURATION;
+    Matcher matcher = DURATION.matcher(duration);
+    return matcher.matches() ? Integer.parseInt(matcher.group(1)) : UNKNOWN_DURATION;
+  }
+
+  private static List<Movie> slice(Movie[] movies, int from, int to) {
+    return unmodifiableList(asList(movies).subList(from, Math.max(from, to)));
+  }
+
+  private static long epochDayOf(Date date, ZoneId zone) {
+    // Instant.ofEpochMilli also works for java.sql.Date which does not support toInstant()
+    return Instant.ofEpochMilli(date.getTime()).atZone(zone).toLocalDate().toEpochDay();
+  }
+
+  // lower bound binary searches: index of the first element >= key, or array length
+  private static int firstIndexNotBefore(long[] sorted, long key) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sorted[middle] < key) low = middle + 1;
+      else high = middle;
+    }
+    return low;
+  }
+
+  private static int firstIndexNotBefore(int[] sorted, long key) {
+    int low = 0;
+    int high = sorted.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sorted[middle] < key) low = middle + 1;
+      else high = middle;
+    }
+    return low;
+  }
+
+  @Override
+  public String toString() {
+    return "MovieCatalog[movies=" + size + "]";
+  }
+
+}
@@ -0,0 +1,166 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.neo4j;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+
+/**
+ * Runs {@link DragonBallGraphRepository} queries on an executor and returns their results as
+ * {@link CompletableFuture}s.
+ * <p>
+ * At most {@code maxPendingQueries} queries can be running or waiting for a thread, submitting a query beyond that
+ * blocks the caller until a query completes, this back-pressure keeps the memory used by waiting queries bounded.
+ * <p>
+ * Returned nodes and relationships must be read within a transaction, use {@link #query(Function)} to read them on the
+ * executor thread, in the transaction the query ran in.
+ */
+public class AsyncDragonBallGraphRepository implements AutoCloseable {
+
+  private final GraphDatabaseService graphDatabase;
+  private final DragonBallGraphRepository repository;
+  private final ExecutorService executor;
+  private final Semaphore pendingQueries;
+
+  private AsyncDragonBallGraphRepository(GraphDatabaseService graphDatabase, ExecutorService executor,
+                                         int maxPendingQueries) {
+    if (maxPendingQueries < 1) {
+      throw new IllegalArgumentException("maxPendingQueries must be greater than 0 but was " + maxPendingQueries);
+    }
+    this.graphDatabase = graphDatabase;
+    this.repository = new DragonBallGraphRepository(graphDatabase);
+    this.executor = executor;
+    this.pendingQueries = new Semaphore(maxPendingQueries);
+  }
+
+  /**
+   * Runs the queries of a {@link DragonBallGraphRepository} over the given database on a fixed pool of the given number
+   * of daemon threads.
+   */
+  public static AsyncDragonBallGraphRepository withThreads(GraphDatabaseService graphDatabase, int threads,
+                                                           int maxPendingQueries) {
+    return new AsyncDragonBallGraphRepository(graphDatabase, newFixedThreadPool(threads), maxPendingQueries);
+  }
+
+  /**
+   * Runs the given function with the repository in a read only transaction on an executor thread, the function can
+   * thus read the nodes and relationships it gets.
+   */
+  public <T> CompletableFuture<T> query(Function<DragonBallGraphRepository, T> query) {
+    pendingQueries.acquireUninterruptibly();
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        // read only: the transaction is never marked successful, as the repository own transactions
+        try (Transaction ignored = graphDatabase.beginTx()) {
+          return query.apply(repository);
+        } finally {
+          pendingQueries.release();
+        }
+      }, executor);
+    } catch (RuntimeException e) {
+      // rejected, ex: closed executor
+      pendingQueries.release();
+      throw e;
+    }
+  }
+
+  public CompletableFuture<Iterable<Node>> findDisciplesOfMaster(String masterName) {
+    return query(repository -> repository.findDisciplesOfMaster(masterName));
+  }
+
+  public CompletableFuture<Collection<Relationship>> findFusions() {
+    return query(DragonBallGraphRepository::findFusions);
+  }
+
+  public CompletableFuture<Node> findUniqueCharacter(String characterName) {
+    return query(repository -> repository.findUniqueCharacter(characterName));
+  }
+
+  public CompletableFuture<Optional<Node>> findCharacter(String characterName) {
+    return query(repository -> repository.findCharacter(characterName));
+  }
+
+  public CompletableFuture<Map<String, Node>> findCharacters(Collection<String> characterNames) {
+    return query(repository -> repository.findCharacters(characterNames));
+  }
+
+  public CompletableFuture<Map<String, List<Node>>> findDisciplesOfMasters(Collection<String> masterNames) {
+    return query(repository -> repository.findDisciplesOfMasters(masterNames));
+  }
+
+  public CompletableFuture<Path> findShortestPathBetween(String character1, String character2) {
+    return query(repository -> repository.findShortestPathBetween(character1, character2));
+  }
+
+  public CompletableFuture<Optional<Path>> findShortestPath(String character1, String character2) {
+    return query(repository -> repository.findShortestPath(character1, character2));
+  }
+
+  /**
+   * Async version of {@link DragonBallGraphRepository#findShortestPath(String, String, int, RelationshipType...)}.
+   */
+  public CompletableFuture<Optional<Path>> findShortestPath(String character1, String character2, int maxDepth,
+                                                            RelationshipType... relationshipTypes) {
+    return query(repository -> repository.findShortestPath(character1, character2, maxDepth, relationshipTypes));
+  }
+
+  public CompletableFuture<Relationship> findUniqueTraining(String characterName) {
+    return query(repository -> repository.findUniqueTraining(characterName));
+  }
+
+  public CompletableFuture<Optional<Relationship>> findTraining(String characterName) {
+    return query(repository -> repository.findTraining(characterName));
+  }
+
+  /**
+   * @return the number of queries that can be submitted without blocking.
+   */
+  public int availablePermits() {
+    return pendingQueries.availablePermits();
+  }
+
+  /**
+   * Stops accepting queries and waits for the submitted ones to complete.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+  }
+
+  private static ExecutorService newFixedThreadPool(int threads) {
+    AtomicInteger threadCount = new AtomicInteger();
+    return Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "async-dragon-ball-repository-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+}
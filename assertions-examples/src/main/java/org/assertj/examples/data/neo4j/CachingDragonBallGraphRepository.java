@@ -0,0 +1,272 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.neo4j;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.NotFoundException;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.event.LabelEntry;
+import org.neo4j.graphdb.event.PropertyEntry;
+import org.neo4j.graphdb.event.TransactionData;
+import org.neo4j.graphdb.event.TransactionEventHandler;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+/**
+ * A {@link DragonBallGraphRepository} caching {@link #findDisciplesOfMaster(String)} and {@link #findFusions()}
+ * results in a bounded cache evicting the least recently used results.
+ * <p>
+ * A {@link TransactionEventHandler} invalidates the cached results of a query when a committed transaction changes
+ * what the query reads:
+ * <ul>
+ * <li>disciples: {@code HAS_TRAINED_WITH} relationships, {@code Character} and {@code Master} labels and the name of
+ * the nodes having these labels</li>
+ * <li>fusions: {@code IN_FUSION_WITH} relationships and their properties, {@code Character} labels</li>
+ * </ul>
+ * Other writes leave the cache untouched. {@link #close()} must be called to unregister the handler.
+ * <p>
+ * Queries run by the writes given to {@link #write(Consumer)} bypass the cache, as their transaction may be rolled
+ * back. Writes that may be rolled back must go through {@link #write(Consumer)} if the same transaction queries this
+ * repository, otherwise the cache could keep results containing data that was never committed.
+ * <p>
+ * Cached nodes and relationships, like the ones returned by {@link DragonBallGraphRepository}, must be read within a
+ * transaction.
+ */
+public class CachingDragonBallGraphRepository extends DragonBallGraphRepository implements AutoCloseable {
+
+  private enum CachedQuery {
+    DISCIPLES, FUSIONS
+  }
+
+  private static final Label CHARACTER = Label.label("Character");
+  private static final Label MASTER = Label.label("Master");
+  private static final String HAS_TRAINED_WITH = "HAS_TRAINED_WITH";
+  private static final String IN_FUSION_WITH = "IN_FUSION_WITH";
+
+  private final GraphDatabaseService graphDatabase;
+  private final Cache<CacheKey, Object> cache;
+  // incremented on each invalidation so that results read before an invalidation are not cached after it
+  private final Map<CachedQuery, AtomicLong> generations = new EnumMap<>(CachedQuery.class);
+  private final TransactionEventHandler<Set<CachedQuery>> invalidator = new Invalidator();
+  // set while the current thread runs writes given to write(Consumer)
+  private final ThreadLocal<Boolean> writing = ThreadLocal.withInitial(() -> false);
+
+  public CachingDragonBallGraphRepository(GraphDatabaseService graphDatabase, long maximumSize) {
+    super(graphDatabase);
+    this.graphDatabase = graphDatabase;
+    this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    for (CachedQuery query : CachedQuery.values()) {
+      generations.put(query, new AtomicLong());
+    }
+    graphDatabase.registerTransactionEventHandler(invalidator);
+  }
+
+  @Override
+  public Iterable<Node> findDisciplesOfMaster(String masterName) {
+    return cached(CachedQuery.DISCIPLES, masterName, () -> {
+      try (Stream<Node> disciples = streamDisciplesOfMaster(masterName)) {
+        return unmodifiableList(disciples.collect(toList()));
+      }
+    });
+  }
+
+  @Override
+  public Collection<Relationship> findFusions() {
+    return cached(CachedQuery.FUSIONS, null, () -> {
+      try (Stream<Relationship> fusions = streamFusions()) {
+        return unmodifiableList(fusions.collect(toList()));
+      }
+    });
+  }
+
+  /**
+   * Runs the given writes in a new transaction committed if they complete normally, rolled back if they throw an
+   * exception. The repository queries run by the writes see their uncommitted changes and are not cached.
+   * <p>
+   * Must not be called within a transaction, as that transaction could still be rolled back once the writes are done.
+   *
+   * @param writes the writes, given the repository database.
+   */
+  public void write(Consumer<GraphDatabaseService> writes) {
+    boolean wasWriting = writing.get();
+    writing.set(true);
+    try (Transaction transaction = graphDatabase.beginTx()) {
+      writes.accept(graphDatabase);
+      transaction.success();
+    } finally {
+      writing.set(wasWriting);
+    }
+  }
+
+  public CacheStats cacheStats() {
+    return cache.stats();
+  }
+
+  public long cacheSize() {
+    return cache.size();
+  }
+
+  @Override
+  public void close() {
+    graphDatabase.unregisterTransactionEventHandler(invalidator);
+    cache.invalidateAll();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T cached(CachedQuery query, String argument, Supplier<T> loader) {
+    // the result would contain uncommitted data
+    if (writing.get()) return loader.get();
+    CacheKey key = new CacheKey(query, argument);
+    T result = (T) cache.getIfPresent(key);
+    if (result != null) return result;
+    AtomicLong generation = generations.get(query);
+    long loadGeneration = generation.get();
+    result = loader.get();
+    cache.put(key, result);
+    // an invalidation happened while loading: the result may be stale and the invalidation may have missed it
+    if (generation.get() != loadGeneration) cache.invalidate(key);
+    return result;
+  }
+
+  private void invalidate(Set<CachedQuery> queries) {
+    for (CachedQuery query : queries) {
+      generations.get(query).incrementAndGet();
+    }
+    cache.asMap().keySet().removeIf(key -> queries.contains(key.query));
+  }
+
+  // finds the affected queries before the commit, while the changed entities can be read, and invalidates them after
+  private class Invalidator implements TransactionEventHandler<Set<CachedQuery>> {
+
+    @Override
+    public Set<CachedQuery> beforeCommit(TransactionData data) {
+      Set<CachedQuery> affectedQueries = EnumSet.noneOf(CachedQuery.class);
+      // new nodes can only be part of a result through new relationships
+      Set<Node> createdNodes = new HashSet<>();
+      data.createdNodes().forEach(createdNodes::add);
+      for (LabelEntry labelEntry : data.assignedLabels()) {
+        if (!createdNodes.contains(labelEntry.node())) labelChanged(labelEntry.label(), affectedQueries);
+      }
+      for (LabelEntry labelEntry : data.removedLabels()) {
+        labelChanged(labelEntry.label(), affectedQueries);
+      }
+      for (PropertyEntry<Node> propertyEntry : data.assignedNodeProperties()) {
+        if (!createdNodes.contains(propertyEntry.entity())) nodePropertyChanged(data, propertyEntry, affectedQueries);
+      }
+      for (PropertyEntry<Node> propertyEntry : data.removedNodeProperties()) {
+        nodePropertyChanged(data, propertyEntry, affectedQueries);
+      }
+      for (Relationship relationship : data.createdRelationships()) {
+        relationshipChanged(relationship, affectedQueries);
+      }
+      for (Relationship relationship : data.deletedRelationships()) {
+        relationshipChanged(relationship, affectedQueries);
+      }
+      for (PropertyEntry<Relationship> propertyEntry : data.assignedRelationshipProperties()) {
+        if (isFusion(propertyEntry.entity())) affectedQueries.add(CachedQuery.FUSIONS);
+      }
+      for (PropertyEntry<Relationship> propertyEntry : data.removedRelationshipProperties()) {
+        if (isFusion(propertyEntry.entity())) affectedQueries.add(CachedQuery.FUSIONS);
+      }
+      return affectedQueries;
+    }
+
+    @Override
+    public void afterCommit(TransactionData data, Set<CachedQuery> affectedQueries) {
+      if (!affectedQueries.isEmpty()) invalidate(affectedQueries);
+    }
+
+    @Override
+    public void afterRollback(TransactionData data, Set<CachedQuery> affectedQueries) {
+      // nothing changed, and results read with the rolled back writes were not cached
+    }
+
+    private void labelChanged(Label label, Set<CachedQuery> affectedQueries) {
+      if (label.name().equals(CHARACTER.name())) affectedQueries.addAll(EnumSet.allOf(CachedQuery.class));
+      else if (label.name().equals(MASTER.name())) affectedQueries.add(CachedQuery.DISCIPLES);
+    }
+
+    private void nodePropertyChanged(TransactionData data, PropertyEntry<Node> propertyEntry,
+                                     Set<CachedQuery> affectedQueries) {
+      Node node = propertyEntry.entity();
+      // a deleted node was in a result only if it had relationships, their deletion is handled separately
+      if (!propertyEntry.key().equals("name") || data.isDeleted(node)) return;
+      if (node.hasLabel(CHARACTER) || node.hasLabel(MASTER)) {
+        affectedQueries.add(CachedQuery.DISCIPLES);
+      }
+    }
+
+    private void relationshipChanged(Relationship relationship, Set<CachedQuery> affectedQueries) {
+      try {
+        String type = relationship.getType().name();
+        if (type.equals(HAS_TRAINED_WITH)) affectedQueries.add(CachedQuery.DISCIPLES);
+        else if (type.equals(IN_FUSION_WITH)) affectedQueries.add(CachedQuery.FUSIONS);
+      } catch (NotFoundException e) {
+        // the type of the relationship can't be read, play safe
+        affectedQueries.addAll(EnumSet.allOf(CachedQuery.class));
+      }
+    }
+
+    private boolean isFusion(Relationship relationship) {
+      try {
+        return relationship.getType().name().equals(IN_FUSION_WITH);
+      } catch (NotFoundException e) {
+        return true;
+      }
+    }
+  }
+
+  private static final class CacheKey {
+    private final CachedQuery query;
+    private final String argument;
+
+    private CacheKey(CachedQuery query, String argument) {
+      this.query = query;
+      this.argument = argument;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof CacheKey)) return false;
+      CacheKey other = (CacheKey) o;
+      return query == other.query && Objects.equals(argument, other.argument);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * query.hashCode() + Objects.hashCode(argument);
+    }
+  }
+
+}
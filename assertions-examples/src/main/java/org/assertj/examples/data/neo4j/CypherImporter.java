@@ -0,0 +1,169 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.neo4j;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Transaction;
+
+/**
+ * Imports a Cypher dump, a sequence of statements separated by {@code ;}, into a graph database.
+ * <p>
+ * Statements are read one at a time from the dump (a {@code ;} in a string literal or in a {@code //} comment does not
+ * end a statement) and the transaction is committed every {@code batchSize} statements, memory usage thus depends on
+ * the batch size and not on the dump size.
+ * <p>
+ * If a statement fails, the statements of the current batch are rolled back but the previous batches stay committed.
+ */
+public class CypherImporter {
+
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  private final GraphDatabaseService graphDatabase;
+  private final int batchSize;
+
+  public CypherImporter(GraphDatabaseService graphDatabase) {
+    this(graphDatabase, DEFAULT_BATCH_SIZE);
+  }
+
+  public CypherImporter(GraphDatabaseService graphDatabase, int batchSize) {
+    if (batchSize < 1) throw new IllegalArgumentException("batchSize must be greater than 0 but was " + batchSize);
+    this.graphDatabase = graphDatabase;
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Imports the given UTF-8 Cypher dump, the stream is not closed.
+   */
+  public Report importFrom(InputStream dump) throws IOException {
+    return importFrom(new InputStreamReader(dump, UTF_8));
+  }
+
+  /**
+   * Imports the given Cypher dump, the reader is not closed.
+   */
+  public Report importFrom(Reader dump) throws IOException {
+    BufferedReader reader = new BufferedReader(dump);
+    StringBuilder statement = new StringBuilder();
+    long statements = 0;
+    long batches = 0;
+    long start = System.nanoTime();
+    Transaction transaction = graphDatabase.beginTx();
+    try {
+      while (readStatement(reader, statement)) {
+        try (Result ignored = graphDatabase.execute(statement.toString())) {
+          statements++;
+        }
+        if (statements % batchSize == 0) {
+          transaction.success();
+          transaction.close();
+          batches++;
+          transaction = graphDatabase.beginTx();
+        }
+      }
+      if (statements % batchSize != 0) {
+        transaction.success();
+        batches++;
+      }
+    } finally {
+      transaction.close();
+    }
+    return new Report(statements, batches, System.nanoTime() - start);
+  }
+
+  // reads the next non blank statement (without its ';') in the given builder, returns false at the end of the dump
+  private static boolean readStatement(Reader reader, StringBuilder statement) throws IOException {
+    statement.setLength(0);
+    char quote = 0;
+    int previous = -1;
+    int c;
+    while ((c = reader.read()) != -1) {
+      if (quote != 0) {
+        // in a string literal, a backslash escapes the next character
+        if (c == quote && previous != '\\') quote = 0;
+        previous = previous == '\\' && c == '\\' ? -1 : c;
+        statement.append((char) c);
+        continue;
+      }
+      if (c == ';') {
+        if (isBlank(statement)) continue;
+        return true;
+      }
+      if (c == '/' && previous == '/') {
+        // line comment, drop the first '/' already appended and skip to the end of line
+        statement.setLength(statement.length() - 1);
+        while ((c = reader.read()) != -1 && c != '\n') {
+          // skip comment
+        }
+        previous = -1;
+        statement.append('\n');
+        continue;
+      }
+      if (c == '\'' || c == '"') quote = (char) c;
+      previous = c;
+      statement.append((char) c);
+    }
+    return !isBlank(statement);
+  }
+
+  private static boolean isBlank(StringBuilder statement) {
+    for (int i = 0; i < statement.length(); i++) {
+      if (!Character.isWhitespace(statement.charAt(i))) return false;
+    }
+    statement.setLength(0);
+    return true;
+  }
+
+  /**
+   * The outcome of an import: the number of statements executed and of committed transactions.
+   */
+  public static class Report {
+
+    private final long statements;
+    private final long batches;
+    private final long elapsedNanos;
+
+    Report(long statements, long batches, long elapsedNanos) {
+      this.statements = statements;
+      this.batches = batches;
+      this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getStatements() {
+      return statements;
+    }
+
+    public long getBatches() {
+      return batches;
+    }
+
+    public double getStatementsPerSecond() {
+      return elapsedNanos == 0 ? 0 : statements * 1_000_000_000d / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Report[statements=%s, batches=%s, statementsPerSecond=%.0f]", statements, batches,
+                           getStatementsPerSecond());
+    }
+  }
+
+}
@@ -13,84 +13,250 @@
 package org.assertj.examples.data.neo4j;
 
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Path;
 import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
 import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.graphdb.Result;
 import org.neo4j.graphdb.Transaction;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
 
 public class DragonBallGraphRepository {
 
+  private static final String DISCIPLES_OF_MASTER_QUERY = "MATCH (disciple:Character)-[:HAS_TRAINED_WITH]->(master:Master {name: {name}}) "
+                                                          + "RETURN disciple, master ORDER BY disciple.name ASC";
+  private static final Label CHARACTER = Label.label("Character");
+  // unique lookups only need two rows to detect duplicates
+  private static final String CHARACTER_QUERY = "MATCH (character:Character {name: {name}}) RETURN character LIMIT 2";
+  private static final String SHORTEST_PATH_QUERY = "MATCH (character1:Character {name: {name1}}), (character2:Character {name: {name2}}), "
+                                                    + "path = shortestPath((character1)-[*..15]-(character2)) RETURN path LIMIT 2";
+  private static final String TRAINING_QUERY = "MATCH (:Character {name: {name}})-[training:HAS_TRAINED_WITH]->(:Master) RETURN training LIMIT 2";
+  private static final String CHARACTERS_QUERY = "UNWIND {names} AS name MATCH (character:Character {name: name}) RETURN name, character";
+  private static final String DISCIPLES_OF_MASTERS_QUERY = "UNWIND {names} AS name "
+                                                           + "MATCH (disciple:Character)-[:HAS_TRAINED_WITH]->(master:Master {name: name}) "
+                                                           + "RETURN name, disciple ORDER BY disciple.name ASC";
+  private static final String FUSIONS_QUERY = "MATCH (:Character)-[fusion:IN_FUSION_WITH]->(:Character) RETURN fusion ORDER BY fusion.fusion_character_name ASC";
+
   private final GraphDatabaseService graphDatabase;
+  private final DragonBallGraphSchema schema;
 
+  /**
+   * Creates the repository and the {@link DragonBallGraphSchema schema} it relies on if needed.
+   */
   public DragonBallGraphRepository(GraphDatabaseService graphDatabase) {
     this.graphDatabase = graphDatabase;
+    this.schema = new DragonBallGraphSchema(graphDatabase);
+    schema.create();
   }
 
-  public Iterable<Node> findDisciplesOfMaster(String masterName) {
-    try (Transaction ignored = graphDatabase.beginTx();
-        ResourceIterator<Node> nodes = graphDatabase
-            .execute("MATCH (disciple:Character)-[:HAS_TRAINED_WITH]->(master:Master {name: {name}}) "
-                     + "RETURN disciple, master ORDER BY disciple.name ASC", map("name", masterName))
-            .columnAs("disciple")) {
+  public DragonBallGraphSchema schema() {
+    return schema;
+  }
 
-      return nodes.stream().collect(Collectors.toList());
+  public Iterable<Node> findDisciplesOfMaster(String masterName) {
+    try (Stream<Node> disciples = streamDisciplesOfMaster(masterName)) {
+      return disciples.collect(Collectors.toList());
     }
   }
 
   public Collection<Relationship> findFusions() {
+    try (Stream<Relationship> fusions = streamFusions()) {
+      return fusions.collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * Lazy version of {@link #findDisciplesOfMaster(String)}: disciples are read from the database as the stream is
+   * consumed.
+   * <p>
+   * The returned stream holds a transaction and must be closed (ideally with a try-with-resources) by the thread that
+   * called this method.
+   */
+  public Stream<Node> streamDisciplesOfMaster(String masterName) {
+    return stream(DISCIPLES_OF_MASTER_QUERY, map("name", masterName), "disciple");
+  }
+
+  /**
+   * Lazy version of {@link #findFusions()}: fusions are read from the database as the stream is consumed.
+   * <p>
+   * The returned stream holds a transaction and must be closed (ideally with a try-with-resources) by the thread that
+   * called this method.
+   */
+  public Stream<Relationship> streamFusions() {
+    return stream(FUSIONS_QUERY, emptyMap(), "fusion");
+  }
+
+  public Node findUniqueCharacter(String characterName) {
+    return findCharacter(characterName).orElseThrow(
+        () -> new NoSuchElementException(format("No character named <%s>", characterName)));
+  }
+
+  /**
+   * @return the character with the given name or an empty Optional if there is none.
+   * @throws IllegalArgumentException if several characters have the given name.
+   */
+  public Optional<Node> findCharacter(String characterName) {
     try (Transaction ignored = graphDatabase.beginTx();
-        ResourceIterator<Relationship> relationships = graphDatabase.execute(
-            "MATCH (:Character)-[fusion:IN_FUSION_WITH]->(:Character) RETURN fusion ORDER BY fusion.fusion_character_name ASC")
-                                                                    .columnAs("fusion")) {
+        ResourceIterator<Node> nodes = execute(CHARACTER_QUERY, map("name", characterName)).columnAs("character")) {
 
-      return relationships.stream().collect(Collectors.toList());
+      return getUnique(nodes, format("There should be only one character named <%s>", characterName));
     }
   }
 
-  public Node findUniqueCharacter(String characterName) {
-    Map<String, Object> parameters = map("name", characterName);
+  /**
+   * Batch version of {@link #findCharacter(String)}: looks all the given characters up with a single query.
+   *
+   * @return the characters found by name, in the given names order like {@link #findDisciplesOfMasters(Collection)},
+   *         names without character are not in the map.
+   * @throws IllegalArgumentException if several characters have one of the given names.
+   */
+  public Map<String, Node> findCharacters(Collection<String> characterNames) {
+    List<String> names = distinct(characterNames);
+    Map<String, Node> charactersFound = new HashMap<>();
     try (Transaction ignored = graphDatabase.beginTx();
-        ResourceIterator<Node> nodes = graphDatabase.execute(
-            "MATCH (character:Character {name: {name}}) RETURN character", parameters).columnAs("character")) {
+        Result rows = execute(CHARACTERS_QUERY, map("names", names))) {
+      while (rows.hasNext()) {
+        Map<String, Object> row = rows.next();
+        String name = (String) row.get("name");
+        if (charactersFound.put(name, (Node) row.get("character")) != null) {
+          throw new IllegalArgumentException(format("There should be only one character named <%s>", name));
+        }
+      }
+    }
+    Map<String, Node> characters = new LinkedHashMap<>();
+    for (String name : names) {
+      if (charactersFound.containsKey(name)) characters.put(name, charactersFound.get(name));
+    }
+    return characters;
+  }
 
-      return getUniqueOrFail(nodes, format("There should be only one character named <%s>", characterName));
+  /**
+   * Batch version of {@link #findDisciplesOfMaster(String)}: looks all the given masters disciples up with a single
+   * query.
+   *
+   * @return the disciples sorted by name of each given master, in the given names order, masters without disciples
+   *         are mapped to an empty list.
+   */
+  public Map<String, List<Node>> findDisciplesOfMasters(Collection<String> masterNames) {
+    Map<String, List<Node>> disciplesByMaster = new LinkedHashMap<>();
+    masterNames.forEach(masterName -> disciplesByMaster.put(masterName, new ArrayList<>()));
+    try (Transaction ignored = graphDatabase.beginTx();
+        Result rows = execute(DISCIPLES_OF_MASTERS_QUERY, map("names", distinct(masterNames)))) {
+      while (rows.hasNext()) {
+        Map<String, Object> row = rows.next();
+        disciplesByMaster.get(row.get("name")).add((Node) row.get("disciple"));
+      }
     }
+    return disciplesByMaster;
   }
 
   public Path findShortestPathBetween(String character1, String character2) {
+    return findShortestPath(character1, character2).orElseThrow(
+        () -> new NoSuchElementException(format("No path between character %s and character %s", character1,
+                                                character2)));
+  }
+
+  /**
+   * @return the shortest path between the given characters or an empty Optional if they are not connected.
+   * @throws IllegalArgumentException if there are several shortest paths between the given characters.
+   */
+  public Optional<Path> findShortestPath(String character1, String character2) {
     try (Transaction ignored = graphDatabase.beginTx();
-        ResourceIterator<Path> shortestPaths = graphDatabase.execute(
-            "MATCH (character1:Character {name: {name1}}), (character2:Character {name: {name2}}), "
-            + "path = shortestPath((character1)-[*..15]-(character2)) RETURN path", map("name1", character1,
-                                                                                        "name2", character2))
-                                                            .columnAs("path")) {
-      return getUniqueOrFail(shortestPaths,
-                             format("Expected only 1 shortest path between character %s and character %s",
-                                    character1,
-                                    character2));
+        ResourceIterator<Path> shortestPaths = execute(SHORTEST_PATH_QUERY,
+                                                       map("name1", character1, "name2", character2))
+                                                .columnAs("path")) {
+      return getUnique(shortestPaths,
+                       format("Expected only 1 shortest path between character %s and character %s",
+                              character1,
+                              character2));
+    }
+  }
+
+  /**
+   * Core API version of {@link #findShortestPath(String, String)} that does not go through Cypher, see
+   * {@link ShortestPathFinder}.
+   *
+   * @param maxDepth the maximum number of relationships of the path.
+   * @param relationshipTypes the relationship types the path can go through, all types if none is given.
+   * @return one of the shortest paths between the given characters or an empty Optional if they are not connected
+   *         within the max depth.
+   */
+  public Optional<Path> findShortestPath(String character1, String character2, int maxDepth,
+                                         RelationshipType... relationshipTypes) {
+    ShortestPathFinder shortestPathFinder = new ShortestPathFinder(maxDepth, relationshipTypes);
+    try (Transaction ignored = graphDatabase.beginTx()) {
+      Node start = graphDatabase.findNode(CHARACTER, "name", character1);
+      Node end = graphDatabase.findNode(CHARACTER, "name", character2);
+      if (start == null || end == null) return Optional.empty();
+      return shortestPathFinder.find(start, end);
     }
   }
 
   public Relationship findUniqueTraining(String characterName) {
+    return findTraining(characterName).orElseThrow(
+        () -> new NoSuchElementException(format("No training involving character named <%s>", characterName)));
+  }
+
+  /**
+   * @return the training of the given character or an empty Optional if the character has not trained with a master.
+   * @throws IllegalArgumentException if the given character has trained with several masters.
+   */
+  public Optional<Relationship> findTraining(String characterName) {
     try (Transaction ignored = graphDatabase.beginTx();
-        ResourceIterator<Relationship> relationships = graphDatabase.execute(
-            "MATCH (:Character {name: {name}})-[training:HAS_TRAINED_WITH]->(:Master) RETURN training",
-            map("name", characterName)).columnAs("training")) {
+        ResourceIterator<Relationship> relationships = execute(TRAINING_QUERY, map("name", characterName))
+                                                        .columnAs("training")) {
 
-      return getUniqueOrFail(relationships,
-                             format("There should be only one training involving character named <%s>", characterName));
+      return getUnique(relationships,
+                       format("There should be only one training involving character named <%s>", characterName));
     }
   }
 
+  /**
+   * Executes the given query, all the repository queries go through this method.
+   */
+  protected Result execute(String query, Map<String, Object> parameters) {
+    return graphDatabase.execute(query, parameters);
+  }
+
+  // the transaction and the result iterator stay open until the stream is closed
+  private <T> Stream<T> stream(String query, Map<String, Object> parameters, String column) {
+    Transaction transaction = graphDatabase.beginTx();
+    try {
+      ResourceIterator<T> rows = execute(query, parameters).columnAs(column);
+      return rows.stream().onClose(() -> {
+        try {
+          rows.close();
+        } finally {
+          transaction.close();
+        }
+      });
+    } catch (RuntimeException e) {
+      transaction.close();
+      throw e;
+    }
+  }
+
+  // duplicated names would give duplicated rows
+  private static List<String> distinct(Collection<String> names) {
+    return new ArrayList<>(new LinkedHashSet<>(names));
+  }
+
   private static <K, V> Map<K, V> map(K key, V value) {
     Map<K, V> parameters = new HashMap<>((int) Math.ceil(1 / 0.75f));
     parameters.put(key, value);
@@ -104,11 +270,15 @@ public class DragonBallGraphRepository {
     return parameters;
   }
 
-  private static <T> T getUniqueOrFail(ResourceIterator<T> relationships, String errorMessage) {
-    List<T> characters = relationships.stream().collect(Collectors.toList());
-    if (characters.size() > 1) {
+  // reads at most two rows, the caller closes the iterator which discards the rows not read.
+  private static <T> Optional<T> getUnique(ResourceIterator<T> rows, String errorMessage) {
+    if (!rows.hasNext()) {
+      return Optional.empty();
+    }
+    T first = rows.next();
+    if (rows.hasNext()) {
       throw new IllegalArgumentException(errorMessage);
     }
-    return characters.iterator().next();
+    return Optional.of(first);
   }
 }
@@ -0,0 +1,141 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.neo4j;
+
+import static java.util.Arrays.asList;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.schema.ConstraintDefinition;
+import org.neo4j.graphdb.schema.ConstraintType;
+import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
+import org.neo4j.graphdb.schema.Schema.IndexState;
+
+/**
+ * The schema {@link DragonBallGraphRepository} queries rely on: a uniqueness constraint on the name of
+ * {@code :Character} and {@code :Master} nodes.
+ * <p>
+ * Each uniqueness constraint is backed by an index, so name lookups are index seeks instead of label scans. Neo4j
+ * does not support indexes on relationship properties, fusions are still sorted by the fusions query.
+ */
+public class DragonBallGraphSchema {
+
+  private static final String NAME = "name";
+  private static final List<Label> UNIQUELY_NAMED_LABELS = asList(Label.label("Character"), Label.label("Master"));
+
+  private final GraphDatabaseService graphDatabase;
+
+  public DragonBallGraphSchema(GraphDatabaseService graphDatabase) {
+    this.graphDatabase = graphDatabase;
+  }
+
+  /**
+   * Creates the missing constraints, existing ones are left untouched. A plain index on the name of a label without
+   * constraint is dropped, as the constraint comes with its own index and can't be created next to it.
+   * <p>
+   * The constraints indexes are populated when this method returns.
+   *
+   * @throws org.neo4j.graphdb.ConstraintViolationException if existing nodes have the same name.
+   */
+  public void create() {
+    List<Label> labelsToConstrain = new ArrayList<>();
+    try (Transaction transaction = graphDatabase.beginTx()) {
+      Schema schema = graphDatabase.schema();
+      for (Label label : UNIQUELY_NAMED_LABELS) {
+        if (hasUniqueName(schema, label)) continue;
+        labelsToConstrain.add(label);
+        for (IndexDefinition index : schema.getIndexes(label)) {
+          if (!index.isConstraintIndex() && isOnName(index)) index.drop();
+        }
+      }
+      transaction.success();
+    }
+    if (labelsToConstrain.isEmpty()) return;
+    // a schema transaction can't drop an index and create a constraint on the same property
+    try (Transaction transaction = graphDatabase.beginTx()) {
+      Schema schema = graphDatabase.schema();
+      for (Label label : labelsToConstrain) {
+        schema.constraintFor(label).assertPropertyIsUnique(NAME).create();
+      }
+      transaction.success();
+    }
+  }
+
+  /**
+   * Waits for the indexes to be populated.
+   *
+   * @throws IllegalStateException if the indexes are not online before the timeout or if an index population failed.
+   */
+  public void awaitOnline(long timeout, TimeUnit unit) {
+    try (Transaction ignored = graphDatabase.beginTx()) {
+      graphDatabase.schema().awaitIndexesOnline(timeout, unit);
+    }
+  }
+
+  /**
+   * @return the state of the indexes by index description, ex: ":Character(name)".
+   */
+  public Map<String, IndexState> indexStates() {
+    Map<String, IndexState> indexStates = new LinkedHashMap<>();
+    try (Transaction ignored = graphDatabase.beginTx()) {
+      Schema schema = graphDatabase.schema();
+      for (IndexDefinition index : schema.getIndexes()) {
+        indexStates.put(describe(index), schema.getIndexState(index));
+      }
+    }
+    return indexStates;
+  }
+
+  /**
+   * @return the population completion percentage of the indexes by index description, ex: ":Character(name)".
+   */
+  public Map<String, Float> indexPopulationProgress() {
+    Map<String, Float> progress = new LinkedHashMap<>();
+    try (Transaction ignored = graphDatabase.beginTx()) {
+      Schema schema = graphDatabase.schema();
+      for (IndexDefinition index : schema.getIndexes()) {
+        progress.put(describe(index), schema.getIndexPopulationProgress(index).getCompletedPercentage());
+      }
+    }
+    return progress;
+  }
+
+  private static boolean hasUniqueName(Schema schema, Label label) {
+    for (ConstraintDefinition constraint : schema.getConstraints(label)) {
+      if (constraint.isConstraintType(ConstraintType.UNIQUENESS)
+          && constraint.getPropertyKeys().iterator().next().equals(NAME)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isOnName(IndexDefinition index) {
+    Iterator<String> propertyKeys = index.getPropertyKeys().iterator();
+    return propertyKeys.hasNext() && propertyKeys.next().equals(NAME) && !propertyKeys.hasNext();
+  }
+
+  private static String describe(IndexDefinition index) {
+    return ":" + index.getLabel().name() + "(" + String.join(",", index.getPropertyKeys()) + ")";
+  }
+
+}
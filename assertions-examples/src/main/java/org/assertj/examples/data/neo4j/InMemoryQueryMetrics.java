@@ -0,0 +1,141 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.neo4j;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.assertj.examples.data.Histogram;
+
+/**
+ * {@link QueryMetrics} kept in memory, per method: number of calls and rows, a latency {@link Histogram} and the
+ * database hits of profiled calls.
+ */
+public class InMemoryQueryMetrics implements QueryMetrics {
+
+  private final Map<String, MethodMetrics> metricsByMethod = new ConcurrentHashMap<>();
+
+  @Override
+  public void recordCall(String method, long elapsedNanos, long rows) {
+    MethodMetrics metrics = metricsOf(method);
+    metrics.rows.add(rows);
+    metrics.latencies.record(elapsedNanos);
+  }
+
+  @Override
+  public void recordDbHits(String method, long dbHits) {
+    MethodMetrics metrics = metricsOf(method);
+    metrics.profiledCalls.increment();
+    metrics.dbHits.add(dbHits);
+  }
+
+  /**
+   * @return the statistics of the given method, all zero if the method has not been called.
+   */
+  public MethodStatistics statisticsOf(String method) {
+    // not recorded: does not add the method to statistics()
+    MethodMetrics metrics = metricsByMethod.get(method);
+    return metrics == null ? new MethodMetrics().statistics() : metrics.statistics();
+  }
+
+  /**
+   * @return the statistics of all the called methods sorted by method name.
+   */
+  public Map<String, MethodStatistics> statistics() {
+    Map<String, MethodStatistics> statistics = new TreeMap<>();
+    metricsByMethod.forEach((method, metrics) -> statistics.put(method, metrics.statistics()));
+    return statistics;
+  }
+
+  public void reset() {
+    metricsByMethod.clear();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder("InMemoryQueryMetrics");
+    statistics().forEach((method, statistics) -> report.append(String.format("%n  %s: %s", method, statistics)));
+    return report.toString();
+  }
+
+  private MethodMetrics metricsOf(String method) {
+    return metricsByMethod.computeIfAbsent(method, key -> new MethodMetrics());
+  }
+
+  private static final class MethodMetrics {
+    private final LongAdder rows = new LongAdder();
+    private final Histogram latencies = new Histogram();
+    private final LongAdder profiledCalls = new LongAdder();
+    private final LongAdder dbHits = new LongAdder();
+
+    private MethodStatistics statistics() {
+      return new MethodStatistics(rows.sum(), latencies.snapshot(), profiledCalls.sum(), dbHits.sum());
+    }
+  }
+
+  /**
+   * The statistics of a repository method at the time they were read.
+   */
+  public static class MethodStatistics {
+
+    private final long rows;
+    private final Histogram latencies;
+    private final long profiledCalls;
+    private final long dbHits;
+
+    MethodStatistics(long rows, Histogram latencies, long profiledCalls, long dbHits) {
+      this.rows = rows;
+      this.latencies = latencies;
+      this.profiledCalls = profiledCalls;
+      this.dbHits = dbHits;
+    }
+
+    public long getCalls() {
+      return latencies.getCount();
+    }
+
+    public long getRows() {
+      return rows;
+    }
+
+    public long getMeanLatencyNanos() {
+      return (long) latencies.getMean();
+    }
+
+    /**
+     * @param percentile between 0 and 100.
+     * @return the upper bound of the latency histogram bucket containing the given percentile, 0 if there was no call.
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+      return latencies.getPercentile(percentile);
+    }
+
+    public long getProfiledCalls() {
+      return profiledCalls;
+    }
+
+    public long getMeanDbHits() {
+      return profiledCalls == 0 ? 0 : dbHits / profiledCalls;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("MethodStatistics[calls=%s, rows=%s, meanLatencyNanos=%s, p99LatencyNanos=%s, profiledCalls=%s, meanDbHits=%s]",
+                           getCalls(), rows, getMeanLatencyNanos(), getLatencyPercentileNanos(99), profiledCalls,
+                           getMeanDbHits());
+    }
+  }
+
+}
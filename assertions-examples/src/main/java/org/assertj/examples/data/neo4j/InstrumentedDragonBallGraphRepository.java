@@ -0,0 +1,187 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.neo4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.neo4j.graphdb.ExecutionPlanDescription;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Transaction;
+
+/**
+ * A {@link DragonBallGraphRepository} recording the latency and the number of returned elements of its lookups in a
+ * {@link QueryMetrics}.
+ * <p>
+ * Every {@code profileEvery} calls of a method, the Cypher queries the call ran are run again with {@code PROFILE} to
+ * record their database hits, this doubles the cost of the profiled calls. Use 0 to never profile.
+ * <p>
+ * {@code findUniqueXxx} methods are recorded under their {@code Optional} returning counterpart (ex:
+ * {@code findUniqueCharacter} as {@code findCharacter}), lazy {@code streamXxx} methods are not recorded. Only
+ * successful calls are recorded.
+ */
+public class InstrumentedDragonBallGraphRepository extends DragonBallGraphRepository {
+
+  private final GraphDatabaseService graphDatabase;
+  private final QueryMetrics metrics;
+  private final int profileEvery;
+  private final Map<String, AtomicLong> callCounts = new ConcurrentHashMap<>();
+  // the queries run by the current call when it is profiled
+  private final ThreadLocal<List<ExecutedQuery>> profiledQueries = new ThreadLocal<>();
+
+  public InstrumentedDragonBallGraphRepository(GraphDatabaseService graphDatabase, QueryMetrics metrics) {
+    this(graphDatabase, metrics, 0);
+  }
+
+  public InstrumentedDragonBallGraphRepository(GraphDatabaseService graphDatabase, QueryMetrics metrics,
+                                               int profileEvery) {
+    super(graphDatabase);
+    if (profileEvery < 0) {
+      throw new IllegalArgumentException("profileEvery must not be negative but was " + profileEvery);
+    }
+    this.graphDatabase = graphDatabase;
+    this.metrics = metrics;
+    this.profileEvery = profileEvery;
+  }
+
+  @Override
+  public Iterable<Node> findDisciplesOfMaster(String masterName) {
+    return measure("findDisciplesOfMaster", () -> super.findDisciplesOfMaster(masterName),
+                   InstrumentedDragonBallGraphRepository::size);
+  }
+
+  @Override
+  public Collection<Relationship> findFusions() {
+    return measure("findFusions", super::findFusions, Collection::size);
+  }
+
+  @Override
+  public Optional<Node> findCharacter(String characterName) {
+    return measure("findCharacter", () -> super.findCharacter(characterName),
+                   InstrumentedDragonBallGraphRepository::size);
+  }
+
+  @Override
+  public Map<String, Node> findCharacters(Collection<String> characterNames) {
+    return measure("findCharacters", () -> super.findCharacters(characterNames), Map::size);
+  }
+
+  @Override
+  public Map<String, List<Node>> findDisciplesOfMasters(Collection<String> masterNames) {
+    return measure("findDisciplesOfMasters", () -> super.findDisciplesOfMasters(masterNames),
+                   disciplesByMaster -> disciplesByMaster.values().stream().mapToLong(List::size).sum());
+  }
+
+  @Override
+  public Optional<Path> findShortestPath(String character1, String character2) {
+    return measure("findShortestPath", () -> super.findShortestPath(character1, character2),
+                   InstrumentedDragonBallGraphRepository::size);
+  }
+
+  @Override
+  public Optional<Path> findShortestPath(String character1, String character2, int maxDepth,
+                                         RelationshipType... relationshipTypes) {
+    // no Cypher query, never profiled
+    return measure("findShortestPathWithCoreApi",
+                   () -> super.findShortestPath(character1, character2, maxDepth, relationshipTypes),
+                   InstrumentedDragonBallGraphRepository::size);
+  }
+
+  @Override
+  public Optional<Relationship> findTraining(String characterName) {
+    return measure("findTraining", () -> super.findTraining(characterName),
+                   InstrumentedDragonBallGraphRepository::size);
+  }
+
+  @Override
+  protected Result execute(String query, Map<String, Object> parameters) {
+    List<ExecutedQuery> queries = profiledQueries.get();
+    if (queries != null) queries.add(new ExecutedQuery(query, parameters));
+    return super.execute(query, parameters);
+  }
+
+  private <T> T measure(String method, Supplier<T> call, ToLongFunction<T> rows) {
+    boolean profiled = profileEvery > 0
+                       && callCounts.computeIfAbsent(method, key -> new AtomicLong()).incrementAndGet()
+                          % profileEvery == 0;
+    if (profiled) profiledQueries.set(new ArrayList<>());
+    try {
+      long start = System.nanoTime();
+      T result = call.get();
+      metrics.recordCall(method, System.nanoTime() - start, rows.applyAsLong(result));
+      if (profiled) metrics.recordDbHits(method, profile(profiledQueries.get()));
+      return result;
+    } finally {
+      if (profiled) profiledQueries.remove();
+    }
+  }
+
+  private long profile(List<ExecutedQuery> queries) {
+    long dbHits = 0;
+    for (ExecutedQuery query : queries) {
+      try (Transaction ignored = graphDatabase.beginTx();
+          Result result = graphDatabase.execute("PROFILE " + query.query, query.parameters)) {
+        // the profiler statistics are complete once all the rows are read
+        while (result.hasNext()) {
+          result.next();
+        }
+        dbHits += dbHits(result.getExecutionPlanDescription());
+      }
+    }
+    return dbHits;
+  }
+
+  private static long dbHits(ExecutionPlanDescription plan) {
+    long dbHits = plan.hasProfilerStatistics() ? plan.getProfilerStatistics().getDbHits() : 0;
+    for (ExecutionPlanDescription child : plan.getChildren()) {
+      dbHits += dbHits(child);
+    }
+    return dbHits;
+  }
+
+  private static long size(Iterable<?> iterable) {
+    if (iterable instanceof Collection) return ((Collection<?>) iterable).size();
+    long size = 0;
+    for (Object ignored : iterable) {
+      size++;
+    }
+    return size;
+  }
+
+  private static long size(Optional<?> optional) {
+    return optional.isPresent() ? 1 : 0;
+  }
+
+  private static final class ExecutedQuery {
+    private final String query;
+    private final Map<String, Object> parameters;
+
+    private ExecutedQuery(String query, Map<String, Object> parameters) {
+      this.query = query;
+      this.parameters = parameters;
+    }
+  }
+
+}
@@ -0,0 +1,40 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.neo4j;
+
+/**
+ * Receives the measures of {@link InstrumentedDragonBallGraphRepository}, implement it to send them to your metrics
+ * system or use {@link InMemoryQueryMetrics}.
+ * <p>
+ * Implementations must be thread safe.
+ */
+public interface QueryMetrics {
+
+  /**
+   * Records a successful call of a repository method.
+   *
+   * @param method the repository method name.
+   * @param elapsedNanos the call duration.
+   * @param rows the number of returned elements.
+   */
+  void recordCall(String method, long elapsedNanos, long rows);
+
+  /**
+   * Records the database hits of a profiled call of a repository method.
+   *
+   * @param method the repository method name.
+   * @param dbHits the total database hits of the queries run by the call.
+   */
+  void recordDbHits(String method, long dbHits);
+
+}
@@ -0,0 +1,238 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.neo4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+
+/**
+ * Finds a shortest undirected path between two nodes with the Neo4j core API, no Cypher query is parsed nor planned.
+ * <p>
+ * The search is a bidirectional breadth first search: each step expands a whole level of the smallest side frontier
+ * and stops at the first level where both sides meet.
+ * <p>
+ * Must be used within a transaction.
+ */
+public class ShortestPathFinder {
+
+  private final int maxDepth;
+  private final RelationshipType[] relationshipTypes;
+
+  /**
+   * @param maxDepth the maximum number of relationships of the path.
+   * @param relationshipTypes the relationship types the path can go through, all types if none is given.
+   */
+  public ShortestPathFinder(int maxDepth, RelationshipType... relationshipTypes) {
+    if (maxDepth < 0) throw new IllegalArgumentException("maxDepth must not be negative but was " + maxDepth);
+    this.maxDepth = maxDepth;
+    this.relationshipTypes = relationshipTypes.clone();
+  }
+
+  /**
+   * @return one of the shortest paths between the given nodes or an empty Optional if there is none within the max
+   *         depth.
+   */
+  public Optional<Path> find(Node start, Node end) {
+    if (start.equals(end)) return Optional.of(new RelationshipsPath(start, new ArrayList<>()));
+    Side fromStart = new Side(start);
+    Side fromEnd = new Side(end);
+    for (int depth = 0; depth < maxDepth; depth++) {
+      Side side = fromStart.frontier.size() <= fromEnd.frontier.size() ? fromStart : fromEnd;
+      Side otherSide = side == fromStart ? fromEnd : fromStart;
+      Node meetingNode = side.expandLevel(otherSide);
+      if (meetingNode != null) return Optional.of(path(fromStart, fromEnd, meetingNode));
+      if (side.frontier.isEmpty()) return Optional.empty();
+    }
+    return Optional.empty();
+  }
+
+  private static Path path(Side fromStart, Side fromEnd, Node meetingNode) {
+    List<Relationship> relationships = fromStart.relationshipsTo(meetingNode);
+    Collections.reverse(relationships);
+    relationships.addAll(fromEnd.relationshipsTo(meetingNode));
+    return new RelationshipsPath(fromStart.origin, relationships);
+  }
+
+  private Iterable<Relationship> relationshipsOf(Node node) {
+    return relationshipTypes.length == 0 ? node.getRelationships(Direction.BOTH)
+        : node.getRelationships(Direction.BOTH, relationshipTypes);
+  }
+
+  // one search direction: the relationship used to reach each visited node (null for the origin) and its depth.
+  private final class Side {
+    private final Node origin;
+    private final Map<Node, Relationship> reachedBy = new HashMap<>();
+    private final Map<Node, Integer> depths = new HashMap<>();
+    private ArrayDeque<Node> frontier = new ArrayDeque<>();
+
+    private Side(Node origin) {
+      this.origin = origin;
+      reachedBy.put(origin, null);
+      depths.put(origin, 0);
+      frontier.add(origin);
+    }
+
+    // visits the next level and returns the meeting node giving the shortest path or null if the sides did not meet.
+    private Node expandLevel(Side otherSide) {
+      ArrayDeque<Node> nextFrontier = new ArrayDeque<>();
+      Node meetingNode = null;
+      int shortestLength = Integer.MAX_VALUE;
+      for (Node node : frontier) {
+        int nextDepth = depths.get(node) + 1;
+        for (Relationship relationship : relationshipsOf(node)) {
+          Node neighbour = relationship.getOtherNode(node);
+          if (reachedBy.containsKey(neighbour)) continue;
+          reachedBy.put(neighbour, relationship);
+          depths.put(neighbour, nextDepth);
+          nextFrontier.add(neighbour);
+          Integer otherDepth = otherSide.depths.get(neighbour);
+          // finish the level, a later meeting node can be closer to the other side origin
+          if (otherDepth != null && nextDepth + otherDepth < shortestLength) {
+            shortestLength = nextDepth + otherDepth;
+            meetingNode = neighbour;
+          }
+        }
+      }
+      frontier = nextFrontier;
+      return meetingNode;
+    }
+
+    // relationships from the given node back to the origin
+    private List<Relationship> relationshipsTo(Node node) {
+      List<Relationship> relationships = new ArrayList<>();
+      for (Relationship relationship = reachedBy.get(node); relationship != null; relationship = reachedBy.get(node)) {
+        relationships.add(relationship);
+        node = relationship.getOtherNode(node);
+      }
+      return relationships;
+    }
+  }
+
+  // a path built with the public API only: the start node and the relationships, in order, to the end node
+  private static final class RelationshipsPath implements Path {
+    private final List<Node> nodes = new ArrayList<>();
+    private final List<Relationship> relationships;
+
+    private RelationshipsPath(Node start, List<Relationship> relationships) {
+      this.relationships = Collections.unmodifiableList(relationships);
+      nodes.add(start);
+      for (Relationship relationship : relationships) {
+        nodes.add(relationship.getOtherNode(nodes.get(nodes.size() - 1)));
+      }
+    }
+
+    @Override
+    public Node startNode() {
+      return nodes.get(0);
+    }
+
+    @Override
+    public Node endNode() {
+      return nodes.get(nodes.size() - 1);
+    }
+
+    @Override
+    public Relationship lastRelationship() {
+      return relationships.isEmpty() ? null : relationships.get(relationships.size() - 1);
+    }
+
+    @Override
+    public Iterable<Relationship> relationships() {
+      return relationships;
+    }
+
+    @Override
+    public Iterable<Relationship> reverseRelationships() {
+      return reversed(relationships);
+    }
+
+    @Override
+    public Iterable<Node> nodes() {
+      return Collections.unmodifiableList(nodes);
+    }
+
+    @Override
+    public Iterable<Node> reverseNodes() {
+      return reversed(nodes);
+    }
+
+    @Override
+    public int length() {
+      return relationships.size();
+    }
+
+    // start node, then each relationship followed by the node it leads to
+    @Override
+    public Iterator<PropertyContainer> iterator() {
+      List<PropertyContainer> entities = new ArrayList<>();
+      entities.add(startNode());
+      for (int i = 0; i < relationships.size(); i++) {
+        entities.add(relationships.get(i));
+        entities.add(nodes.get(i + 1));
+      }
+      return Collections.unmodifiableList(entities).iterator();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Path)) return false;
+      Path other = (Path) obj;
+      return startNode().equals(other.startNode()) && relationships.equals(toList(other.relationships()));
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * startNode().hashCode() + relationships.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder path = new StringBuilder("(").append(startNode().getId()).append(")");
+      for (int i = 0; i < relationships.size(); i++) {
+        Relationship relationship = relationships.get(i);
+        boolean forward = relationship.getStartNode().equals(nodes.get(i));
+        path.append(forward ? "-[" : "<-[").append(relationship.getType().name()).append(",")
+            .append(relationship.getId()).append(forward ? "]->(" : "]-(").append(nodes.get(i + 1).getId())
+            .append(")");
+      }
+      return path.toString();
+    }
+
+    private static <T> List<T> reversed(List<T> list) {
+      List<T> reversed = new ArrayList<>(list);
+      Collections.reverse(reversed);
+      return Collections.unmodifiableList(reversed);
+    }
+
+    private static <T> List<T> toList(Iterable<T> iterable) {
+      List<T> list = new ArrayList<>();
+      iterable.forEach(list::add);
+      return list;
+    }
+  }
+
+}
@@ -0,0 +1,271 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.neo4j;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.NotFoundException;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.event.LabelEntry;
+import org.neo4j.graphdb.event.PropertyEntry;
+import org.neo4j.graphdb.event.TransactionData;
+import org.neo4j.graphdb.event.TransactionEventHandler;
+
+/**
+ * An in memory copy of the {@code HAS_TRAINED_WITH} relationships between characters and masters, giving the disciples
+ * of a master (like {@link DragonBallGraphRepository#findDisciplesOfMaster(String)}) and the masters of a character
+ * without any transaction.
+ * <p>
+ * Characters get int ids in name order and both relations are stored as adjacency arrays sorted by id, so the
+ * disciples of a master are already sorted by name. The arrays are never modified: after a commit changing trainings,
+ * the labels or the names of characters, a new snapshot is built on a background thread and replaces the current one
+ * atomically. Readers thus never lock and see the trainings as of a recent commit.
+ */
+public class TrainingGraphSnapshot implements AutoCloseable {
+
+  // characters without name can't be looked up, they are left out
+  private static final String TRAININGS_QUERY = "MATCH (disciple:Character)-[:HAS_TRAINED_WITH]->(master:Master) "
+                                                + "WHERE exists(disciple.name) AND exists(master.name) "
+                                                + "RETURN disciple.name AS disciple, master.name AS master";
+  private static final String HAS_TRAINED_WITH = "HAS_TRAINED_WITH";
+  private static final Label CHARACTER = Label.label("Character");
+  private static final Label MASTER = Label.label("Master");
+
+  private final GraphDatabaseService graphDatabase;
+  private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "training-graph-snapshot-refresher");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final Object refreshScheduling = new Object();
+  // guarded by refreshScheduling
+  private boolean refreshScheduled;
+  private final TransactionEventHandler<Boolean> refreshTrigger = new RefreshTrigger();
+  private volatile Trainings trainings;
+  private volatile Future<?> pendingRefresh = CompletableFuture.completedFuture(null);
+
+  public TrainingGraphSnapshot(GraphDatabaseService graphDatabase) {
+    this.graphDatabase = graphDatabase;
+    // registered first so that the commits made while the first snapshot is built trigger a refresh
+    graphDatabase.registerTransactionEventHandler(refreshTrigger);
+    refresh();
+  }
+
+  /**
+   * @return the names of the disciples of the given master sorted by name, empty if the master is unknown.
+   */
+  public List<String> disciplesOf(String masterName) {
+    return trainings.disciplesOf(masterName);
+  }
+
+  /**
+   * @return the names of the masters of the given character sorted by name, empty if the character is unknown.
+   */
+  public List<String> mastersOf(String characterName) {
+    return trainings.mastersOf(characterName);
+  }
+
+  public int trainingsCount() {
+    return trainings.disciples.length;
+  }
+
+  /**
+   * Rebuilds the snapshot from the database and swaps it in.
+   */
+  public synchronized void refresh() {
+    List<String[]> rows = new ArrayList<>();
+    try (Transaction ignored = graphDatabase.beginTx();
+        Result result = graphDatabase.execute(TRAININGS_QUERY)) {
+      while (result.hasNext()) {
+        Map<String, Object> row = result.next();
+        rows.add(new String[] { (String) row.get("disciple"), (String) row.get("master") });
+      }
+    }
+    trainings = new Trainings(rows);
+  }
+
+  /**
+   * Waits for the refresh triggered by the last commit changing trainings, for callers that must read their own
+   * writes.
+   */
+  public void awaitPendingRefresh(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+    try {
+      pendingRefresh.get(timeout, unit);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to refresh the training graph snapshot", e.getCause());
+    }
+  }
+
+  @Override
+  public void close() {
+    graphDatabase.unregisterTransactionEventHandler(refreshTrigger);
+    refresher.shutdown();
+  }
+
+  private void scheduleRefresh() {
+    // refreshes requested while one is scheduled are coalesced, the scheduled refresh will see their changes
+    // the lock keeps the refresh from clearing the flag before its future is published, otherwise a newer future
+    // could be replaced by an older one and awaitPendingRefresh would not see the latest commit
+    synchronized (refreshScheduling) {
+      if (refreshScheduled) return;
+      refreshScheduled = true;
+      pendingRefresh = refresher.submit(() -> {
+        synchronized (refreshScheduling) {
+          refreshScheduled = false;
+        }
+        refresh();
+      });
+    }
+  }
+
+  // immutable: characters names sorted by id and both relations as adjacency arrays (offsets + sorted related ids)
+  static final class Trainings {
+    private final String[] names;
+    private final int[] disciplesOffsets;
+    private final int[] disciples;
+    private final int[] mastersOffsets;
+    private final int[] masters;
+
+    private Trainings(List<String[]> rows) {
+      TreeSet<String> sortedNames = new TreeSet<>();
+      rows.forEach(row -> sortedNames.addAll(Arrays.asList(row)));
+      names = sortedNames.toArray(new String[0]);
+      int[] discipleIds = new int[rows.size()];
+      int[] masterIds = new int[rows.size()];
+      for (int i = 0; i < rows.size(); i++) {
+        discipleIds[i] = Arrays.binarySearch(names, rows.get(i)[0]);
+        masterIds[i] = Arrays.binarySearch(names, rows.get(i)[1]);
+      }
+      disciplesOffsets = new int[names.length + 1];
+      disciples = adjacency(masterIds, discipleIds, disciplesOffsets);
+      mastersOffsets = new int[names.length + 1];
+      masters = adjacency(discipleIds, masterIds, mastersOffsets);
+    }
+
+    // fills offsets and returns the targets of each source, sources[i] -> targets[i] being the edges
+    private static int[] adjacency(int[] sources, int[] targets, int[] offsets) {
+      for (int source : sources) {
+        offsets[source + 1]++;
+      }
+      for (int i = 1; i < offsets.length; i++) {
+        offsets[i] += offsets[i - 1];
+      }
+      int[] adjacency = new int[targets.length];
+      int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+      for (int i = 0; i < sources.length; i++) {
+        adjacency[next[sources[i]]++] = targets[i];
+      }
+      for (int i = 0; i < offsets.length - 1; i++) {
+        Arrays.sort(adjacency, offsets[i], offsets[i + 1]);
+      }
+      return adjacency;
+    }
+
+    private List<String> disciplesOf(String masterName) {
+      return related(masterName, disciplesOffsets, disciples);
+    }
+
+    private List<String> mastersOf(String characterName) {
+      return related(characterName, mastersOffsets, masters);
+    }
+
+    private List<String> related(String name, int[] offsets, int[] adjacency) {
+      int id = Arrays.binarySearch(names, name);
+      if (id < 0) return emptyList();
+      int from = offsets[id];
+      int size = offsets[id + 1] - from;
+      return unmodifiableList(new AbstractList<String>() {
+        @Override
+        public String get(int index) {
+          if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+          return names[adjacency[from + index]];
+        }
+
+        @Override
+        public int size() {
+          return size;
+        }
+      });
+    }
+  }
+
+  // schedules a refresh after the commits changing what the snapshot was built from
+  private class RefreshTrigger implements TransactionEventHandler<Boolean> {
+
+    @Override
+    public Boolean beforeCommit(TransactionData data) {
+      for (Relationship relationship : data.createdRelationships()) {
+        if (isTraining(relationship)) return true;
+      }
+      for (Relationship relationship : data.deletedRelationships()) {
+        if (isTraining(relationship)) return true;
+      }
+      for (LabelEntry labelEntry : data.assignedLabels()) {
+        if (isCharacterOrMaster(labelEntry.label())) return true;
+      }
+      for (LabelEntry labelEntry : data.removedLabels()) {
+        if (isCharacterOrMaster(labelEntry.label())) return true;
+      }
+      for (PropertyEntry<Node> propertyEntry : data.assignedNodeProperties()) {
+        if (propertyEntry.key().equals("name")) return true;
+      }
+      for (PropertyEntry<Node> propertyEntry : data.removedNodeProperties()) {
+        if (propertyEntry.key().equals("name")) return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void afterCommit(TransactionData data, Boolean trainingsChanged) {
+      if (trainingsChanged) scheduleRefresh();
+    }
+
+    @Override
+    public void afterRollback(TransactionData data, Boolean trainingsChanged) {
+      // nothing changed
+    }
+
+    private boolean isTraining(Relationship relationship) {
+      try {
+        return relationship.getType().name().equals(HAS_TRAINED_WITH);
+      } catch (NotFoundException e) {
+        return true;
+      }
+    }
+
+    private boolean isCharacterOrMaster(Label label) {
+      return label.name().equals(CHARACTER.name()) || label.name().equals(MASTER.name());
+    }
+  }
+
+}
@@ -0,0 +1,158 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.service;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.examples.data.BasketBallPlayer;
+import org.assertj.examples.data.Histogram;
+
+/**
+ * A {@link TeamManager} coalescing concurrent calls into a single call to another {@link TeamManager}.
+ * <p>
+ * The first call opens a batch, the calls made during the following {@code window} join it, then the first call
+ * fetches the players once for all the calls of the batch. A batch reaching {@code maxBatchSize} calls is fetched right
+ * away by its last caller. If the fetch fails, all the calls of the batch fail with the same exception.
+ * <p>
+ * The players are fetched by the calling threads, no thread is started. The size of the batches and the time callers
+ * waited for their players are recorded in {@link Histogram}s.
+ */
+public class BatchingTeamManager implements TeamManager, AutoCloseable {
+
+  private final TeamManager teamManager;
+  private final long windowNanos;
+  private final int maxBatchSize;
+  private final Histogram batchSizes = new Histogram();
+  private final Histogram waitTimesNanos = new Histogram();
+  private final Object lock = new Object();
+  // guarded by lock
+  private Batch openBatch;
+  private boolean closed;
+
+  /**
+   * @param teamManager the team manager to fetch the players from.
+   * @param window how long a batch waits for other calls to join it before fetching the players.
+   * @param maxBatchSize the number of calls fetching the players without waiting for the end of the window.
+   */
+  public BatchingTeamManager(TeamManager teamManager, Duration window, int maxBatchSize) {
+    if (window.isNegative()) throw new IllegalArgumentException("window must not be negative but was " + window);
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be greater than 0 but was " + maxBatchSize);
+    }
+    this.teamManager = teamManager;
+    this.windowNanos = window.toNanos();
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * @return an unmodifiable list of the players, shared by all the calls of the batch.
+   * @throws RejectedExecutionException if this team manager is closed.
+   */
+  @Override
+  public List<BasketBallPlayer> getPlayers() {
+    long start = System.nanoTime();
+    Batch batch;
+    boolean first;
+    boolean full;
+    synchronized (lock) {
+      if (closed) throw new RejectedExecutionException("BatchingTeamManager is closed");
+      first = openBatch == null;
+      if (first) openBatch = new Batch();
+      batch = openBatch;
+      full = ++batch.size == maxBatchSize;
+      if (full) {
+        openBatch = null;
+        // ends the window the first call is waiting for
+        lock.notifyAll();
+      }
+    }
+    if (full) fetch(batch);
+    else if (first) fetchAtEndOfWindow(batch, start + windowNanos);
+    try {
+      return batch.players.join();
+    } catch (CompletionException e) {
+      // rethrow what the decorated team manager has thrown
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      throw e;
+    } finally {
+      waitTimesNanos.record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * @return the histogram of the number of calls per batch.
+   */
+  public Histogram batchSizes() {
+    return batchSizes;
+  }
+
+  /**
+   * @return the histogram of the time in nanoseconds the calls waited for their players.
+   */
+  public Histogram waitTimesNanos() {
+    return waitTimesNanos;
+  }
+
+  /**
+   * Rejects the calls made from now on, the open batch is still fetched at the end of its window.
+   */
+  @Override
+  public void close() {
+    synchronized (lock) {
+      closed = true;
+    }
+  }
+
+  private void fetchAtEndOfWindow(Batch batch, long endOfWindow) {
+    synchronized (lock) {
+      long remainingNanos;
+      while (openBatch == batch && (remainingNanos = endOfWindow - System.nanoTime()) > 0) {
+        try {
+          TimeUnit.NANOSECONDS.timedWait(lock, remainingNanos);
+        } catch (InterruptedException e) {
+          // fetch right away and let the caller see the interruption
+          Thread.currentThread().interrupt();
+          break;
+        }
+      }
+      // already fetched by the caller that filled it
+      if (openBatch != batch) return;
+      openBatch = null;
+    }
+    fetch(batch);
+  }
+
+  private void fetch(Batch batch) {
+    batchSizes.record(batch.size);
+    try {
+      batch.players.complete(unmodifiableList(new ArrayList<>(teamManager.getPlayers())));
+    } catch (Throwable e) {
+      batch.players.completeExceptionally(e);
+    }
+  }
+
+  static final class Batch {
+    private final CompletableFuture<List<BasketBallPlayer>> players = new CompletableFuture<>();
+    // guarded by lock
+    private int size;
+  }
+
+}
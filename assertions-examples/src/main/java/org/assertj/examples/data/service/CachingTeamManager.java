@@ -0,0 +1,124 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.service;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.assertj.examples.data.BasketBallPlayer;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * A {@link TeamManager} caching the players of another (slow) {@link TeamManager}:
+ * <ul>
+ * <li>the players are loaded once for all the concurrent callers that miss them</li>
+ * <li>the first call after {@code refreshAfter} reloads the players on a background thread, callers get the cached
+ * players meanwhile</li>
+ * <li>the players are dropped {@code timeToLive} after being loaded, the next call waits for them to be loaded again</li>
+ * <li>rosters of more than {@code maxCachedPlayers} players are not kept</li>
+ * </ul>
+ * {@link #close()} stops the background thread.
+ */
+public class CachingTeamManager implements TeamManager, AutoCloseable {
+
+  private static final String ROSTER = "roster";
+
+  private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "team-manager-refresher");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final LoadingCache<String, List<BasketBallPlayer>> roster;
+
+  /**
+   * @param teamManager the team manager to get the players from.
+   * @param refreshAfter how long after being loaded the players are reloaded in the background, must be shorter than
+   *          {@code timeToLive} to have any effect.
+   * @param timeToLive how long after being loaded the players are dropped.
+   * @param maxCachedPlayers the maximum number of players kept.
+   */
+  public CachingTeamManager(TeamManager teamManager, Duration refreshAfter, Duration timeToLive,
+                            long maxCachedPlayers) {
+    this(teamManager, refreshAfter, timeToLive, maxCachedPlayers, Ticker.systemTicker());
+  }
+
+  // the ticker allows tests to control time
+  CachingTeamManager(TeamManager teamManager, Duration refreshAfter, Duration timeToLive, long maxCachedPlayers,
+                     Ticker ticker) {
+    CacheLoader<String, List<BasketBallPlayer>> loader = new CacheLoader<String, List<BasketBallPlayer>>() {
+      @Override
+      public List<BasketBallPlayer> load(String key) {
+        return copyOf(teamManager.getPlayers());
+      }
+    };
+    roster = CacheBuilder.newBuilder()
+                         .ticker(ticker)
+                         .refreshAfterWrite(refreshAfter)
+                         .expireAfterWrite(timeToLive)
+                         // a single segment, otherwise each segment only gets its share of maxCachedPlayers
+                         .concurrencyLevel(1)
+                         .maximumWeight(maxCachedPlayers)
+                         .<String, List<BasketBallPlayer>> weigher((key, players) -> players.size())
+                         .recordStats()
+                         .build(CacheLoader.asyncReloading(loader, refresher));
+  }
+
+  /**
+   * @return an unmodifiable list of the cached players.
+   */
+  @Override
+  public List<BasketBallPlayer> getPlayers() {
+    try {
+      return roster.getUnchecked(ROSTER);
+    } catch (UncheckedExecutionException e) {
+      // rethrow what the decorated team manager has thrown
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      throw e;
+    }
+  }
+
+  /**
+   * Drops the cached players, the next call waits for them to be loaded again.
+   */
+  public void invalidate() {
+    roster.invalidateAll();
+  }
+
+  /**
+   * @return the hit, miss and load time counters, reloads in the background are counted as loads but not as misses.
+   */
+  public CacheStats stats() {
+    return roster.stats();
+  }
+
+  private static List<BasketBallPlayer> copyOf(List<BasketBallPlayer> players) {
+    return unmodifiableList(new ArrayList<>(players));
+  }
+
+  @Override
+  public void close() {
+    refresher.shutdown();
+  }
+
+}
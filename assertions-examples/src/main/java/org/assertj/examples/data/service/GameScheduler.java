@@ -0,0 +1,204 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Plays many {@link GameService} games concurrently over a shared {@link TeamManager}, the {@link TeamManager} must
+ * thus be thread safe.
+ * <p>
+ * A game taking longer than the per game timeout to play is counted as timed out and its thread is interrupted, so
+ * that the {@link TeamManager} can give it back for the next games. The timeout starts when the game starts, not when
+ * it is submitted: games waiting for a thread don't time out. A {@link TeamManager} ignoring interruptions thus keeps
+ * the thread of its timed out games until they complete, and {@link #play(int)} waits for them.
+ */
+public class GameScheduler implements AutoCloseable {
+
+  private final GameService gameService;
+  private final ExecutorService executor;
+  private final Duration gameTimeout;
+  private final ScheduledExecutorService timeouts = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "game-scheduler-timeouts");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private GameScheduler(TeamManager teamManager, ExecutorService executor, Duration gameTimeout) {
+    if (gameTimeout.isNegative() || gameTimeout.isZero()) {
+      throw new IllegalArgumentException("gameTimeout must be positive but was " + gameTimeout);
+    }
+    this.gameService = new GameService(teamManager);
+    this.executor = executor;
+    this.gameTimeout = gameTimeout;
+  }
+
+  /**
+   * Plays the games on a fork join pool of the given parallelism.
+   */
+  public static GameScheduler withForkJoinPool(TeamManager teamManager, int parallelism, Duration gameTimeout) {
+    return new GameScheduler(teamManager, new ForkJoinPool(parallelism), gameTimeout);
+  }
+
+  /**
+   * Plays each game on its own virtual thread when the JVM supports them (Java 21+), on a fork join pool of the number
+   * of available processors otherwise.
+   */
+  public static GameScheduler withVirtualThreads(TeamManager teamManager, Duration gameTimeout) {
+    ExecutorService executor = newVirtualThreadPerTaskExecutor().orElseGet(ForkJoinPool::new);
+    return new GameScheduler(teamManager, executor, gameTimeout);
+  }
+
+  /**
+   * Plays the given number of games and waits for all of them to complete or time out.
+   */
+  public SeasonResults play(int games) throws InterruptedException {
+    long start = System.nanoTime();
+    List<CompletableFuture<Boolean>> results = new ArrayList<>(games);
+    for (int i = 0; i < games; i++) {
+      results.add(playGame());
+    }
+    long played = 0, notPlayed = 0, timedOut = 0, failed = 0;
+    for (CompletableFuture<Boolean> result : results) {
+      try {
+        if (result.get()) played++;
+        else notPlayed++;
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof TimeoutException) timedOut++;
+        else failed++;
+      }
+    }
+    return new SeasonResults(played, notPlayed, timedOut, failed, System.nanoTime() - start);
+  }
+
+  private CompletableFuture<Boolean> playGame() {
+    CompletableFuture<Boolean> result = new CompletableFuture<>();
+    executor.execute(() -> {
+      Thread player = Thread.currentThread();
+      // makes the timeout interruption and its clearing exclusive
+      Object interruption = new Object();
+      ScheduledFuture<?> timeout = timeouts.schedule(() -> {
+        synchronized (interruption) {
+          if (result.completeExceptionally(new TimeoutException())) player.interrupt();
+        }
+      }, gameTimeout.toNanos(), TimeUnit.NANOSECONDS);
+      try {
+        result.complete(gameService.play());
+      } catch (Throwable e) {
+        result.completeExceptionally(e);
+      } finally {
+        timeout.cancel(false);
+        synchronized (interruption) {
+          // a timed out game may have been interrupted, the interruption must not reach the next task of the thread
+          Thread.interrupted();
+        }
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Stops accepting games and waits for the submitted ones to complete.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+    timeouts.shutdownNow();
+  }
+
+  // looked up by reflection as we compile for Java 8
+  private static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+    try {
+      return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+    } catch (ReflectiveOperationException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * The outcome of the games played by {@link GameScheduler#play(int)}.
+   */
+  public static class SeasonResults {
+
+    private final long played;
+    private final long notPlayed;
+    private final long timedOut;
+    private final long failed;
+    private final long elapsedNanos;
+
+    SeasonResults(long played, long notPlayed, long timedOut, long failed, long elapsedNanos) {
+      this.played = played;
+      this.notPlayed = notPlayed;
+      this.timedOut = timedOut;
+      this.failed = failed;
+      this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the number of games played, i.e. the team had players.
+     */
+    public long getPlayed() {
+      return played;
+    }
+
+    /**
+     * @return the number of games not played as the team had no players.
+     */
+    public long getNotPlayed() {
+      return notPlayed;
+    }
+
+    public long getTimedOut() {
+      return timedOut;
+    }
+
+    /**
+     * @return the number of games that threw an exception.
+     */
+    public long getFailed() {
+      return failed;
+    }
+
+    public long getGames() {
+      return played + notPlayed + timedOut + failed;
+    }
+
+    public long getElapsedNanos() {
+      return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+      return elapsedNanos == 0 ? 0 : getGames() * 1_000_000_000d / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("SeasonResults[played=%s, notPlayed=%s, timedOut=%s, failed=%s, gamesPerSecond=%.0f]",
+                           played, notPlayed, timedOut, failed, getGamesPerSecond());
+    }
+  }
+
+}
@@ -12,10 +12,6 @@
  */
 package org.assertj.examples.data.service;
 
-import java.util.List;
-
-import org.assertj.examples.data.BasketBallPlayer;
-
 public class GameService {
 
   private final TeamManager teamManager;
@@ -26,9 +22,7 @@ public class GameService {
 
   public boolean play(){
 
-    List<BasketBallPlayer> players = teamManager.getPlayers();
-
-    return !players.isEmpty();
+    return teamManager.hasPlayers();
   }
 
 }
@@ -13,11 +13,41 @@
 package org.assertj.examples.data.service;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.assertj.examples.data.BasketBallPlayer;
 
+import com.google.common.collect.Lists;
+
+/**
+ * Gives access to the players of a team.
+ * <p>
+ * Only {@link #getPlayers()} must be implemented, the other methods default to it. Implementations loading players
+ * from a storage should override them to avoid loading the whole roster when only its size or a part of it is
+ * needed.
+ */
 public interface TeamManager {
 
   List<BasketBallPlayer> getPlayers();
 
+  /**
+   * @return true if the team has at least one player.
+   */
+  default boolean hasPlayers() {
+    return playerCount() > 0;
+  }
+
+  default int playerCount() {
+    return getPlayers().size();
+  }
+
+  /**
+   * @param pageSize the maximum number of players per page.
+   * @return the players by pages of {@code pageSize} players, the last page can be smaller.
+   * @throws IllegalArgumentException if pageSize is not positive.
+   */
+  default Stream<List<BasketBallPlayer>> players(int pageSize) {
+    return Lists.partition(getPlayers(), pageSize).stream();
+  }
+
 }
@@ -73,6 +73,17 @@ public class Assertions {
     return new org.assertj.examples.data.BasketBallPlayerAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.BasketBallPlayerRegistryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.BasketBallPlayerRegistryAssert assertThat(org.assertj.examples.data.BasketBallPlayerRegistry actual) {
+    return new org.assertj.examples.data.BasketBallPlayerRegistryAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.BookAssert}</code>.
    *
@@ -106,6 +117,28 @@ public class Assertions {
     return new org.assertj.examples.data.ClassUsingDifferentClassesWithSameNameAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.DinnerPartySimulatorAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.DinnerPartySimulatorAssert assertThat(org.assertj.examples.data.DinnerPartySimulator actual) {
+    return new org.assertj.examples.data.DinnerPartySimulatorAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.DinnerPartySimulatorReportAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.DinnerPartySimulatorReportAssert assertThat(org.assertj.examples.data.DinnerPartySimulator.Report actual) {
+    return new org.assertj.examples.data.DinnerPartySimulatorReportAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.EmployeeAssert}</code>.
    *
@@ -128,6 +161,17 @@ public class Assertions {
     return new org.assertj.examples.data.EmployeeTitleAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.EmployeeDirectoryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.EmployeeDirectoryAssert assertThat(org.assertj.examples.data.EmployeeDirectory actual) {
+    return new org.assertj.examples.data.EmployeeDirectoryAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.EmployeeOfTheMonthAssert}</code>.
    *
@@ -139,6 +183,28 @@ public class Assertions {
     return new org.assertj.examples.data.EmployeeOfTheMonthAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.HistogramAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.HistogramAssert assertThat(org.assertj.examples.data.Histogram actual) {
+    return new org.assertj.examples.data.HistogramAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.InternedNameAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.InternedNameAssert assertThat(org.assertj.examples.data.InternedName actual) {
+    return new org.assertj.examples.data.InternedNameAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.MagicalAssert}</code>.
    *
@@ -183,6 +249,17 @@ public class Assertions {
     return new org.assertj.examples.data.PersonAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.PointsLogAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.PointsLogAssert assertThat(org.assertj.examples.data.PointsLog actual) {
+    return new org.assertj.examples.data.PointsLogAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.PowerfulAssert}</code>.
    *
@@ -205,6 +282,17 @@ public class Assertions {
     return new org.assertj.examples.data.RaceAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.RaceIndexAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.RaceIndexAssert assertThat(org.assertj.examples.data.RaceIndex actual) {
+    return new org.assertj.examples.data.RaceIndexAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.RingAssert}</code>.
    *
@@ -216,6 +304,17 @@ public class Assertions {
     return new org.assertj.examples.data.RingAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.RingBearerRegistryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.RingBearerRegistryAssert assertThat(org.assertj.examples.data.RingBearerRegistry actual) {
+    return new org.assertj.examples.data.RingBearerRegistryAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.TeamAssert}</code>.
    *
@@ -238,6 +337,28 @@ public class Assertions {
     return new org.assertj.examples.data.TolkienCharacterAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.TolkienCharacterSnapshotAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.TolkienCharacterSnapshotAssert assertThat(org.assertj.examples.data.TolkienCharacterSnapshot actual) {
+    return new org.assertj.examples.data.TolkienCharacterSnapshotAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.TolkienCharacterTableAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.TolkienCharacterTableAssert assertThat(org.assertj.examples.data.TolkienCharacterTable actual) {
+    return new org.assertj.examples.data.TolkienCharacterTableAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.bug18.Dollar$Assert}</code>.
    *
@@ -304,6 +425,17 @@ public class Assertions {
     return new org.assertj.examples.data.movie.MovieAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.movie.MovieCatalogAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.movie.MovieCatalogAssert assertThat(org.assertj.examples.data.movie.MovieCatalog actual) {
+    return new org.assertj.examples.data.movie.MovieCatalogAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.movie.TeamAssert}</code>.
    *
@@ -315,6 +447,50 @@ public class Assertions {
     return new org.assertj.examples.data.movie.TeamAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepositoryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepositoryAssert assertThat(org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepository actual) {
+    return new org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepositoryAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.CachingDragonBallGraphRepositoryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.CachingDragonBallGraphRepositoryAssert assertThat(org.assertj.examples.data.neo4j.CachingDragonBallGraphRepository actual) {
+    return new org.assertj.examples.data.neo4j.CachingDragonBallGraphRepositoryAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.CypherImporterAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.CypherImporterAssert assertThat(org.assertj.examples.data.neo4j.CypherImporter actual) {
+    return new org.assertj.examples.data.neo4j.CypherImporterAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.CypherImporterReportAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.CypherImporterReportAssert assertThat(org.assertj.examples.data.neo4j.CypherImporter.Report actual) {
+    return new org.assertj.examples.data.neo4j.CypherImporterReportAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.DragonBallGraphRepositoryAssert}</code>.
    *
@@ -326,6 +502,127 @@ public class Assertions {
     return new org.assertj.examples.data.neo4j.DragonBallGraphRepositoryAssert(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.DragonBallGraphSchemaAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.DragonBallGraphSchemaAssert assertThat(org.assertj.examples.data.neo4j.DragonBallGraphSchema actual) {
+    return new org.assertj.examples.data.neo4j.DragonBallGraphSchemaAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.InMemoryQueryMetricsAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.InMemoryQueryMetricsAssert assertThat(org.assertj.examples.data.neo4j.InMemoryQueryMetrics actual) {
+    return new org.assertj.examples.data.neo4j.InMemoryQueryMetricsAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.InMemoryQueryMetricsMethodStatisticsAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.InMemoryQueryMetricsMethodStatisticsAssert assertThat(org.assertj.examples.data.neo4j.InMemoryQueryMetrics.MethodStatistics actual) {
+    return new org.assertj.examples.data.neo4j.InMemoryQueryMetricsMethodStatisticsAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.InstrumentedDragonBallGraphRepositoryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.InstrumentedDragonBallGraphRepositoryAssert assertThat(org.assertj.examples.data.neo4j.InstrumentedDragonBallGraphRepository actual) {
+    return new org.assertj.examples.data.neo4j.InstrumentedDragonBallGraphRepositoryAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.QueryMetricsAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.QueryMetricsAssert assertThat(org.assertj.examples.data.neo4j.QueryMetrics actual) {
+    return new org.assertj.examples.data.neo4j.QueryMetricsAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.ShortestPathFinderAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.ShortestPathFinderAssert assertThat(org.assertj.examples.data.neo4j.ShortestPathFinder actual) {
+    return new org.assertj.examples.data.neo4j.ShortestPathFinderAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.neo4j.TrainingGraphSnapshotAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.neo4j.TrainingGraphSnapshotAssert assertThat(org.assertj.examples.data.neo4j.TrainingGraphSnapshot actual) {
+    return new org.assertj.examples.data.neo4j.TrainingGraphSnapshotAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.service.BatchingTeamManagerAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.service.BatchingTeamManagerAssert assertThat(org.assertj.examples.data.service.BatchingTeamManager actual) {
+    return new org.assertj.examples.data.service.BatchingTeamManagerAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.service.CachingTeamManagerAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.service.CachingTeamManagerAssert assertThat(org.assertj.examples.data.service.CachingTeamManager actual) {
+    return new org.assertj.examples.data.service.CachingTeamManagerAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.service.GameSchedulerAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.service.GameSchedulerAssert assertThat(org.assertj.examples.data.service.GameScheduler actual) {
+    return new org.assertj.examples.data.service.GameSchedulerAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link org.assertj.examples.data.service.GameSchedulerSeasonResultsAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static org.assertj.examples.data.service.GameSchedulerSeasonResultsAssert assertThat(org.assertj.examples.data.service.GameScheduler.SeasonResults actual) {
+    return new org.assertj.examples.data.service.GameSchedulerSeasonResultsAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link org.assertj.examples.data.service.GameServiceAssert}</code>.
    *
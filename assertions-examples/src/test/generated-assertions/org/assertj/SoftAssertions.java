@@ -72,6 +72,17 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.BasketBallPlayerAssert.class, org.assertj.examples.data.BasketBallPlayer.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.BasketBallPlayerRegistryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.BasketBallPlayerRegistryAssert assertThat(org.assertj.examples.data.BasketBallPlayerRegistry actual) {
+    return proxy(org.assertj.examples.data.BasketBallPlayerRegistryAssert.class, org.assertj.examples.data.BasketBallPlayerRegistry.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.BookAssert}</code>.
    *
@@ -105,6 +116,28 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.ClassUsingDifferentClassesWithSameNameAssert.class, org.assertj.examples.data.ClassUsingDifferentClassesWithSameName.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.DinnerPartySimulatorAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.DinnerPartySimulatorAssert assertThat(org.assertj.examples.data.DinnerPartySimulator actual) {
+    return proxy(org.assertj.examples.data.DinnerPartySimulatorAssert.class, org.assertj.examples.data.DinnerPartySimulator.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.DinnerPartySimulatorReportAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.DinnerPartySimulatorReportAssert assertThat(org.assertj.examples.data.DinnerPartySimulator.Report actual) {
+    return proxy(org.assertj.examples.data.DinnerPartySimulatorReportAssert.class, org.assertj.examples.data.DinnerPartySimulator.Report.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.EmployeeAssert}</code>.
    *
@@ -127,6 +160,17 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.EmployeeTitleAssert.class, org.assertj.examples.data.Employee.Title.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.EmployeeDirectoryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.EmployeeDirectoryAssert assertThat(org.assertj.examples.data.EmployeeDirectory actual) {
+    return proxy(org.assertj.examples.data.EmployeeDirectoryAssert.class, org.assertj.examples.data.EmployeeDirectory.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.EmployeeOfTheMonthAssert}</code>.
    *
@@ -138,6 +182,28 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.EmployeeOfTheMonthAssert.class, org.assertj.examples.data.EmployeeOfTheMonth.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.HistogramAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.HistogramAssert assertThat(org.assertj.examples.data.Histogram actual) {
+    return proxy(org.assertj.examples.data.HistogramAssert.class, org.assertj.examples.data.Histogram.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.InternedNameAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.InternedNameAssert assertThat(org.assertj.examples.data.InternedName actual) {
+    return proxy(org.assertj.examples.data.InternedNameAssert.class, org.assertj.examples.data.InternedName.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.MagicalAssert}</code>.
    *
@@ -182,6 +248,17 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.PersonAssert.class, org.assertj.examples.data.Person.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.PointsLogAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.PointsLogAssert assertThat(org.assertj.examples.data.PointsLog actual) {
+    return proxy(org.assertj.examples.data.PointsLogAssert.class, org.assertj.examples.data.PointsLog.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.PowerfulAssert}</code>.
    *
@@ -204,6 +281,17 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.RaceAssert.class, org.assertj.examples.data.Race.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.RaceIndexAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.RaceIndexAssert assertThat(org.assertj.examples.data.RaceIndex actual) {
+    return proxy(org.assertj.examples.data.RaceIndexAssert.class, org.assertj.examples.data.RaceIndex.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.RingAssert}</code>.
    *
@@ -215,6 +303,17 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.RingAssert.class, org.assertj.examples.data.Ring.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.RingBearerRegistryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.RingBearerRegistryAssert assertThat(org.assertj.examples.data.RingBearerRegistry actual) {
+    return proxy(org.assertj.examples.data.RingBearerRegistryAssert.class, org.assertj.examples.data.RingBearerRegistry.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.TeamAssert}</code>.
    *
@@ -237,6 +336,28 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.TolkienCharacterAssert.class, org.assertj.examples.data.TolkienCharacter.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.TolkienCharacterSnapshotAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.TolkienCharacterSnapshotAssert assertThat(org.assertj.examples.data.TolkienCharacterSnapshot actual) {
+    return proxy(org.assertj.examples.data.TolkienCharacterSnapshotAssert.class, org.assertj.examples.data.TolkienCharacterSnapshot.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.TolkienCharacterTableAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.TolkienCharacterTableAssert assertThat(org.assertj.examples.data.TolkienCharacterTable actual) {
+    return proxy(org.assertj.examples.data.TolkienCharacterTableAssert.class, org.assertj.examples.data.TolkienCharacterTable.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.bug18.Dollar$Assert}</code>.
    *
@@ -303,6 +424,17 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.movie.MovieAssert.class, org.assertj.examples.data.movie.Movie.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.movie.MovieCatalogAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.movie.MovieCatalogAssert assertThat(org.assertj.examples.data.movie.MovieCatalog actual) {
+    return proxy(org.assertj.examples.data.movie.MovieCatalogAssert.class, org.assertj.examples.data.movie.MovieCatalog.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.movie.TeamAssert}</code>.
    *
@@ -314,6 +446,50 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.movie.TeamAssert.class, org.assertj.examples.data.movie.Team.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepositoryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepositoryAssert assertThat(org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepository actual) {
+    return proxy(org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepositoryAssert.class, org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepository.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.CachingDragonBallGraphRepositoryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.CachingDragonBallGraphRepositoryAssert assertThat(org.assertj.examples.data.neo4j.CachingDragonBallGraphRepository actual) {
+    return proxy(org.assertj.examples.data.neo4j.CachingDragonBallGraphRepositoryAssert.class, org.assertj.examples.data.neo4j.CachingDragonBallGraphRepository.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.CypherImporterAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.CypherImporterAssert assertThat(org.assertj.examples.data.neo4j.CypherImporter actual) {
+    return proxy(org.assertj.examples.data.neo4j.CypherImporterAssert.class, org.assertj.examples.data.neo4j.CypherImporter.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.CypherImporterReportAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.CypherImporterReportAssert assertThat(org.assertj.examples.data.neo4j.CypherImporter.Report actual) {
+    return proxy(org.assertj.examples.data.neo4j.CypherImporterReportAssert.class, org.assertj.examples.data.neo4j.CypherImporter.Report.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.DragonBallGraphRepositoryAssert}</code>.
    *
@@ -325,6 +501,127 @@ public class SoftAssertions extends org.assertj.core.api.SoftAssertions {
     return proxy(org.assertj.examples.data.neo4j.DragonBallGraphRepositoryAssert.class, org.assertj.examples.data.neo4j.DragonBallGraphRepository.class, actual);
   }
 
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.DragonBallGraphSchemaAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.DragonBallGraphSchemaAssert assertThat(org.assertj.examples.data.neo4j.DragonBallGraphSchema actual) {
+    return proxy(org.assertj.examples.data.neo4j.DragonBallGraphSchemaAssert.class, org.assertj.examples.data.neo4j.DragonBallGraphSchema.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.InMemoryQueryMetricsAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.InMemoryQueryMetricsAssert assertThat(org.assertj.examples.data.neo4j.InMemoryQueryMetrics actual) {
+    return proxy(org.assertj.examples.data.neo4j.InMemoryQueryMetricsAssert.class, org.assertj.examples.data.neo4j.InMemoryQueryMetrics.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.InMemoryQueryMetricsMethodStatisticsAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.InMemoryQueryMetricsMethodStatisticsAssert assertThat(org.assertj.examples.data.neo4j.InMemoryQueryMetrics.MethodStatistics actual) {
+    return proxy(org.assertj.examples.data.neo4j.InMemoryQueryMetricsMethodStatisticsAssert.class, org.assertj.examples.data.neo4j.InMemoryQueryMetrics.MethodStatistics.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.InstrumentedDragonBallGraphRepositoryAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.InstrumentedDragonBallGraphRepositoryAssert assertThat(org.assertj.examples.data.neo4j.InstrumentedDragonBallGraphRepository actual) {
+    return proxy(org.assertj.examples.data.neo4j.InstrumentedDragonBallGraphRepositoryAssert.class, org.assertj.examples.data.neo4j.InstrumentedDragonBallGraphRepository.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.QueryMetricsAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.QueryMetricsAssert assertThat(org.assertj.examples.data.neo4j.QueryMetrics actual) {
+    return proxy(org.assertj.examples.data.neo4j.QueryMetricsAssert.class, org.assertj.examples.data.neo4j.QueryMetrics.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.ShortestPathFinderAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.ShortestPathFinderAssert assertThat(org.assertj.examples.data.neo4j.ShortestPathFinder actual) {
+    return proxy(org.assertj.examples.data.neo4j.ShortestPathFinderAssert.class, org.assertj.examples.data.neo4j.ShortestPathFinder.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.neo4j.TrainingGraphSnapshotAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.neo4j.TrainingGraphSnapshotAssert assertThat(org.assertj.examples.data.neo4j.TrainingGraphSnapshot actual) {
+    return proxy(org.assertj.examples.data.neo4j.TrainingGraphSnapshotAssert.class, org.assertj.examples.data.neo4j.TrainingGraphSnapshot.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.service.BatchingTeamManagerAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.service.BatchingTeamManagerAssert assertThat(org.assertj.examples.data.service.BatchingTeamManager actual) {
+    return proxy(org.assertj.examples.data.service.BatchingTeamManagerAssert.class, org.assertj.examples.data.service.BatchingTeamManager.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.service.CachingTeamManagerAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.service.CachingTeamManagerAssert assertThat(org.assertj.examples.data.service.CachingTeamManager actual) {
+    return proxy(org.assertj.examples.data.service.CachingTeamManagerAssert.class, org.assertj.examples.data.service.CachingTeamManager.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.service.GameSchedulerAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.service.GameSchedulerAssert assertThat(org.assertj.examples.data.service.GameScheduler actual) {
+    return proxy(org.assertj.examples.data.service.GameSchedulerAssert.class, org.assertj.examples.data.service.GameScheduler.class, actual);
+  }
+
+  /**
+   * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.service.GameSchedulerSeasonResultsAssert}</code>.
+   *
+   * @param actual the actual value.
+   * @return the created "soft" assertion object.
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public org.assertj.examples.data.service.GameSchedulerSeasonResultsAssert assertThat(org.assertj.examples.data.service.GameScheduler.SeasonResults actual) {
+    return proxy(org.assertj.examples.data.service.GameSchedulerSeasonResultsAssert.class, org.assertj.examples.data.service.GameScheduler.SeasonResults.class, actual);
+  }
+
   /**
    * Creates a new "soft" instance of <code>{@link org.assertj.examples.data.service.GameServiceAssert}</code>.
    *
@@ -219,6 +219,29 @@ public abstract class AbstractBasketBallPlayerAssert<S extends AbstractBasketBal
   }
 
 
+  /**
+   * Verifies that the actual BasketBallPlayer's pointsLog is equal to the given one.
+   * @param pointsLog the given pointsLog to compare the actual BasketBallPlayer's pointsLog to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BasketBallPlayer's pointsLog is not equal to the given one.
+   */
+  public S hasPointsLog(PointsLog pointsLog) {
+    // check that actual BasketBallPlayer we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting pointsLog of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    PointsLog actualPointsLog = actual.getPointsLog();
+    if (!Objects.deepEquals(actualPointsLog, pointsLog)) {
+      failWithMessage(assertjErrorMessage, actual, pointsLog, actualPointsLog);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
   /**
    * Verifies that the actual BasketBallPlayer's pointsPerGame is equal to the given one.
    * @param pointsPerGame the given pointsPerGame to compare the actual BasketBallPlayer's pointsPerGame to.
@@ -0,0 +1,473 @@
+package org.assertj.examples.data;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.internal.Iterables;
+
+/**
+ * Abstract base class for {@link BasketBallPlayerRegistry} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractBasketBallPlayerRegistryAssert<S extends AbstractBasketBallPlayerRegistryAssert<S, A>, A extends BasketBallPlayerRegistry> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractBasketBallPlayerRegistryAssert}</code> to make assertions on actual BasketBallPlayerRegistry.
+   * @param actual the BasketBallPlayerRegistry we want to make assertions on.
+   */
+  protected AbstractBasketBallPlayerRegistryAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's ids is equal to the given one.
+   * @param ids the given ids to compare the actual BasketBallPlayerRegistry's ids to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BasketBallPlayerRegistry's ids is not equal to the given one.
+   */
+  public S hasIds(java.util.Map ids) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting ids of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.Map actualIds = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("ids", java.util.Map.class, actual);
+    if (!Objects.deepEquals(actualIds, ids)) {
+      failWithMessage(assertjErrorMessage, actual, ids, actualIds);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's offsets contains the given int elements.
+   * @param offsets the given elements that should be contained in actual BasketBallPlayerRegistry's offsets.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's offsets does not contain all given int elements.
+   */
+  public S hasOffsets(int... offsets) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (offsets == null) failWithMessage("Expecting offsets parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("offsets", int[].class, actual)).contains(offsets);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's offsets contains <b>only</b> the given int elements and nothing else in whatever order.
+   *
+   * @param offsets the given elements that should be contained in actual BasketBallPlayerRegistry's offsets.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's offsets does not contain all given int elements and nothing else.
+   */
+  public S hasOnlyOffsets(int... offsets) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (offsets == null) failWithMessage("Expecting offsets parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("offsets", int[].class, actual)).containsOnly(offsets);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's offsets does not contain the given int elements.
+   *
+   * @param offsets the given elements that should not be in actual BasketBallPlayerRegistry's offsets.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's offsets contains any given int elements.
+   */
+  public S doesNotHaveOffsets(int... offsets) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (offsets == null) failWithMessage("Expecting offsets parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("offsets", int[].class, actual)).doesNotContain(offsets);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry has no offsets.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's offsets is not empty.
+   */
+  public S hasNoOffsets() {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have offsets but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("offsets", int[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("offsets", int[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's pendingLinkCount is equal to the given one.
+   * @param pendingLinkCount the given pendingLinkCount to compare the actual BasketBallPlayerRegistry's pendingLinkCount to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BasketBallPlayerRegistry's pendingLinkCount is not equal to the given one.
+   */
+  public S hasPendingLinkCount(int pendingLinkCount) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting pendingLinkCount of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualPendingLinkCount = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("pendingLinkCount", int.class, actual);
+    if (actualPendingLinkCount != pendingLinkCount) {
+      failWithMessage(assertjErrorMessage, actual, pendingLinkCount, actualPendingLinkCount);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's pendingLinks contains the given long elements.
+   * @param pendingLinks the given elements that should be contained in actual BasketBallPlayerRegistry's pendingLinks.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's pendingLinks does not contain all given long elements.
+   */
+  public S hasPendingLinks(long... pendingLinks) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given long varargs is not null.
+    if (pendingLinks == null) failWithMessage("Expecting pendingLinks parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("pendingLinks", long[].class, actual)).contains(pendingLinks);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's pendingLinks contains <b>only</b> the given long elements and nothing else in whatever order.
+   *
+   * @param pendingLinks the given elements that should be contained in actual BasketBallPlayerRegistry's pendingLinks.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's pendingLinks does not contain all given long elements and nothing else.
+   */
+  public S hasOnlyPendingLinks(long... pendingLinks) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given long varargs is not null.
+    if (pendingLinks == null) failWithMessage("Expecting pendingLinks parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("pendingLinks", long[].class, actual)).containsOnly(pendingLinks);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's pendingLinks does not contain the given long elements.
+   *
+   * @param pendingLinks the given elements that should not be in actual BasketBallPlayerRegistry's pendingLinks.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's pendingLinks contains any given long elements.
+   */
+  public S doesNotHavePendingLinks(long... pendingLinks) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given long varargs is not null.
+    if (pendingLinks == null) failWithMessage("Expecting pendingLinks parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("pendingLinks", long[].class, actual)).doesNotContain(pendingLinks);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry has no pendingLinks.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's pendingLinks is not empty.
+   */
+  public S hasNoPendingLinks() {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have pendingLinks but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("pendingLinks", long[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("pendingLinks", long[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's players contains the given BasketBallPlayer elements.
+   * @param players the given elements that should be contained in actual BasketBallPlayerRegistry's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's players does not contain all given BasketBallPlayer elements.
+   */
+  public S hasPlayers(BasketBallPlayer... players) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given BasketBallPlayer varargs is not null.
+    if (players == null) failWithMessage("Expecting players parameter not to be null.");
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContains(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("players", java.util.List.class, actual), players);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's players contains the given BasketBallPlayer elements in Collection.
+   * @param players the given elements that should be contained in actual BasketBallPlayerRegistry's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's players does not contain all given BasketBallPlayer elements.
+   */
+  public S hasPlayers(java.util.Collection<? extends BasketBallPlayer> players) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given BasketBallPlayer collection is not null.
+    if (players == null) {
+      failWithMessage("Expecting players parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContains(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("players", java.util.List.class, actual), players.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's players contains <b>only</b> the given BasketBallPlayer elements and nothing else in whatever order.
+   * @param players the given elements that should be contained in actual BasketBallPlayerRegistry's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's players does not contain all given BasketBallPlayer elements.
+   */
+  public S hasOnlyPlayers(BasketBallPlayer... players) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given BasketBallPlayer varargs is not null.
+    if (players == null) failWithMessage("Expecting players parameter not to be null.");
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContainsOnly(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("players", java.util.List.class, actual), players);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's players contains <b>only</b> the given BasketBallPlayer elements in Collection and nothing else in whatever order.
+   * @param players the given elements that should be contained in actual BasketBallPlayerRegistry's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's players does not contain all given BasketBallPlayer elements.
+   */
+  public S hasOnlyPlayers(java.util.Collection<? extends BasketBallPlayer> players) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given BasketBallPlayer collection is not null.
+    if (players == null) {
+      failWithMessage("Expecting players parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContainsOnly(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("players", java.util.List.class, actual), players.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's players does not contain the given BasketBallPlayer elements.
+   *
+   * @param players the given elements that should not be in actual BasketBallPlayerRegistry's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's players contains any given BasketBallPlayer elements.
+   */
+  public S doesNotHavePlayers(BasketBallPlayer... players) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given BasketBallPlayer varargs is not null.
+    if (players == null) failWithMessage("Expecting players parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Iterables.instance().assertDoesNotContain(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("players", java.util.List.class, actual), players);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's players does not contain the given BasketBallPlayer elements in Collection.
+   *
+   * @param players the given elements that should not be in actual BasketBallPlayerRegistry's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's players contains any given BasketBallPlayer elements.
+   */
+  public S doesNotHavePlayers(java.util.Collection<? extends BasketBallPlayer> players) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given BasketBallPlayer collection is not null.
+    if (players == null) {
+      failWithMessage("Expecting players parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Iterables.instance().assertDoesNotContain(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("players", java.util.List.class, actual), players.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry has no players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's players is not empty.
+   */
+  public S hasNoPlayers() {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have players but had :\n  <%s>";
+
+    // check
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("players", java.util.List.class, actual).iterator().hasNext()) {
+      failWithMessage(assertjErrorMessage, actual, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("players", java.util.List.class, actual));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's teamMateIds contains the given int elements.
+   * @param teamMateIds the given elements that should be contained in actual BasketBallPlayerRegistry's teamMateIds.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's teamMateIds does not contain all given int elements.
+   */
+  public S hasTeamMateIds(int... teamMateIds) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (teamMateIds == null) failWithMessage("Expecting teamMateIds parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("teamMateIds", int[].class, actual)).contains(teamMateIds);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's teamMateIds contains <b>only</b> the given int elements and nothing else in whatever order.
+   *
+   * @param teamMateIds the given elements that should be contained in actual BasketBallPlayerRegistry's teamMateIds.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's teamMateIds does not contain all given int elements and nothing else.
+   */
+  public S hasOnlyTeamMateIds(int... teamMateIds) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (teamMateIds == null) failWithMessage("Expecting teamMateIds parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("teamMateIds", int[].class, actual)).containsOnly(teamMateIds);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry's teamMateIds does not contain the given int elements.
+   *
+   * @param teamMateIds the given elements that should not be in actual BasketBallPlayerRegistry's teamMateIds.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's teamMateIds contains any given int elements.
+   */
+  public S doesNotHaveTeamMateIds(int... teamMateIds) {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (teamMateIds == null) failWithMessage("Expecting teamMateIds parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("teamMateIds", int[].class, actual)).doesNotContain(teamMateIds);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BasketBallPlayerRegistry has no teamMateIds.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BasketBallPlayerRegistry's teamMateIds is not empty.
+   */
+  public S hasNoTeamMateIds() {
+    // check that actual BasketBallPlayerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have teamMateIds but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("teamMateIds", int[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("teamMateIds", int[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+}
@@ -0,0 +1,43 @@
+package org.assertj.examples.data;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link DinnerPartySimulator} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractDinnerPartySimulatorAssert<S extends AbstractDinnerPartySimulatorAssert<S, A>, A extends DinnerPartySimulator> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractDinnerPartySimulatorAssert}</code> to make assertions on actual DinnerPartySimulator.
+   * @param actual the DinnerPartySimulator we want to make assertions on.
+   */
+  protected AbstractDinnerPartySimulatorAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual DinnerPartySimulator's dinnerParty is equal to the given one.
+   * @param dinnerParty the given dinnerParty to compare the actual DinnerPartySimulator's dinnerParty to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual DinnerPartySimulator's dinnerParty is not equal to the given one.
+   */
+  public S hasDinnerParty(java.util.function.LongUnaryOperator dinnerParty) {
+    // check that actual DinnerPartySimulator we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting dinnerParty of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.function.LongUnaryOperator actualDinnerParty = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("dinnerParty", java.util.function.LongUnaryOperator.class, actual);
+    if (!Objects.deepEquals(actualDinnerParty, dinnerParty)) {
+      failWithMessage(assertjErrorMessage, actual, dinnerParty, actualDinnerParty);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
@@ -0,0 +1,162 @@
+package org.assertj.examples.data;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Abstract base class for {@link DinnerPartySimulator.Report} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractDinnerPartySimulatorReportAssert<S extends AbstractDinnerPartySimulatorReportAssert<S, A>, A extends DinnerPartySimulator.Report> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractDinnerPartySimulatorReportAssert}</code> to make assertions on actual DinnerPartySimulator.Report.
+   * @param actual the DinnerPartySimulator.Report we want to make assertions on.
+   */
+  protected AbstractDinnerPartySimulatorReportAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual DinnerPartySimulator.Report's failedParties is equal to the given one.
+   * @param failedParties the given failedParties to compare the actual DinnerPartySimulator.Report's failedParties to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual DinnerPartySimulator.Report's failedParties is not equal to the given one.
+   */
+  public S hasFailedParties(long failedParties) {
+    // check that actual DinnerPartySimulator.Report we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting failedParties of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualFailedParties = actual.getFailedParties();
+    if (actualFailedParties != failedParties) {
+      failWithMessage(assertjErrorMessage, actual, failedParties, actualFailedParties);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual DinnerPartySimulator.Report's failuresBySlot is equal to the given one.
+   * @param failuresBySlot the given failuresBySlot to compare the actual DinnerPartySimulator.Report's failuresBySlot to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual DinnerPartySimulator.Report's failuresBySlot is not equal to the given one.
+   */
+  public S hasFailuresBySlot(java.util.Map failuresBySlot) {
+    // check that actual DinnerPartySimulator.Report we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting failuresBySlot of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.Map actualFailuresBySlot = actual.getFailuresBySlot();
+    if (!Objects.deepEquals(actualFailuresBySlot, failuresBySlot)) {
+      failWithMessage(assertjErrorMessage, actual, failuresBySlot, actualFailuresBySlot);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual DinnerPartySimulator.Report's parties is equal to the given one.
+   * @param parties the given parties to compare the actual DinnerPartySimulator.Report's parties to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual DinnerPartySimulator.Report's parties is not equal to the given one.
+   */
+  public S hasParties(long parties) {
+    // check that actual DinnerPartySimulator.Report we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting parties of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualParties = actual.getParties();
+    if (actualParties != parties) {
+      failWithMessage(assertjErrorMessage, actual, parties, actualParties);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual DinnerPartySimulator.Report's partiesPerSecond is equal to the given one.
+   * @param partiesPerSecond the given partiesPerSecond to compare the actual DinnerPartySimulator.Report's partiesPerSecond to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual DinnerPartySimulator.Report's partiesPerSecond is not equal to the given one.
+   */
+  public S hasPartiesPerSecond(double partiesPerSecond) {
+    // check that actual DinnerPartySimulator.Report we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting partiesPerSecond of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check value for partiesPerSecond
+    double actualPartiesPerSecond = actual.getPartiesPerSecond();
+    if (actualPartiesPerSecond != partiesPerSecond) {
+      failWithMessage(assertjErrorMessage, actual, partiesPerSecond, actualPartiesPerSecond);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual DinnerPartySimulator.Report's partiesPerSecond is close to the given value by less than the given offset.
+   * <p>
+   * If difference is equal to the offset value, assertion is considered successful.
+   * @param partiesPerSecond the value to compare the actual DinnerPartySimulator.Report's partiesPerSecond to.
+   * @param assertjOffset the given offset.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual DinnerPartySimulator.Report's partiesPerSecond is not close enough to the given value.
+   */
+  public S hasPartiesPerSecondCloseTo(double partiesPerSecond, double assertjOffset) {
+    // check that actual DinnerPartySimulator.Report we want to make assertions on is not null.
+    isNotNull();
+
+    double actualPartiesPerSecond = actual.getPartiesPerSecond();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = String.format("\nExpecting partiesPerSecond:\n  <%s>\nto be close to:\n  <%s>\nby less than <%s> but difference was <%s>",
+                                               actualPartiesPerSecond, partiesPerSecond, assertjOffset, Math.abs(partiesPerSecond - actualPartiesPerSecond));
+
+    // check
+    Assertions.assertThat(actualPartiesPerSecond).overridingErrorMessage(assertjErrorMessage).isCloseTo(partiesPerSecond, Assertions.within(assertjOffset));
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual DinnerPartySimulator.Report's elapsedNanos is equal to the given one.
+   * @param elapsedNanos the given elapsedNanos to compare the actual DinnerPartySimulator.Report's elapsedNanos to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual DinnerPartySimulator.Report's elapsedNanos is not equal to the given one.
+   */
+  public S hasElapsedNanos(long elapsedNanos) {
+    // check that actual DinnerPartySimulator.Report we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting elapsedNanos of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualElapsedNanos = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("elapsedNanos", long.class, actual);
+    if (actualElapsedNanos != elapsedNanos) {
+      failWithMessage(assertjErrorMessage, actual, elapsedNanos, actualElapsedNanos);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
@@ -0,0 +1,235 @@
+package org.assertj.examples.data;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Abstract base class for {@link EmployeeDirectory} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractEmployeeDirectoryAssert<S extends AbstractEmployeeDirectoryAssert<S, A>, A extends EmployeeDirectory> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractEmployeeDirectoryAssert}</code> to make assertions on actual EmployeeDirectory.
+   * @param actual the EmployeeDirectory we want to make assertions on.
+   */
+  protected AbstractEmployeeDirectoryAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual EmployeeDirectory's employeesByCompany is equal to the given one.
+   * @param employeesByCompany the given employeesByCompany to compare the actual EmployeeDirectory's employeesByCompany to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual EmployeeDirectory's employeesByCompany is not equal to the given one.
+   */
+  public S hasEmployeesByCompany(java.util.Map employeesByCompany) {
+    // check that actual EmployeeDirectory we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting employeesByCompany of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.Map actualEmployeesByCompany = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("employeesByCompany", java.util.Map.class, actual);
+    if (!Objects.deepEquals(actualEmployeesByCompany, employeesByCompany)) {
+      failWithMessage(assertjErrorMessage, actual, employeesByCompany, actualEmployeesByCompany);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual EmployeeDirectory's employeesOfTheMonthByMonth is equal to the given one.
+   * @param employeesOfTheMonthByMonth the given employeesOfTheMonthByMonth to compare the actual EmployeeDirectory's employeesOfTheMonthByMonth to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual EmployeeDirectory's employeesOfTheMonthByMonth is not equal to the given one.
+   */
+  public S hasEmployeesOfTheMonthByMonth(java.util.Map employeesOfTheMonthByMonth) {
+    // check that actual EmployeeDirectory we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting employeesOfTheMonthByMonth of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.Map actualEmployeesOfTheMonthByMonth = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("employeesOfTheMonthByMonth", java.util.Map.class, actual);
+    if (!Objects.deepEquals(actualEmployeesOfTheMonthByMonth, employeesOfTheMonthByMonth)) {
+      failWithMessage(assertjErrorMessage, actual, employeesOfTheMonthByMonth, actualEmployeesOfTheMonthByMonth);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual EmployeeDirectory's personsByName contains the given Person elements.
+   * @param personsByName the given elements that should be contained in actual EmployeeDirectory's personsByName.
+   * @return this assertion object.
+   * @throws AssertionError if the actual EmployeeDirectory's personsByName does not contain all given Person elements.
+   */
+  public S hasPersonsByName(Person... personsByName) {
+    // check that actual EmployeeDirectory we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given Person varargs is not null.
+    if (personsByName == null) failWithMessage("Expecting personsByName parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("personsByName", Person[].class, actual)).contains(personsByName);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual EmployeeDirectory's personsByName contains <b>only</b> the given Person elements and nothing else in whatever order.
+   *
+   * @param personsByName the given elements that should be contained in actual EmployeeDirectory's personsByName.
+   * @return this assertion object.
+   * @throws AssertionError if the actual EmployeeDirectory's personsByName does not contain all given Person elements and nothing else.
+   */
+  public S hasOnlyPersonsByName(Person... personsByName) {
+    // check that actual EmployeeDirectory we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given Person varargs is not null.
+    if (personsByName == null) failWithMessage("Expecting personsByName parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("personsByName", Person[].class, actual)).containsOnly(personsByName);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual EmployeeDirectory's personsByName does not contain the given Person elements.
+   *
+   * @param personsByName the given elements that should not be in actual EmployeeDirectory's personsByName.
+   * @return this assertion object.
+   * @throws AssertionError if the actual EmployeeDirectory's personsByName contains any given Person elements.
+   */
+  public S doesNotHavePersonsByName(Person... personsByName) {
+    // check that actual EmployeeDirectory we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given Person varargs is not null.
+    if (personsByName == null) failWithMessage("Expecting personsByName parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("personsByName", Person[].class, actual)).doesNotContain(personsByName);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual EmployeeDirectory has no personsByName.
+   * @return this assertion object.
+   * @throws AssertionError if the actual EmployeeDirectory's personsByName is not empty.
+   */
+  public S hasNoPersonsByName() {
+    // check that actual EmployeeDirectory we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have personsByName but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("personsByName", Person[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("personsByName", Person[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual EmployeeDirectory's sortedNames contains the given String elements.
+   * @param sortedNames the given elements that should be contained in actual EmployeeDirectory's sortedNames.
+   * @return this assertion object.
+   * @throws AssertionError if the actual EmployeeDirectory's sortedNames does not contain all given String elements.
+   */
+  public S hasSortedNames(String... sortedNames) {
+    // check that actual EmployeeDirectory we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given String varargs is not null.
+    if (sortedNames == null) failWithMessage("Expecting sortedNames parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("sortedNames", String[].class, actual)).contains(sortedNames);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual EmployeeDirectory's sortedNames contains <b>only</b> the given String elements and nothing else in whatever order.
+   *
+   * @param sortedNames the given elements that should be contained in actual EmployeeDirectory's sortedNames.
+   * @return this assertion object.
+   * @throws AssertionError if the actual EmployeeDirectory's sortedNames does not contain all given String elements and nothing else.
+   */
+  public S hasOnlySortedNames(String... sortedNames) {
+    // check that actual EmployeeDirectory we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given String varargs is not null.
+    if (sortedNames == null) failWithMessage("Expecting sortedNames parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("sortedNames", String[].class, actual)).containsOnly(sortedNames);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual EmployeeDirectory's sortedNames does not contain the given String elements.
+   *
+   * @param sortedNames the given elements that should not be in actual EmployeeDirectory's sortedNames.
+   * @return this assertion object.
+   * @throws AssertionError if the actual EmployeeDirectory's sortedNames contains any given String elements.
+   */
+  public S doesNotHaveSortedNames(String... sortedNames) {
+    // check that actual EmployeeDirectory we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given String varargs is not null.
+    if (sortedNames == null) failWithMessage("Expecting sortedNames parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("sortedNames", String[].class, actual)).doesNotContain(sortedNames);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual EmployeeDirectory has no sortedNames.
+   * @return this assertion object.
+   * @throws AssertionError if the actual EmployeeDirectory's sortedNames is not empty.
+   */
+  public S hasNoSortedNames() {
+    // check that actual EmployeeDirectory we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have sortedNames but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("sortedNames", String[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("sortedNames", String[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+}
@@ -0,0 +1,231 @@
+package org.assertj.examples.data;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Abstract base class for {@link Histogram} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractHistogramAssert<S extends AbstractHistogramAssert<S, A>, A extends Histogram> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractHistogramAssert}</code> to make assertions on actual Histogram.
+   * @param actual the Histogram we want to make assertions on.
+   */
+  protected AbstractHistogramAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual Histogram's count is equal to the given one.
+   * @param count the given count to compare the actual Histogram's count to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual Histogram's count is not equal to the given one.
+   */
+  public S hasCount(long count) {
+    // check that actual Histogram we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting count of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualCount = actual.getCount();
+    if (actualCount != count) {
+      failWithMessage(assertjErrorMessage, actual, count, actualCount);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual Histogram's max is equal to the given one.
+   * @param max the given max to compare the actual Histogram's max to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual Histogram's max is not equal to the given one.
+   */
+  public S hasMax(long max) {
+    // check that actual Histogram we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting max of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualMax = actual.getMax();
+    if (actualMax != max) {
+      failWithMessage(assertjErrorMessage, actual, max, actualMax);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual Histogram's mean is equal to the given one.
+   * @param mean the given mean to compare the actual Histogram's mean to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual Histogram's mean is not equal to the given one.
+   */
+  public S hasMean(double mean) {
+    // check that actual Histogram we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting mean of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check value for mean
+    double actualMean = actual.getMean();
+    if (actualMean != mean) {
+      failWithMessage(assertjErrorMessage, actual, mean, actualMean);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual Histogram's mean is close to the given value by less than the given offset.
+   * <p>
+   * If difference is equal to the offset value, assertion is considered successful.
+   * @param mean the value to compare the actual Histogram's mean to.
+   * @param assertjOffset the given offset.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual Histogram's mean is not close enough to the given value.
+   */
+  public S hasMeanCloseTo(double mean, double assertjOffset) {
+    // check that actual Histogram we want to make assertions on is not null.
+    isNotNull();
+
+    double actualMean = actual.getMean();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = String.format("\nExpecting mean:\n  <%s>\nto be close to:\n  <%s>\nby less than <%s> but difference was <%s>",
+                                               actualMean, mean, assertjOffset, Math.abs(mean - actualMean));
+
+    // check
+    Assertions.assertThat(actualMean).overridingErrorMessage(assertjErrorMessage).isCloseTo(mean, Assertions.within(assertjOffset));
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual Histogram's total is equal to the given one.
+   * @param total the given total to compare the actual Histogram's total to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual Histogram's total is not equal to the given one.
+   */
+  public S hasTotal(long total) {
+    // check that actual Histogram we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting total of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualTotal = actual.getTotal();
+    if (actualTotal != total) {
+      failWithMessage(assertjErrorMessage, actual, total, actualTotal);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual Histogram's buckets is equal to the given one.
+   * @param buckets the given buckets to compare the actual Histogram's buckets to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual Histogram's buckets is not equal to the given one.
+   */
+  public S hasBuckets(java.util.concurrent.atomic.AtomicLongArray buckets) {
+    // check that actual Histogram we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting buckets of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.atomic.AtomicLongArray actualBuckets = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("buckets", java.util.concurrent.atomic.AtomicLongArray.class, actual);
+    if (!Objects.deepEquals(actualBuckets, buckets)) {
+      failWithMessage(assertjErrorMessage, actual, buckets, actualBuckets);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual Histogram's count is equal to the given one.
+   * @param count the given count to compare the actual Histogram's count to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual Histogram's count is not equal to the given one.
+   */
+  public S hasCount(java.util.concurrent.atomic.LongAdder count) {
+    // check that actual Histogram we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting count of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.atomic.LongAdder actualCount = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("count", java.util.concurrent.atomic.LongAdder.class, actual);
+    if (!Objects.deepEquals(actualCount, count)) {
+      failWithMessage(assertjErrorMessage, actual, count, actualCount);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual Histogram's max is equal to the given one.
+   * @param max the given max to compare the actual Histogram's max to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual Histogram's max is not equal to the given one.
+   */
+  public S hasMax(java.util.concurrent.atomic.LongAccumulator max) {
+    // check that actual Histogram we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting max of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.atomic.LongAccumulator actualMax = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("max", java.util.concurrent.atomic.LongAccumulator.class, actual);
+    if (!Objects.deepEquals(actualMax, max)) {
+      failWithMessage(assertjErrorMessage, actual, max, actualMax);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual Histogram's total is equal to the given one.
+   * @param total the given total to compare the actual Histogram's total to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual Histogram's total is not equal to the given one.
+   */
+  public S hasTotal(java.util.concurrent.atomic.LongAdder total) {
+    // check that actual Histogram we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting total of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.atomic.LongAdder actualTotal = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("total", java.util.concurrent.atomic.LongAdder.class, actual);
+    if (!Objects.deepEquals(actualTotal, total)) {
+      failWithMessage(assertjErrorMessage, actual, total, actualTotal);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
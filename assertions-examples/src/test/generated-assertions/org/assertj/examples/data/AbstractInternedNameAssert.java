@@ -0,0 +1,135 @@
+package org.assertj.examples.data;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractComparableAssert;
+
+/**
+ * Abstract base class for {@link InternedName} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractInternedNameAssert<S extends AbstractInternedNameAssert<S, A>, A extends InternedName> extends AbstractComparableAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractInternedNameAssert}</code> to make assertions on actual InternedName.
+   * @param actual the InternedName we want to make assertions on.
+   */
+  protected AbstractInternedNameAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual InternedName's first is equal to the given one.
+   * @param first the given first to compare the actual InternedName's first to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InternedName's first is not equal to the given one.
+   */
+  public S hasFirst(String first) {
+    // check that actual InternedName we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting first of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    String actualFirst = actual.getFirst();
+    if (!Objects.deepEquals(actualFirst, first)) {
+      failWithMessage(assertjErrorMessage, actual, first, actualFirst);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InternedName's last is equal to the given one.
+   * @param last the given last to compare the actual InternedName's last to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InternedName's last is not equal to the given one.
+   */
+  public S hasLast(String last) {
+    // check that actual InternedName we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting last of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    String actualLast = actual.getLast();
+    if (!Objects.deepEquals(actualLast, last)) {
+      failWithMessage(assertjErrorMessage, actual, last, actualLast);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InternedName's hash is equal to the given one.
+   * @param hash the given hash to compare the actual InternedName's hash to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InternedName's hash is not equal to the given one.
+   */
+  public S hasHash(int hash) {
+    // check that actual InternedName we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting hash of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualHash = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("hash", int.class, actual);
+    if (actualHash != hash) {
+      failWithMessage(assertjErrorMessage, actual, hash, actualHash);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InternedName's rendered is equal to the given one.
+   * @param rendered the given rendered to compare the actual InternedName's rendered to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InternedName's rendered is not equal to the given one.
+   */
+  public S hasRendered(String rendered) {
+    // check that actual InternedName we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting rendered of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    String actualRendered = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("rendered", String.class, actual);
+    if (!Objects.deepEquals(actualRendered, rendered)) {
+      failWithMessage(assertjErrorMessage, actual, rendered, actualRendered);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InternedName's sortKey is equal to the given one.
+   * @param sortKey the given sortKey to compare the actual InternedName's sortKey to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InternedName's sortKey is not equal to the given one.
+   */
+  public S hasSortKey(long sortKey) {
+    // check that actual InternedName we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting sortKey of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualSortKey = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("sortKey", long.class, actual);
+    if (actualSortKey != sortKey) {
+      failWithMessage(assertjErrorMessage, actual, sortKey, actualSortKey);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
@@ -0,0 +1,280 @@
+package org.assertj.examples.data;
+
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Abstract base class for {@link PointsLog} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractPointsLogAssert<S extends AbstractPointsLogAssert<S, A>, A extends PointsLog> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractPointsLogAssert}</code> to make assertions on actual PointsLog.
+   * @param actual the PointsLog we want to make assertions on.
+   */
+  protected AbstractPointsLogAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual PointsLog's games is equal to the given one.
+   * @param games the given games to compare the actual PointsLog's games to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual PointsLog's games is not equal to the given one.
+   */
+  public S hasGames(int games) {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting games of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualGames = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("games", int.class, actual);
+    if (actualGames != games) {
+      failWithMessage(assertjErrorMessage, actual, games, actualGames);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual PointsLog's offsets contains the given int elements.
+   * @param offsets the given elements that should be contained in actual PointsLog's offsets.
+   * @return this assertion object.
+   * @throws AssertionError if the actual PointsLog's offsets does not contain all given int elements.
+   */
+  public S hasOffsets(int... offsets) {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (offsets == null) failWithMessage("Expecting offsets parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("offsets", int[].class, actual)).contains(offsets);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual PointsLog's offsets contains <b>only</b> the given int elements and nothing else in whatever order.
+   *
+   * @param offsets the given elements that should be contained in actual PointsLog's offsets.
+   * @return this assertion object.
+   * @throws AssertionError if the actual PointsLog's offsets does not contain all given int elements and nothing else.
+   */
+  public S hasOnlyOffsets(int... offsets) {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (offsets == null) failWithMessage("Expecting offsets parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("offsets", int[].class, actual)).containsOnly(offsets);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual PointsLog's offsets does not contain the given int elements.
+   *
+   * @param offsets the given elements that should not be in actual PointsLog's offsets.
+   * @return this assertion object.
+   * @throws AssertionError if the actual PointsLog's offsets contains any given int elements.
+   */
+  public S doesNotHaveOffsets(int... offsets) {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (offsets == null) failWithMessage("Expecting offsets parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("offsets", int[].class, actual)).doesNotContain(offsets);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual PointsLog has no offsets.
+   * @return this assertion object.
+   * @throws AssertionError if the actual PointsLog's offsets is not empty.
+   */
+  public S hasNoOffsets() {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have offsets but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("offsets", int[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("offsets", int[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual PointsLog's totalAssists is equal to the given one.
+   * @param totalAssists the given totalAssists to compare the actual PointsLog's totalAssists to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual PointsLog's totalAssists is not equal to the given one.
+   */
+  public S hasTotalAssists(long totalAssists) {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting totalAssists of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualTotalAssists = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("totalAssists", long.class, actual);
+    if (actualTotalAssists != totalAssists) {
+      failWithMessage(assertjErrorMessage, actual, totalAssists, actualTotalAssists);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual PointsLog's totalPoints is equal to the given one.
+   * @param totalPoints the given totalPoints to compare the actual PointsLog's totalPoints to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual PointsLog's totalPoints is not equal to the given one.
+   */
+  public S hasTotalPoints(long totalPoints) {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting totalPoints of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualTotalPoints = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("totalPoints", long.class, actual);
+    if (actualTotalPoints != totalPoints) {
+      failWithMessage(assertjErrorMessage, actual, totalPoints, actualTotalPoints);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual PointsLog's totalRebounds is equal to the given one.
+   * @param totalRebounds the given totalRebounds to compare the actual PointsLog's totalRebounds to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual PointsLog's totalRebounds is not equal to the given one.
+   */
+  public S hasTotalRebounds(long totalRebounds) {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting totalRebounds of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualTotalRebounds = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("totalRebounds", long.class, actual);
+    if (actualTotalRebounds != totalRebounds) {
+      failWithMessage(assertjErrorMessage, actual, totalRebounds, actualTotalRebounds);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual PointsLog's values contains the given int elements.
+   * @param values the given elements that should be contained in actual PointsLog's values.
+   * @return this assertion object.
+   * @throws AssertionError if the actual PointsLog's values does not contain all given int elements.
+   */
+  public S hasValues(int... values) {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (values == null) failWithMessage("Expecting values parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("values", int[].class, actual)).contains(values);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual PointsLog's values contains <b>only</b> the given int elements and nothing else in whatever order.
+   *
+   * @param values the given elements that should be contained in actual PointsLog's values.
+   * @return this assertion object.
+   * @throws AssertionError if the actual PointsLog's values does not contain all given int elements and nothing else.
+   */
+  public S hasOnlyValues(int... values) {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (values == null) failWithMessage("Expecting values parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("values", int[].class, actual)).containsOnly(values);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual PointsLog's values does not contain the given int elements.
+   *
+   * @param values the given elements that should not be in actual PointsLog's values.
+   * @return this assertion object.
+   * @throws AssertionError if the actual PointsLog's values contains any given int elements.
+   */
+  public S doesNotHaveValues(int... values) {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (values == null) failWithMessage("Expecting values parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("values", int[].class, actual)).doesNotContain(values);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual PointsLog has no values.
+   * @return this assertion object.
+   * @throws AssertionError if the actual PointsLog's values is not empty.
+   */
+  public S hasNoValues() {
+    // check that actual PointsLog we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have values but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("values", int[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("values", int[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+}
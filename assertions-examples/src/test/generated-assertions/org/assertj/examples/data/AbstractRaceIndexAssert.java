@@ -0,0 +1,289 @@
+package org.assertj.examples.data;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.internal.Iterables;
+
+/**
+ * Abstract base class for {@link RaceIndex} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractRaceIndexAssert<S extends AbstractRaceIndexAssert<S, A>, A extends RaceIndex> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractRaceIndexAssert}</code> to make assertions on actual RaceIndex.
+   * @param actual the RaceIndex we want to make assertions on.
+   */
+  protected AbstractRaceIndexAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual RaceIndex's byAlignment is equal to the given one.
+   * @param byAlignment the given byAlignment to compare the actual RaceIndex's byAlignment to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual RaceIndex's byAlignment is not equal to the given one.
+   */
+  public S hasByAlignment(java.util.Map byAlignment) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting byAlignment of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.Map actualByAlignment = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("byAlignment", java.util.Map.class, actual);
+    if (!Objects.deepEquals(actualByAlignment, byAlignment)) {
+      failWithMessage(assertjErrorMessage, actual, byAlignment, actualByAlignment);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual RaceIndex's byRace is equal to the given one.
+   * @param byRace the given byRace to compare the actual RaceIndex's byRace to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual RaceIndex's byRace is not equal to the given one.
+   */
+  public S hasByRace(java.util.Map byRace) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting byRace of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.Map actualByRace = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("byRace", java.util.Map.class, actual);
+    if (!Objects.deepEquals(actualByRace, byRace)) {
+      failWithMessage(assertjErrorMessage, actual, byRace, actualByRace);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual RaceIndex's characters contains the given TolkienCharacter elements.
+   * @param characters the given elements that should be contained in actual RaceIndex's characters.
+   * @return this assertion object.
+   * @throws AssertionError if the actual RaceIndex's characters does not contain all given TolkienCharacter elements.
+   */
+  public S hasCharacters(TolkienCharacter... characters) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given TolkienCharacter varargs is not null.
+    if (characters == null) failWithMessage("Expecting characters parameter not to be null.");
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContains(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("characters", java.util.List.class, actual), characters);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual RaceIndex's characters contains the given TolkienCharacter elements in Collection.
+   * @param characters the given elements that should be contained in actual RaceIndex's characters.
+   * @return this assertion object.
+   * @throws AssertionError if the actual RaceIndex's characters does not contain all given TolkienCharacter elements.
+   */
+  public S hasCharacters(java.util.Collection<? extends TolkienCharacter> characters) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given TolkienCharacter collection is not null.
+    if (characters == null) {
+      failWithMessage("Expecting characters parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContains(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("characters", java.util.List.class, actual), characters.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual RaceIndex's characters contains <b>only</b> the given TolkienCharacter elements and nothing else in whatever order.
+   * @param characters the given elements that should be contained in actual RaceIndex's characters.
+   * @return this assertion object.
+   * @throws AssertionError if the actual RaceIndex's characters does not contain all given TolkienCharacter elements.
+   */
+  public S hasOnlyCharacters(TolkienCharacter... characters) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given TolkienCharacter varargs is not null.
+    if (characters == null) failWithMessage("Expecting characters parameter not to be null.");
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContainsOnly(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("characters", java.util.List.class, actual), characters);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual RaceIndex's characters contains <b>only</b> the given TolkienCharacter elements in Collection and nothing else in whatever order.
+   * @param characters the given elements that should be contained in actual RaceIndex's characters.
+   * @return this assertion object.
+   * @throws AssertionError if the actual RaceIndex's characters does not contain all given TolkienCharacter elements.
+   */
+  public S hasOnlyCharacters(java.util.Collection<? extends TolkienCharacter> characters) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given TolkienCharacter collection is not null.
+    if (characters == null) {
+      failWithMessage("Expecting characters parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContainsOnly(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("characters", java.util.List.class, actual), characters.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual RaceIndex's characters does not contain the given TolkienCharacter elements.
+   *
+   * @param characters the given elements that should not be in actual RaceIndex's characters.
+   * @return this assertion object.
+   * @throws AssertionError if the actual RaceIndex's characters contains any given TolkienCharacter elements.
+   */
+  public S doesNotHaveCharacters(TolkienCharacter... characters) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given TolkienCharacter varargs is not null.
+    if (characters == null) failWithMessage("Expecting characters parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Iterables.instance().assertDoesNotContain(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("characters", java.util.List.class, actual), characters);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual RaceIndex's characters does not contain the given TolkienCharacter elements in Collection.
+   *
+   * @param characters the given elements that should not be in actual RaceIndex's characters.
+   * @return this assertion object.
+   * @throws AssertionError if the actual RaceIndex's characters contains any given TolkienCharacter elements.
+   */
+  public S doesNotHaveCharacters(java.util.Collection<? extends TolkienCharacter> characters) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given TolkienCharacter collection is not null.
+    if (characters == null) {
+      failWithMessage("Expecting characters parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Iterables.instance().assertDoesNotContain(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("characters", java.util.List.class, actual), characters.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual RaceIndex has no characters.
+   * @return this assertion object.
+   * @throws AssertionError if the actual RaceIndex's characters is not empty.
+   */
+  public S hasNoCharacters() {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have characters but had :\n  <%s>";
+
+    // check
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("characters", java.util.List.class, actual).iterator().hasNext()) {
+      failWithMessage(assertjErrorMessage, actual, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("characters", java.util.List.class, actual));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual RaceIndex's immortals is equal to the given one.
+   * @param immortals the given immortals to compare the actual RaceIndex's immortals to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual RaceIndex's immortals is not equal to the given one.
+   */
+  public S hasImmortals(java.util.BitSet immortals) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting immortals of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.BitSet actualImmortals = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("immortals", java.util.BitSet.class, actual);
+    if (!Objects.deepEquals(actualImmortals, immortals)) {
+      failWithMessage(assertjErrorMessage, actual, immortals, actualImmortals);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual RaceIndex's indexedSize is equal to the given one.
+   * @param indexedSize the given indexedSize to compare the actual RaceIndex's indexedSize to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual RaceIndex's indexedSize is not equal to the given one.
+   */
+  public S hasIndexedSize(int indexedSize) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting indexedSize of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualIndexedSize = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("indexedSize", int.class, actual);
+    if (actualIndexedSize != indexedSize) {
+      failWithMessage(assertjErrorMessage, actual, indexedSize, actualIndexedSize);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual RaceIndex's mortals is equal to the given one.
+   * @param mortals the given mortals to compare the actual RaceIndex's mortals to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual RaceIndex's mortals is not equal to the given one.
+   */
+  public S hasMortals(java.util.BitSet mortals) {
+    // check that actual RaceIndex we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting mortals of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.BitSet actualMortals = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("mortals", java.util.BitSet.class, actual);
+    if (!Objects.deepEquals(actualMortals, mortals)) {
+      failWithMessage(assertjErrorMessage, actual, mortals, actualMortals);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
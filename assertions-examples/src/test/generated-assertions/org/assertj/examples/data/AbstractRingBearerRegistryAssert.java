@@ -0,0 +1,43 @@
+package org.assertj.examples.data;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link RingBearerRegistry} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractRingBearerRegistryAssert<S extends AbstractRingBearerRegistryAssert<S, A>, A extends RingBearerRegistry> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractRingBearerRegistryAssert}</code> to make assertions on actual RingBearerRegistry.
+   * @param actual the RingBearerRegistry we want to make assertions on.
+   */
+  protected AbstractRingBearerRegistryAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual RingBearerRegistry's bearers is equal to the given one.
+   * @param bearers the given bearers to compare the actual RingBearerRegistry's bearers to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual RingBearerRegistry's bearers is not equal to the given one.
+   */
+  public S hasBearers(java.util.concurrent.atomic.AtomicReferenceArray bearers) {
+    // check that actual RingBearerRegistry we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting bearers of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.atomic.AtomicReferenceArray actualBearers = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("bearers", java.util.concurrent.atomic.AtomicReferenceArray.class, actual);
+    if (!Objects.deepEquals(actualBearers, bearers)) {
+      failWithMessage(assertjErrorMessage, actual, bearers, actualBearers);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
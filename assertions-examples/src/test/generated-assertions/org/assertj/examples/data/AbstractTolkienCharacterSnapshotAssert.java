@@ -0,0 +1,135 @@
+package org.assertj.examples.data;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link TolkienCharacterSnapshot} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractTolkienCharacterSnapshotAssert<S extends AbstractTolkienCharacterSnapshotAssert<S, A>, A extends TolkienCharacterSnapshot> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractTolkienCharacterSnapshotAssert}</code> to make assertions on actual TolkienCharacterSnapshot.
+   * @param actual the TolkienCharacterSnapshot we want to make assertions on.
+   */
+  protected AbstractTolkienCharacterSnapshotAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterSnapshot's age is equal to the given one.
+   * @param age the given age to compare the actual TolkienCharacterSnapshot's age to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TolkienCharacterSnapshot's age is not equal to the given one.
+   */
+  public S hasAge(int age) {
+    // check that actual TolkienCharacterSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting age of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualAge = actual.getAge();
+    if (actualAge != age) {
+      failWithMessage(assertjErrorMessage, actual, age, actualAge);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterSnapshot's name is equal to the given one.
+   * @param name the given name to compare the actual TolkienCharacterSnapshot's name to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TolkienCharacterSnapshot's name is not equal to the given one.
+   */
+  public S hasName(String name) {
+    // check that actual TolkienCharacterSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting name of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    String actualName = actual.getName();
+    if (!Objects.deepEquals(actualName, name)) {
+      failWithMessage(assertjErrorMessage, actual, name, actualName);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterSnapshot's race is equal to the given one.
+   * @param race the given race to compare the actual TolkienCharacterSnapshot's race to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TolkienCharacterSnapshot's race is not equal to the given one.
+   */
+  public S hasRace(Race race) {
+    // check that actual TolkienCharacterSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting race of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    Race actualRace = actual.getRace();
+    if (!Objects.deepEquals(actualRace, race)) {
+      failWithMessage(assertjErrorMessage, actual, race, actualRace);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterSnapshot's surname is equal to the given one.
+   * @param surname the given surname to compare the actual TolkienCharacterSnapshot's surname to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TolkienCharacterSnapshot's surname is not equal to the given one.
+   */
+  public S hasSurname(String surname) {
+    // check that actual TolkienCharacterSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting surname of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    String actualSurname = actual.getSurname();
+    if (!Objects.deepEquals(actualSurname, surname)) {
+      failWithMessage(assertjErrorMessage, actual, surname, actualSurname);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterSnapshot's hash is equal to the given one.
+   * @param hash the given hash to compare the actual TolkienCharacterSnapshot's hash to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TolkienCharacterSnapshot's hash is not equal to the given one.
+   */
+  public S hasHash(int hash) {
+    // check that actual TolkienCharacterSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting hash of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualHash = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("hash", int.class, actual);
+    if (actualHash != hash) {
+      failWithMessage(assertjErrorMessage, actual, hash, actualHash);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
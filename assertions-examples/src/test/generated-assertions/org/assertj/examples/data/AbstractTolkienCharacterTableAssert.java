@@ -0,0 +1,473 @@
+package org.assertj.examples.data;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.internal.Iterables;
+
+/**
+ * Abstract base class for {@link TolkienCharacterTable} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractTolkienCharacterTableAssert<S extends AbstractTolkienCharacterTableAssert<S, A>, A extends TolkienCharacterTable> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractTolkienCharacterTableAssert}</code> to make assertions on actual TolkienCharacterTable.
+   * @param actual the TolkienCharacterTable we want to make assertions on.
+   */
+  protected AbstractTolkienCharacterTableAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's ages contains the given int elements.
+   * @param ages the given elements that should be contained in actual TolkienCharacterTable's ages.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's ages does not contain all given int elements.
+   */
+  public S hasAges(int... ages) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (ages == null) failWithMessage("Expecting ages parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("ages", int[].class, actual)).contains(ages);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's ages contains <b>only</b> the given int elements and nothing else in whatever order.
+   *
+   * @param ages the given elements that should be contained in actual TolkienCharacterTable's ages.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's ages does not contain all given int elements and nothing else.
+   */
+  public S hasOnlyAges(int... ages) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (ages == null) failWithMessage("Expecting ages parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("ages", int[].class, actual)).containsOnly(ages);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's ages does not contain the given int elements.
+   *
+   * @param ages the given elements that should not be in actual TolkienCharacterTable's ages.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's ages contains any given int elements.
+   */
+  public S doesNotHaveAges(int... ages) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (ages == null) failWithMessage("Expecting ages parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("ages", int[].class, actual)).doesNotContain(ages);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable has no ages.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's ages is not empty.
+   */
+  public S hasNoAges() {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have ages but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("ages", int[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("ages", int[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's nameIdByName is equal to the given one.
+   * @param nameIdByName the given nameIdByName to compare the actual TolkienCharacterTable's nameIdByName to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TolkienCharacterTable's nameIdByName is not equal to the given one.
+   */
+  public S hasNameIdByName(java.util.Map nameIdByName) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting nameIdByName of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.Map actualNameIdByName = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("nameIdByName", java.util.Map.class, actual);
+    if (!Objects.deepEquals(actualNameIdByName, nameIdByName)) {
+      failWithMessage(assertjErrorMessage, actual, nameIdByName, actualNameIdByName);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's nameIds contains the given int elements.
+   * @param nameIds the given elements that should be contained in actual TolkienCharacterTable's nameIds.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's nameIds does not contain all given int elements.
+   */
+  public S hasNameIds(int... nameIds) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (nameIds == null) failWithMessage("Expecting nameIds parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("nameIds", int[].class, actual)).contains(nameIds);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's nameIds contains <b>only</b> the given int elements and nothing else in whatever order.
+   *
+   * @param nameIds the given elements that should be contained in actual TolkienCharacterTable's nameIds.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's nameIds does not contain all given int elements and nothing else.
+   */
+  public S hasOnlyNameIds(int... nameIds) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (nameIds == null) failWithMessage("Expecting nameIds parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("nameIds", int[].class, actual)).containsOnly(nameIds);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's nameIds does not contain the given int elements.
+   *
+   * @param nameIds the given elements that should not be in actual TolkienCharacterTable's nameIds.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's nameIds contains any given int elements.
+   */
+  public S doesNotHaveNameIds(int... nameIds) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (nameIds == null) failWithMessage("Expecting nameIds parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("nameIds", int[].class, actual)).doesNotContain(nameIds);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable has no nameIds.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's nameIds is not empty.
+   */
+  public S hasNoNameIds() {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have nameIds but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("nameIds", int[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("nameIds", int[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's names contains the given String elements.
+   * @param names the given elements that should be contained in actual TolkienCharacterTable's names.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's names does not contain all given String elements.
+   */
+  public S hasNames(String... names) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given String varargs is not null.
+    if (names == null) failWithMessage("Expecting names parameter not to be null.");
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContains(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("names", java.util.List.class, actual), names);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's names contains the given String elements in Collection.
+   * @param names the given elements that should be contained in actual TolkienCharacterTable's names.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's names does not contain all given String elements.
+   */
+  public S hasNames(java.util.Collection<? extends String> names) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given String collection is not null.
+    if (names == null) {
+      failWithMessage("Expecting names parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContains(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("names", java.util.List.class, actual), names.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's names contains <b>only</b> the given String elements and nothing else in whatever order.
+   * @param names the given elements that should be contained in actual TolkienCharacterTable's names.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's names does not contain all given String elements.
+   */
+  public S hasOnlyNames(String... names) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given String varargs is not null.
+    if (names == null) failWithMessage("Expecting names parameter not to be null.");
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContainsOnly(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("names", java.util.List.class, actual), names);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's names contains <b>only</b> the given String elements in Collection and nothing else in whatever order.
+   * @param names the given elements that should be contained in actual TolkienCharacterTable's names.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's names does not contain all given String elements.
+   */
+  public S hasOnlyNames(java.util.Collection<? extends String> names) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given String collection is not null.
+    if (names == null) {
+      failWithMessage("Expecting names parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContainsOnly(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("names", java.util.List.class, actual), names.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's names does not contain the given String elements.
+   *
+   * @param names the given elements that should not be in actual TolkienCharacterTable's names.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's names contains any given String elements.
+   */
+  public S doesNotHaveNames(String... names) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given String varargs is not null.
+    if (names == null) failWithMessage("Expecting names parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Iterables.instance().assertDoesNotContain(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("names", java.util.List.class, actual), names);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's names does not contain the given String elements in Collection.
+   *
+   * @param names the given elements that should not be in actual TolkienCharacterTable's names.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's names contains any given String elements.
+   */
+  public S doesNotHaveNames(java.util.Collection<? extends String> names) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given String collection is not null.
+    if (names == null) {
+      failWithMessage("Expecting names parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Iterables.instance().assertDoesNotContain(info, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("names", java.util.List.class, actual), names.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable has no names.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's names is not empty.
+   */
+  public S hasNoNames() {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have names but had :\n  <%s>";
+
+    // check
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("names", java.util.List.class, actual).iterator().hasNext()) {
+      failWithMessage(assertjErrorMessage, actual, org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("names", java.util.List.class, actual));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's races contains the given byte elements.
+   * @param races the given elements that should be contained in actual TolkienCharacterTable's races.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's races does not contain all given byte elements.
+   */
+  public S hasRaces(byte... races) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given byte varargs is not null.
+    if (races == null) failWithMessage("Expecting races parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("races", byte[].class, actual)).contains(races);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's races contains <b>only</b> the given byte elements and nothing else in whatever order.
+   *
+   * @param races the given elements that should be contained in actual TolkienCharacterTable's races.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's races does not contain all given byte elements and nothing else.
+   */
+  public S hasOnlyRaces(byte... races) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given byte varargs is not null.
+    if (races == null) failWithMessage("Expecting races parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("races", byte[].class, actual)).containsOnly(races);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's races does not contain the given byte elements.
+   *
+   * @param races the given elements that should not be in actual TolkienCharacterTable's races.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's races contains any given byte elements.
+   */
+  public S doesNotHaveRaces(byte... races) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given byte varargs is not null.
+    if (races == null) failWithMessage("Expecting races parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("races", byte[].class, actual)).doesNotContain(races);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TolkienCharacterTable has no races.
+   * @return this assertion object.
+   * @throws AssertionError if the actual TolkienCharacterTable's races is not empty.
+   */
+  public S hasNoRaces() {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have races but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("races", byte[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("races", byte[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual TolkienCharacterTable's size is equal to the given one.
+   * @param size the given size to compare the actual TolkienCharacterTable's size to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TolkienCharacterTable's size is not equal to the given one.
+   */
+  public S hasSize(int size) {
+    // check that actual TolkienCharacterTable we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting size of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualSize = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("size", int.class, actual);
+    if (actualSize != size) {
+      failWithMessage(assertjErrorMessage, actual, size, actualSize);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
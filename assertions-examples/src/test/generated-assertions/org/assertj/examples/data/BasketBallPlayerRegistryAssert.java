@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link BasketBallPlayerRegistry} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractBasketBallPlayerRegistryAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class BasketBallPlayerRegistryAssert extends AbstractBasketBallPlayerRegistryAssert<BasketBallPlayerRegistryAssert, BasketBallPlayerRegistry> {
+
+  /**
+   * Creates a new <code>{@link BasketBallPlayerRegistryAssert}</code> to make assertions on actual BasketBallPlayerRegistry.
+   * @param actual the BasketBallPlayerRegistry we want to make assertions on.
+   */
+  public BasketBallPlayerRegistryAssert(BasketBallPlayerRegistry actual) {
+    super(actual, BasketBallPlayerRegistryAssert.class);
+  }
+
+  /**
+   * An entry point for BasketBallPlayerRegistryAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myBasketBallPlayerRegistry)</code> and get specific assertion with code completion.
+   * @param actual the BasketBallPlayerRegistry we want to make assertions on.
+   * @return a new <code>{@link BasketBallPlayerRegistryAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static BasketBallPlayerRegistryAssert assertThat(BasketBallPlayerRegistry actual) {
+    return new BasketBallPlayerRegistryAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link DinnerPartySimulator} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractDinnerPartySimulatorAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class DinnerPartySimulatorAssert extends AbstractDinnerPartySimulatorAssert<DinnerPartySimulatorAssert, DinnerPartySimulator> {
+
+  /**
+   * Creates a new <code>{@link DinnerPartySimulatorAssert}</code> to make assertions on actual DinnerPartySimulator.
+   * @param actual the DinnerPartySimulator we want to make assertions on.
+   */
+  public DinnerPartySimulatorAssert(DinnerPartySimulator actual) {
+    super(actual, DinnerPartySimulatorAssert.class);
+  }
+
+  /**
+   * An entry point for DinnerPartySimulatorAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myDinnerPartySimulator)</code> and get specific assertion with code completion.
+   * @param actual the DinnerPartySimulator we want to make assertions on.
+   * @return a new <code>{@link DinnerPartySimulatorAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static DinnerPartySimulatorAssert assertThat(DinnerPartySimulator actual) {
+    return new DinnerPartySimulatorAssert(actual);
+  }
+}
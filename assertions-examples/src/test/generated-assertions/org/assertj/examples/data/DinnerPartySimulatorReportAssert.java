@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link DinnerPartySimulator.Report} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractDinnerPartySimulatorReportAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class DinnerPartySimulatorReportAssert extends AbstractDinnerPartySimulatorReportAssert<DinnerPartySimulatorReportAssert, DinnerPartySimulator.Report> {
+
+  /**
+   * Creates a new <code>{@link DinnerPartySimulatorReportAssert}</code> to make assertions on actual DinnerPartySimulator.Report.
+   * @param actual the DinnerPartySimulator.Report we want to make assertions on.
+   */
+  public DinnerPartySimulatorReportAssert(DinnerPartySimulator.Report actual) {
+    super(actual, DinnerPartySimulatorReportAssert.class);
+  }
+
+  /**
+   * An entry point for DinnerPartySimulatorReportAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myDinnerPartySimulator.Report)</code> and get specific assertion with code completion.
+   * @param actual the DinnerPartySimulator.Report we want to make assertions on.
+   * @return a new <code>{@link DinnerPartySimulatorReportAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static DinnerPartySimulatorReportAssert assertThat(DinnerPartySimulator.Report actual) {
+    return new DinnerPartySimulatorReportAssert(actual);
+  }
+}
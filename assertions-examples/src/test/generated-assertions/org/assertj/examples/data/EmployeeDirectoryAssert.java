@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link EmployeeDirectory} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractEmployeeDirectoryAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class EmployeeDirectoryAssert extends AbstractEmployeeDirectoryAssert<EmployeeDirectoryAssert, EmployeeDirectory> {
+
+  /**
+   * Creates a new <code>{@link EmployeeDirectoryAssert}</code> to make assertions on actual EmployeeDirectory.
+   * @param actual the EmployeeDirectory we want to make assertions on.
+   */
+  public EmployeeDirectoryAssert(EmployeeDirectory actual) {
+    super(actual, EmployeeDirectoryAssert.class);
+  }
+
+  /**
+   * An entry point for EmployeeDirectoryAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myEmployeeDirectory)</code> and get specific assertion with code completion.
+   * @param actual the EmployeeDirectory we want to make assertions on.
+   * @return a new <code>{@link EmployeeDirectoryAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static EmployeeDirectoryAssert assertThat(EmployeeDirectory actual) {
+    return new EmployeeDirectoryAssert(actual);
+  }
+}
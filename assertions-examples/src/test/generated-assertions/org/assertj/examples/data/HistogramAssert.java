@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link Histogram} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractHistogramAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class HistogramAssert extends AbstractHistogramAssert<HistogramAssert, Histogram> {
+
+  /**
+   * Creates a new <code>{@link HistogramAssert}</code> to make assertions on actual Histogram.
+   * @param actual the Histogram we want to make assertions on.
+   */
+  public HistogramAssert(Histogram actual) {
+    super(actual, HistogramAssert.class);
+  }
+
+  /**
+   * An entry point for HistogramAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myHistogram)</code> and get specific assertion with code completion.
+   * @param actual the Histogram we want to make assertions on.
+   * @return a new <code>{@link HistogramAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static HistogramAssert assertThat(Histogram actual) {
+    return new HistogramAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link InternedName} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractInternedNameAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class InternedNameAssert extends AbstractInternedNameAssert<InternedNameAssert, InternedName> {
+
+  /**
+   * Creates a new <code>{@link InternedNameAssert}</code> to make assertions on actual InternedName.
+   * @param actual the InternedName we want to make assertions on.
+   */
+  public InternedNameAssert(InternedName actual) {
+    super(actual, InternedNameAssert.class);
+  }
+
+  /**
+   * An entry point for InternedNameAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myInternedName)</code> and get specific assertion with code completion.
+   * @param actual the InternedName we want to make assertions on.
+   * @return a new <code>{@link InternedNameAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static InternedNameAssert assertThat(InternedName actual) {
+    return new InternedNameAssert(actual);
+  }
+}
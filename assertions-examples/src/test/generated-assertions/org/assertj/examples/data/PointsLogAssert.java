@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link PointsLog} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractPointsLogAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class PointsLogAssert extends AbstractPointsLogAssert<PointsLogAssert, PointsLog> {
+
+  /**
+   * Creates a new <code>{@link PointsLogAssert}</code> to make assertions on actual PointsLog.
+   * @param actual the PointsLog we want to make assertions on.
+   */
+  public PointsLogAssert(PointsLog actual) {
+    super(actual, PointsLogAssert.class);
+  }
+
+  /**
+   * An entry point for PointsLogAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myPointsLog)</code> and get specific assertion with code completion.
+   * @param actual the PointsLog we want to make assertions on.
+   * @return a new <code>{@link PointsLogAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static PointsLogAssert assertThat(PointsLog actual) {
+    return new PointsLogAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link RaceIndex} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractRaceIndexAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class RaceIndexAssert extends AbstractRaceIndexAssert<RaceIndexAssert, RaceIndex> {
+
+  /**
+   * Creates a new <code>{@link RaceIndexAssert}</code> to make assertions on actual RaceIndex.
+   * @param actual the RaceIndex we want to make assertions on.
+   */
+  public RaceIndexAssert(RaceIndex actual) {
+    super(actual, RaceIndexAssert.class);
+  }
+
+  /**
+   * An entry point for RaceIndexAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myRaceIndex)</code> and get specific assertion with code completion.
+   * @param actual the RaceIndex we want to make assertions on.
+   * @return a new <code>{@link RaceIndexAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static RaceIndexAssert assertThat(RaceIndex actual) {
+    return new RaceIndexAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link RingBearerRegistry} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractRingBearerRegistryAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class RingBearerRegistryAssert extends AbstractRingBearerRegistryAssert<RingBearerRegistryAssert, RingBearerRegistry> {
+
+  /**
+   * Creates a new <code>{@link RingBearerRegistryAssert}</code> to make assertions on actual RingBearerRegistry.
+   * @param actual the RingBearerRegistry we want to make assertions on.
+   */
+  public RingBearerRegistryAssert(RingBearerRegistry actual) {
+    super(actual, RingBearerRegistryAssert.class);
+  }
+
+  /**
+   * An entry point for RingBearerRegistryAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myRingBearerRegistry)</code> and get specific assertion with code completion.
+   * @param actual the RingBearerRegistry we want to make assertions on.
+   * @return a new <code>{@link RingBearerRegistryAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static RingBearerRegistryAssert assertThat(RingBearerRegistry actual) {
+    return new RingBearerRegistryAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link TolkienCharacterSnapshot} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractTolkienCharacterSnapshotAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class TolkienCharacterSnapshotAssert extends AbstractTolkienCharacterSnapshotAssert<TolkienCharacterSnapshotAssert, TolkienCharacterSnapshot> {
+
+  /**
+   * Creates a new <code>{@link TolkienCharacterSnapshotAssert}</code> to make assertions on actual TolkienCharacterSnapshot.
+   * @param actual the TolkienCharacterSnapshot we want to make assertions on.
+   */
+  public TolkienCharacterSnapshotAssert(TolkienCharacterSnapshot actual) {
+    super(actual, TolkienCharacterSnapshotAssert.class);
+  }
+
+  /**
+   * An entry point for TolkienCharacterSnapshotAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myTolkienCharacterSnapshot)</code> and get specific assertion with code completion.
+   * @param actual the TolkienCharacterSnapshot we want to make assertions on.
+   * @return a new <code>{@link TolkienCharacterSnapshotAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static TolkienCharacterSnapshotAssert assertThat(TolkienCharacterSnapshot actual) {
+    return new TolkienCharacterSnapshotAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data;
+
+/**
+ * {@link TolkienCharacterTable} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractTolkienCharacterTableAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class TolkienCharacterTableAssert extends AbstractTolkienCharacterTableAssert<TolkienCharacterTableAssert, TolkienCharacterTable> {
+
+  /**
+   * Creates a new <code>{@link TolkienCharacterTableAssert}</code> to make assertions on actual TolkienCharacterTable.
+   * @param actual the TolkienCharacterTable we want to make assertions on.
+   */
+  public TolkienCharacterTableAssert(TolkienCharacterTable actual) {
+    super(actual, TolkienCharacterTableAssert.class);
+  }
+
+  /**
+   * An entry point for TolkienCharacterTableAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myTolkienCharacterTable)</code> and get specific assertion with code completion.
+   * @param actual the TolkienCharacterTable we want to make assertions on.
+   * @return a new <code>{@link TolkienCharacterTableAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static TolkienCharacterTableAssert assertThat(TolkienCharacterTable actual) {
+    return new TolkienCharacterTableAssert(actual);
+  }
+}
@@ -0,0 +1,403 @@
+package org.assertj.examples.data.movie;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Abstract base class for {@link MovieCatalog} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractMovieCatalogAssert<S extends AbstractMovieCatalogAssert<S, A>, A extends MovieCatalog> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractMovieCatalogAssert}</code> to make assertions on actual MovieCatalog.
+   * @param actual the MovieCatalog we want to make assertions on.
+   */
+  protected AbstractMovieCatalogAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog's durations contains the given int elements.
+   * @param durations the given elements that should be contained in actual MovieCatalog's durations.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's durations does not contain all given int elements.
+   */
+  public S hasDurations(int... durations) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (durations == null) failWithMessage("Expecting durations parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("durations", int[].class, actual)).contains(durations);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog's durations contains <b>only</b> the given int elements and nothing else in whatever order.
+   *
+   * @param durations the given elements that should be contained in actual MovieCatalog's durations.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's durations does not contain all given int elements and nothing else.
+   */
+  public S hasOnlyDurations(int... durations) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (durations == null) failWithMessage("Expecting durations parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("durations", int[].class, actual)).containsOnly(durations);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog's durations does not contain the given int elements.
+   *
+   * @param durations the given elements that should not be in actual MovieCatalog's durations.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's durations contains any given int elements.
+   */
+  public S doesNotHaveDurations(int... durations) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given int varargs is not null.
+    if (durations == null) failWithMessage("Expecting durations parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("durations", int[].class, actual)).doesNotContain(durations);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog has no durations.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's durations is not empty.
+   */
+  public S hasNoDurations() {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have durations but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("durations", int[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("durations", int[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual MovieCatalog's moviesByDuration contains the given Movie elements.
+   * @param moviesByDuration the given elements that should be contained in actual MovieCatalog's moviesByDuration.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's moviesByDuration does not contain all given Movie elements.
+   */
+  public S hasMoviesByDuration(Movie... moviesByDuration) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given Movie varargs is not null.
+    if (moviesByDuration == null) failWithMessage("Expecting moviesByDuration parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("moviesByDuration", Movie[].class, actual)).contains(moviesByDuration);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog's moviesByDuration contains <b>only</b> the given Movie elements and nothing else in whatever order.
+   *
+   * @param moviesByDuration the given elements that should be contained in actual MovieCatalog's moviesByDuration.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's moviesByDuration does not contain all given Movie elements and nothing else.
+   */
+  public S hasOnlyMoviesByDuration(Movie... moviesByDuration) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given Movie varargs is not null.
+    if (moviesByDuration == null) failWithMessage("Expecting moviesByDuration parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("moviesByDuration", Movie[].class, actual)).containsOnly(moviesByDuration);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog's moviesByDuration does not contain the given Movie elements.
+   *
+   * @param moviesByDuration the given elements that should not be in actual MovieCatalog's moviesByDuration.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's moviesByDuration contains any given Movie elements.
+   */
+  public S doesNotHaveMoviesByDuration(Movie... moviesByDuration) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given Movie varargs is not null.
+    if (moviesByDuration == null) failWithMessage("Expecting moviesByDuration parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("moviesByDuration", Movie[].class, actual)).doesNotContain(moviesByDuration);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog has no moviesByDuration.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's moviesByDuration is not empty.
+   */
+  public S hasNoMoviesByDuration() {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have moviesByDuration but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("moviesByDuration", Movie[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("moviesByDuration", Movie[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual MovieCatalog's moviesByReleaseDate contains the given Movie elements.
+   * @param moviesByReleaseDate the given elements that should be contained in actual MovieCatalog's moviesByReleaseDate.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's moviesByReleaseDate does not contain all given Movie elements.
+   */
+  public S hasMoviesByReleaseDate(Movie... moviesByReleaseDate) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given Movie varargs is not null.
+    if (moviesByReleaseDate == null) failWithMessage("Expecting moviesByReleaseDate parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("moviesByReleaseDate", Movie[].class, actual)).contains(moviesByReleaseDate);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog's moviesByReleaseDate contains <b>only</b> the given Movie elements and nothing else in whatever order.
+   *
+   * @param moviesByReleaseDate the given elements that should be contained in actual MovieCatalog's moviesByReleaseDate.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's moviesByReleaseDate does not contain all given Movie elements and nothing else.
+   */
+  public S hasOnlyMoviesByReleaseDate(Movie... moviesByReleaseDate) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given Movie varargs is not null.
+    if (moviesByReleaseDate == null) failWithMessage("Expecting moviesByReleaseDate parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("moviesByReleaseDate", Movie[].class, actual)).containsOnly(moviesByReleaseDate);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog's moviesByReleaseDate does not contain the given Movie elements.
+   *
+   * @param moviesByReleaseDate the given elements that should not be in actual MovieCatalog's moviesByReleaseDate.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's moviesByReleaseDate contains any given Movie elements.
+   */
+  public S doesNotHaveMoviesByReleaseDate(Movie... moviesByReleaseDate) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given Movie varargs is not null.
+    if (moviesByReleaseDate == null) failWithMessage("Expecting moviesByReleaseDate parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("moviesByReleaseDate", Movie[].class, actual)).doesNotContain(moviesByReleaseDate);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog has no moviesByReleaseDate.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's moviesByReleaseDate is not empty.
+   */
+  public S hasNoMoviesByReleaseDate() {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have moviesByReleaseDate but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("moviesByReleaseDate", Movie[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("moviesByReleaseDate", Movie[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual MovieCatalog's releaseEpochDays contains the given long elements.
+   * @param releaseEpochDays the given elements that should be contained in actual MovieCatalog's releaseEpochDays.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's releaseEpochDays does not contain all given long elements.
+   */
+  public S hasReleaseEpochDays(long... releaseEpochDays) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given long varargs is not null.
+    if (releaseEpochDays == null) failWithMessage("Expecting releaseEpochDays parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("releaseEpochDays", long[].class, actual)).contains(releaseEpochDays);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog's releaseEpochDays contains <b>only</b> the given long elements and nothing else in whatever order.
+   *
+   * @param releaseEpochDays the given elements that should be contained in actual MovieCatalog's releaseEpochDays.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's releaseEpochDays does not contain all given long elements and nothing else.
+   */
+  public S hasOnlyReleaseEpochDays(long... releaseEpochDays) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given long varargs is not null.
+    if (releaseEpochDays == null) failWithMessage("Expecting releaseEpochDays parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("releaseEpochDays", long[].class, actual)).containsOnly(releaseEpochDays);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog's releaseEpochDays does not contain the given long elements.
+   *
+   * @param releaseEpochDays the given elements that should not be in actual MovieCatalog's releaseEpochDays.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's releaseEpochDays contains any given long elements.
+   */
+  public S doesNotHaveReleaseEpochDays(long... releaseEpochDays) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given long varargs is not null.
+    if (releaseEpochDays == null) failWithMessage("Expecting releaseEpochDays parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("releaseEpochDays", long[].class, actual)).doesNotContain(releaseEpochDays);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog has no releaseEpochDays.
+   * @return this assertion object.
+   * @throws AssertionError if the actual MovieCatalog's releaseEpochDays is not empty.
+   */
+  public S hasNoReleaseEpochDays() {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have releaseEpochDays but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("releaseEpochDays", long[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("releaseEpochDays", long[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual MovieCatalog's size is equal to the given one.
+   * @param size the given size to compare the actual MovieCatalog's size to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual MovieCatalog's size is not equal to the given one.
+   */
+  public S hasSize(int size) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting size of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualSize = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("size", int.class, actual);
+    if (actualSize != size) {
+      failWithMessage(assertjErrorMessage, actual, size, actualSize);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual MovieCatalog's zone is equal to the given one.
+   * @param zone the given zone to compare the actual MovieCatalog's zone to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual MovieCatalog's zone is not equal to the given one.
+   */
+  public S hasZone(java.time.ZoneId zone) {
+    // check that actual MovieCatalog we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting zone of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.time.ZoneId actualZone = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("zone", java.time.ZoneId.class, actual);
+    if (!Objects.deepEquals(actualZone, zone)) {
+      failWithMessage(assertjErrorMessage, actual, zone, actualZone);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data.movie;
+
+/**
+ * {@link MovieCatalog} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractMovieCatalogAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class MovieCatalogAssert extends AbstractMovieCatalogAssert<MovieCatalogAssert, MovieCatalog> {
+
+  /**
+   * Creates a new <code>{@link MovieCatalogAssert}</code> to make assertions on actual MovieCatalog.
+   * @param actual the MovieCatalog we want to make assertions on.
+   */
+  public MovieCatalogAssert(MovieCatalog actual) {
+    super(actual, MovieCatalogAssert.class);
+  }
+
+  /**
+   * An entry point for MovieCatalogAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myMovieCatalog)</code> and get specific assertion with code completion.
+   * @param actual the MovieCatalog we want to make assertions on.
+   * @return a new <code>{@link MovieCatalogAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static MovieCatalogAssert assertThat(MovieCatalog actual) {
+    return new MovieCatalogAssert(actual);
+  }
+}
@@ -0,0 +1,112 @@
+package org.assertj.examples.data.neo4j;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link AsyncDragonBallGraphRepository} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractAsyncDragonBallGraphRepositoryAssert<S extends AbstractAsyncDragonBallGraphRepositoryAssert<S, A>, A extends AsyncDragonBallGraphRepository> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractAsyncDragonBallGraphRepositoryAssert}</code> to make assertions on actual AsyncDragonBallGraphRepository.
+   * @param actual the AsyncDragonBallGraphRepository we want to make assertions on.
+   */
+  protected AbstractAsyncDragonBallGraphRepositoryAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual AsyncDragonBallGraphRepository's executor is equal to the given one.
+   * @param executor the given executor to compare the actual AsyncDragonBallGraphRepository's executor to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual AsyncDragonBallGraphRepository's executor is not equal to the given one.
+   */
+  public S hasExecutor(java.util.concurrent.ExecutorService executor) {
+    // check that actual AsyncDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting executor of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.ExecutorService actualExecutor = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("executor", java.util.concurrent.ExecutorService.class, actual);
+    if (!Objects.deepEquals(actualExecutor, executor)) {
+      failWithMessage(assertjErrorMessage, actual, executor, actualExecutor);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual AsyncDragonBallGraphRepository's graphDatabase is equal to the given one.
+   * @param graphDatabase the given graphDatabase to compare the actual AsyncDragonBallGraphRepository's graphDatabase to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual AsyncDragonBallGraphRepository's graphDatabase is not equal to the given one.
+   */
+  public S hasGraphDatabase(org.neo4j.graphdb.GraphDatabaseService graphDatabase) {
+    // check that actual AsyncDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting graphDatabase of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.neo4j.graphdb.GraphDatabaseService actualGraphDatabase = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("graphDatabase", org.neo4j.graphdb.GraphDatabaseService.class, actual);
+    if (!Objects.deepEquals(actualGraphDatabase, graphDatabase)) {
+      failWithMessage(assertjErrorMessage, actual, graphDatabase, actualGraphDatabase);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual AsyncDragonBallGraphRepository's pendingQueries is equal to the given one.
+   * @param pendingQueries the given pendingQueries to compare the actual AsyncDragonBallGraphRepository's pendingQueries to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual AsyncDragonBallGraphRepository's pendingQueries is not equal to the given one.
+   */
+  public S hasPendingQueries(java.util.concurrent.Semaphore pendingQueries) {
+    // check that actual AsyncDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting pendingQueries of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.Semaphore actualPendingQueries = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("pendingQueries", java.util.concurrent.Semaphore.class, actual);
+    if (!Objects.deepEquals(actualPendingQueries, pendingQueries)) {
+      failWithMessage(assertjErrorMessage, actual, pendingQueries, actualPendingQueries);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual AsyncDragonBallGraphRepository's repository is equal to the given one.
+   * @param repository the given repository to compare the actual AsyncDragonBallGraphRepository's repository to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual AsyncDragonBallGraphRepository's repository is not equal to the given one.
+   */
+  public S hasRepository(DragonBallGraphRepository repository) {
+    // check that actual AsyncDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting repository of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    DragonBallGraphRepository actualRepository = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("repository", DragonBallGraphRepository.class, actual);
+    if (!Objects.deepEquals(actualRepository, repository)) {
+      failWithMessage(assertjErrorMessage, actual, repository, actualRepository);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
@@ -0,0 +1,134 @@
+package org.assertj.examples.data.neo4j;
+
+import java.util.Objects;
+
+/**
+ * Abstract base class for {@link CachingDragonBallGraphRepository} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractCachingDragonBallGraphRepositoryAssert<S extends AbstractCachingDragonBallGraphRepositoryAssert<S, A>, A extends CachingDragonBallGraphRepository> extends AbstractDragonBallGraphRepositoryAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractCachingDragonBallGraphRepositoryAssert}</code> to make assertions on actual CachingDragonBallGraphRepository.
+   * @param actual the CachingDragonBallGraphRepository we want to make assertions on.
+   */
+  protected AbstractCachingDragonBallGraphRepositoryAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual CachingDragonBallGraphRepository's cache is equal to the given one.
+   * @param cache the given cache to compare the actual CachingDragonBallGraphRepository's cache to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CachingDragonBallGraphRepository's cache is not equal to the given one.
+   */
+  public S hasCache(com.google.common.cache.Cache cache) {
+    // check that actual CachingDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting cache of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    com.google.common.cache.Cache actualCache = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("cache", com.google.common.cache.Cache.class, actual);
+    if (!Objects.deepEquals(actualCache, cache)) {
+      failWithMessage(assertjErrorMessage, actual, cache, actualCache);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingDragonBallGraphRepository's generations is equal to the given one.
+   * @param generations the given generations to compare the actual CachingDragonBallGraphRepository's generations to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CachingDragonBallGraphRepository's generations is not equal to the given one.
+   */
+  public S hasGenerations(java.util.Map generations) {
+    // check that actual CachingDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting generations of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.Map actualGenerations = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("generations", java.util.Map.class, actual);
+    if (!Objects.deepEquals(actualGenerations, generations)) {
+      failWithMessage(assertjErrorMessage, actual, generations, actualGenerations);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingDragonBallGraphRepository's graphDatabase is equal to the given one.
+   * @param graphDatabase the given graphDatabase to compare the actual CachingDragonBallGraphRepository's graphDatabase to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CachingDragonBallGraphRepository's graphDatabase is not equal to the given one.
+   */
+  public S hasGraphDatabase(org.neo4j.graphdb.GraphDatabaseService graphDatabase) {
+    // check that actual CachingDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting graphDatabase of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.neo4j.graphdb.GraphDatabaseService actualGraphDatabase = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("graphDatabase", org.neo4j.graphdb.GraphDatabaseService.class, actual);
+    if (!Objects.deepEquals(actualGraphDatabase, graphDatabase)) {
+      failWithMessage(assertjErrorMessage, actual, graphDatabase, actualGraphDatabase);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingDragonBallGraphRepository's invalidator is equal to the given one.
+   * @param invalidator the given invalidator to compare the actual CachingDragonBallGraphRepository's invalidator to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CachingDragonBallGraphRepository's invalidator is not equal to the given one.
+   */
+  public S hasInvalidator(org.neo4j.graphdb.event.TransactionEventHandler invalidator) {
+    // check that actual CachingDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting invalidator of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.neo4j.graphdb.event.TransactionEventHandler actualInvalidator = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("invalidator", org.neo4j.graphdb.event.TransactionEventHandler.class, actual);
+    if (!Objects.deepEquals(actualInvalidator, invalidator)) {
+      failWithMessage(assertjErrorMessage, actual, invalidator, actualInvalidator);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingDragonBallGraphRepository's writing is equal to the given one.
+   * @param writing the given writing to compare the actual CachingDragonBallGraphRepository's writing to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CachingDragonBallGraphRepository's writing is not equal to the given one.
+   */
+  public S hasWriting(ThreadLocal writing) {
+    // check that actual CachingDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting writing of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    ThreadLocal actualWriting = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("writing", ThreadLocal.class, actual);
+    if (!Objects.deepEquals(actualWriting, writing)) {
+      failWithMessage(assertjErrorMessage, actual, writing, actualWriting);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
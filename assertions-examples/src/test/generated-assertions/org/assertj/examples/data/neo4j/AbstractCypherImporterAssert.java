@@ -0,0 +1,66 @@
+package org.assertj.examples.data.neo4j;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link CypherImporter} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractCypherImporterAssert<S extends AbstractCypherImporterAssert<S, A>, A extends CypherImporter> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractCypherImporterAssert}</code> to make assertions on actual CypherImporter.
+   * @param actual the CypherImporter we want to make assertions on.
+   */
+  protected AbstractCypherImporterAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual CypherImporter's batchSize is equal to the given one.
+   * @param batchSize the given batchSize to compare the actual CypherImporter's batchSize to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CypherImporter's batchSize is not equal to the given one.
+   */
+  public S hasBatchSize(int batchSize) {
+    // check that actual CypherImporter we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting batchSize of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualBatchSize = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("batchSize", int.class, actual);
+    if (actualBatchSize != batchSize) {
+      failWithMessage(assertjErrorMessage, actual, batchSize, actualBatchSize);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CypherImporter's graphDatabase is equal to the given one.
+   * @param graphDatabase the given graphDatabase to compare the actual CypherImporter's graphDatabase to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CypherImporter's graphDatabase is not equal to the given one.
+   */
+  public S hasGraphDatabase(org.neo4j.graphdb.GraphDatabaseService graphDatabase) {
+    // check that actual CypherImporter we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting graphDatabase of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.neo4j.graphdb.GraphDatabaseService actualGraphDatabase = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("graphDatabase", org.neo4j.graphdb.GraphDatabaseService.class, actual);
+    if (!Objects.deepEquals(actualGraphDatabase, graphDatabase)) {
+      failWithMessage(assertjErrorMessage, actual, graphDatabase, actualGraphDatabase);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
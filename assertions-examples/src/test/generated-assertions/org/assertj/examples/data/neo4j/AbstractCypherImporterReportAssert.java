@@ -0,0 +1,138 @@
+package org.assertj.examples.data.neo4j;
+
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Abstract base class for {@link CypherImporter.Report} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractCypherImporterReportAssert<S extends AbstractCypherImporterReportAssert<S, A>, A extends CypherImporter.Report> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractCypherImporterReportAssert}</code> to make assertions on actual CypherImporter.Report.
+   * @param actual the CypherImporter.Report we want to make assertions on.
+   */
+  protected AbstractCypherImporterReportAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual CypherImporter.Report's batches is equal to the given one.
+   * @param batches the given batches to compare the actual CypherImporter.Report's batches to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CypherImporter.Report's batches is not equal to the given one.
+   */
+  public S hasBatches(long batches) {
+    // check that actual CypherImporter.Report we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting batches of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualBatches = actual.getBatches();
+    if (actualBatches != batches) {
+      failWithMessage(assertjErrorMessage, actual, batches, actualBatches);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CypherImporter.Report's statements is equal to the given one.
+   * @param statements the given statements to compare the actual CypherImporter.Report's statements to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CypherImporter.Report's statements is not equal to the given one.
+   */
+  public S hasStatements(long statements) {
+    // check that actual CypherImporter.Report we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting statements of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualStatements = actual.getStatements();
+    if (actualStatements != statements) {
+      failWithMessage(assertjErrorMessage, actual, statements, actualStatements);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CypherImporter.Report's statementsPerSecond is equal to the given one.
+   * @param statementsPerSecond the given statementsPerSecond to compare the actual CypherImporter.Report's statementsPerSecond to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CypherImporter.Report's statementsPerSecond is not equal to the given one.
+   */
+  public S hasStatementsPerSecond(double statementsPerSecond) {
+    // check that actual CypherImporter.Report we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting statementsPerSecond of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check value for statementsPerSecond
+    double actualStatementsPerSecond = actual.getStatementsPerSecond();
+    if (actualStatementsPerSecond != statementsPerSecond) {
+      failWithMessage(assertjErrorMessage, actual, statementsPerSecond, actualStatementsPerSecond);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CypherImporter.Report's statementsPerSecond is close to the given value by less than the given offset.
+   * <p>
+   * If difference is equal to the offset value, assertion is considered successful.
+   * @param statementsPerSecond the value to compare the actual CypherImporter.Report's statementsPerSecond to.
+   * @param assertjOffset the given offset.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CypherImporter.Report's statementsPerSecond is not close enough to the given value.
+   */
+  public S hasStatementsPerSecondCloseTo(double statementsPerSecond, double assertjOffset) {
+    // check that actual CypherImporter.Report we want to make assertions on is not null.
+    isNotNull();
+
+    double actualStatementsPerSecond = actual.getStatementsPerSecond();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = String.format("\nExpecting statementsPerSecond:\n  <%s>\nto be close to:\n  <%s>\nby less than <%s> but difference was <%s>",
+                                               actualStatementsPerSecond, statementsPerSecond, assertjOffset, Math.abs(statementsPerSecond - actualStatementsPerSecond));
+
+    // check
+    Assertions.assertThat(actualStatementsPerSecond).overridingErrorMessage(assertjErrorMessage).isCloseTo(statementsPerSecond, Assertions.within(assertjOffset));
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CypherImporter.Report's elapsedNanos is equal to the given one.
+   * @param elapsedNanos the given elapsedNanos to compare the actual CypherImporter.Report's elapsedNanos to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CypherImporter.Report's elapsedNanos is not equal to the given one.
+   */
+  public S hasElapsedNanos(long elapsedNanos) {
+    // check that actual CypherImporter.Report we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting elapsedNanos of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualElapsedNanos = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("elapsedNanos", long.class, actual);
+    if (actualElapsedNanos != elapsedNanos) {
+      failWithMessage(assertjErrorMessage, actual, elapsedNanos, actualElapsedNanos);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
@@ -40,4 +40,27 @@ public abstract class AbstractDragonBallGraphRepositoryAssert<S extends Abstract
     return myself;
   }
 
+  /**
+   * Verifies that the actual DragonBallGraphRepository's schema is equal to the given one.
+   * @param schema the given schema to compare the actual DragonBallGraphRepository's schema to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual DragonBallGraphRepository's schema is not equal to the given one.
+   */
+  public S hasSchema(DragonBallGraphSchema schema) {
+    // check that actual DragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting schema of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    DragonBallGraphSchema actualSchema = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("schema", DragonBallGraphSchema.class, actual);
+    if (!Objects.deepEquals(actualSchema, schema)) {
+      failWithMessage(assertjErrorMessage, actual, schema, actualSchema);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
 }
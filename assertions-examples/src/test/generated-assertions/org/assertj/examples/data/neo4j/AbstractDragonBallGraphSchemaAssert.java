@@ -0,0 +1,43 @@
+package org.assertj.examples.data.neo4j;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link DragonBallGraphSchema} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractDragonBallGraphSchemaAssert<S extends AbstractDragonBallGraphSchemaAssert<S, A>, A extends DragonBallGraphSchema> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractDragonBallGraphSchemaAssert}</code> to make assertions on actual DragonBallGraphSchema.
+   * @param actual the DragonBallGraphSchema we want to make assertions on.
+   */
+  protected AbstractDragonBallGraphSchemaAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual DragonBallGraphSchema's graphDatabase is equal to the given one.
+   * @param graphDatabase the given graphDatabase to compare the actual DragonBallGraphSchema's graphDatabase to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual DragonBallGraphSchema's graphDatabase is not equal to the given one.
+   */
+  public S hasGraphDatabase(org.neo4j.graphdb.GraphDatabaseService graphDatabase) {
+    // check that actual DragonBallGraphSchema we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting graphDatabase of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.neo4j.graphdb.GraphDatabaseService actualGraphDatabase = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("graphDatabase", org.neo4j.graphdb.GraphDatabaseService.class, actual);
+    if (!Objects.deepEquals(actualGraphDatabase, graphDatabase)) {
+      failWithMessage(assertjErrorMessage, actual, graphDatabase, actualGraphDatabase);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
@@ -0,0 +1,43 @@
+package org.assertj.examples.data.neo4j;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link InMemoryQueryMetrics} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractInMemoryQueryMetricsAssert<S extends AbstractInMemoryQueryMetricsAssert<S, A>, A extends InMemoryQueryMetrics> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractInMemoryQueryMetricsAssert}</code> to make assertions on actual InMemoryQueryMetrics.
+   * @param actual the InMemoryQueryMetrics we want to make assertions on.
+   */
+  protected AbstractInMemoryQueryMetricsAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual InMemoryQueryMetrics's metricsByMethod is equal to the given one.
+   * @param metricsByMethod the given metricsByMethod to compare the actual InMemoryQueryMetrics's metricsByMethod to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InMemoryQueryMetrics's metricsByMethod is not equal to the given one.
+   */
+  public S hasMetricsByMethod(java.util.Map metricsByMethod) {
+    // check that actual InMemoryQueryMetrics we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting metricsByMethod of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.Map actualMetricsByMethod = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("metricsByMethod", java.util.Map.class, actual);
+    if (!Objects.deepEquals(actualMetricsByMethod, metricsByMethod)) {
+      failWithMessage(assertjErrorMessage, actual, metricsByMethod, actualMetricsByMethod);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
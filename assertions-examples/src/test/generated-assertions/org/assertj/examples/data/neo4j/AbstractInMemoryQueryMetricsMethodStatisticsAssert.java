@@ -0,0 +1,181 @@
+package org.assertj.examples.data.neo4j;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link InMemoryQueryMetrics.MethodStatistics} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractInMemoryQueryMetricsMethodStatisticsAssert<S extends AbstractInMemoryQueryMetricsMethodStatisticsAssert<S, A>, A extends InMemoryQueryMetrics.MethodStatistics> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractInMemoryQueryMetricsMethodStatisticsAssert}</code> to make assertions on actual InMemoryQueryMetrics.MethodStatistics.
+   * @param actual the InMemoryQueryMetrics.MethodStatistics we want to make assertions on.
+   */
+  protected AbstractInMemoryQueryMetricsMethodStatisticsAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual InMemoryQueryMetrics.MethodStatistics's calls is equal to the given one.
+   * @param calls the given calls to compare the actual InMemoryQueryMetrics.MethodStatistics's calls to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InMemoryQueryMetrics.MethodStatistics's calls is not equal to the given one.
+   */
+  public S hasCalls(long calls) {
+    // check that actual InMemoryQueryMetrics.MethodStatistics we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting calls of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualCalls = actual.getCalls();
+    if (actualCalls != calls) {
+      failWithMessage(assertjErrorMessage, actual, calls, actualCalls);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InMemoryQueryMetrics.MethodStatistics's meanDbHits is equal to the given one.
+   * @param meanDbHits the given meanDbHits to compare the actual InMemoryQueryMetrics.MethodStatistics's meanDbHits to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InMemoryQueryMetrics.MethodStatistics's meanDbHits is not equal to the given one.
+   */
+  public S hasMeanDbHits(long meanDbHits) {
+    // check that actual InMemoryQueryMetrics.MethodStatistics we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting meanDbHits of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualMeanDbHits = actual.getMeanDbHits();
+    if (actualMeanDbHits != meanDbHits) {
+      failWithMessage(assertjErrorMessage, actual, meanDbHits, actualMeanDbHits);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InMemoryQueryMetrics.MethodStatistics's meanLatencyNanos is equal to the given one.
+   * @param meanLatencyNanos the given meanLatencyNanos to compare the actual InMemoryQueryMetrics.MethodStatistics's meanLatencyNanos to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InMemoryQueryMetrics.MethodStatistics's meanLatencyNanos is not equal to the given one.
+   */
+  public S hasMeanLatencyNanos(long meanLatencyNanos) {
+    // check that actual InMemoryQueryMetrics.MethodStatistics we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting meanLatencyNanos of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualMeanLatencyNanos = actual.getMeanLatencyNanos();
+    if (actualMeanLatencyNanos != meanLatencyNanos) {
+      failWithMessage(assertjErrorMessage, actual, meanLatencyNanos, actualMeanLatencyNanos);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InMemoryQueryMetrics.MethodStatistics's profiledCalls is equal to the given one.
+   * @param profiledCalls the given profiledCalls to compare the actual InMemoryQueryMetrics.MethodStatistics's profiledCalls to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InMemoryQueryMetrics.MethodStatistics's profiledCalls is not equal to the given one.
+   */
+  public S hasProfiledCalls(long profiledCalls) {
+    // check that actual InMemoryQueryMetrics.MethodStatistics we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting profiledCalls of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualProfiledCalls = actual.getProfiledCalls();
+    if (actualProfiledCalls != profiledCalls) {
+      failWithMessage(assertjErrorMessage, actual, profiledCalls, actualProfiledCalls);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InMemoryQueryMetrics.MethodStatistics's rows is equal to the given one.
+   * @param rows the given rows to compare the actual InMemoryQueryMetrics.MethodStatistics's rows to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InMemoryQueryMetrics.MethodStatistics's rows is not equal to the given one.
+   */
+  public S hasRows(long rows) {
+    // check that actual InMemoryQueryMetrics.MethodStatistics we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting rows of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualRows = actual.getRows();
+    if (actualRows != rows) {
+      failWithMessage(assertjErrorMessage, actual, rows, actualRows);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InMemoryQueryMetrics.MethodStatistics's dbHits is equal to the given one.
+   * @param dbHits the given dbHits to compare the actual InMemoryQueryMetrics.MethodStatistics's dbHits to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InMemoryQueryMetrics.MethodStatistics's dbHits is not equal to the given one.
+   */
+  public S hasDbHits(long dbHits) {
+    // check that actual InMemoryQueryMetrics.MethodStatistics we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting dbHits of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualDbHits = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("dbHits", long.class, actual);
+    if (actualDbHits != dbHits) {
+      failWithMessage(assertjErrorMessage, actual, dbHits, actualDbHits);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InMemoryQueryMetrics.MethodStatistics's latencies is equal to the given one.
+   * @param latencies the given latencies to compare the actual InMemoryQueryMetrics.MethodStatistics's latencies to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InMemoryQueryMetrics.MethodStatistics's latencies is not equal to the given one.
+   */
+  public S hasLatencies(org.assertj.examples.data.Histogram latencies) {
+    // check that actual InMemoryQueryMetrics.MethodStatistics we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting latencies of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.assertj.examples.data.Histogram actualLatencies = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("latencies", org.assertj.examples.data.Histogram.class, actual);
+    if (!Objects.deepEquals(actualLatencies, latencies)) {
+      failWithMessage(assertjErrorMessage, actual, latencies, actualLatencies);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
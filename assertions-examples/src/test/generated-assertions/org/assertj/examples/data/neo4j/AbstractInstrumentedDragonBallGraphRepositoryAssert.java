@@ -0,0 +1,134 @@
+package org.assertj.examples.data.neo4j;
+
+import java.util.Objects;
+
+/**
+ * Abstract base class for {@link InstrumentedDragonBallGraphRepository} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractInstrumentedDragonBallGraphRepositoryAssert<S extends AbstractInstrumentedDragonBallGraphRepositoryAssert<S, A>, A extends InstrumentedDragonBallGraphRepository> extends AbstractDragonBallGraphRepositoryAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractInstrumentedDragonBallGraphRepositoryAssert}</code> to make assertions on actual InstrumentedDragonBallGraphRepository.
+   * @param actual the InstrumentedDragonBallGraphRepository we want to make assertions on.
+   */
+  protected AbstractInstrumentedDragonBallGraphRepositoryAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual InstrumentedDragonBallGraphRepository's callCounts is equal to the given one.
+   * @param callCounts the given callCounts to compare the actual InstrumentedDragonBallGraphRepository's callCounts to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InstrumentedDragonBallGraphRepository's callCounts is not equal to the given one.
+   */
+  public S hasCallCounts(java.util.Map callCounts) {
+    // check that actual InstrumentedDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting callCounts of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.Map actualCallCounts = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("callCounts", java.util.Map.class, actual);
+    if (!Objects.deepEquals(actualCallCounts, callCounts)) {
+      failWithMessage(assertjErrorMessage, actual, callCounts, actualCallCounts);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InstrumentedDragonBallGraphRepository's graphDatabase is equal to the given one.
+   * @param graphDatabase the given graphDatabase to compare the actual InstrumentedDragonBallGraphRepository's graphDatabase to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InstrumentedDragonBallGraphRepository's graphDatabase is not equal to the given one.
+   */
+  public S hasGraphDatabase(org.neo4j.graphdb.GraphDatabaseService graphDatabase) {
+    // check that actual InstrumentedDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting graphDatabase of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.neo4j.graphdb.GraphDatabaseService actualGraphDatabase = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("graphDatabase", org.neo4j.graphdb.GraphDatabaseService.class, actual);
+    if (!Objects.deepEquals(actualGraphDatabase, graphDatabase)) {
+      failWithMessage(assertjErrorMessage, actual, graphDatabase, actualGraphDatabase);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InstrumentedDragonBallGraphRepository's metrics is equal to the given one.
+   * @param metrics the given metrics to compare the actual InstrumentedDragonBallGraphRepository's metrics to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InstrumentedDragonBallGraphRepository's metrics is not equal to the given one.
+   */
+  public S hasMetrics(QueryMetrics metrics) {
+    // check that actual InstrumentedDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting metrics of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    QueryMetrics actualMetrics = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("metrics", QueryMetrics.class, actual);
+    if (!Objects.deepEquals(actualMetrics, metrics)) {
+      failWithMessage(assertjErrorMessage, actual, metrics, actualMetrics);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InstrumentedDragonBallGraphRepository's profileEvery is equal to the given one.
+   * @param profileEvery the given profileEvery to compare the actual InstrumentedDragonBallGraphRepository's profileEvery to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InstrumentedDragonBallGraphRepository's profileEvery is not equal to the given one.
+   */
+  public S hasProfileEvery(int profileEvery) {
+    // check that actual InstrumentedDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting profileEvery of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualProfileEvery = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("profileEvery", int.class, actual);
+    if (actualProfileEvery != profileEvery) {
+      failWithMessage(assertjErrorMessage, actual, profileEvery, actualProfileEvery);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual InstrumentedDragonBallGraphRepository's profiledQueries is equal to the given one.
+   * @param profiledQueries the given profiledQueries to compare the actual InstrumentedDragonBallGraphRepository's profiledQueries to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual InstrumentedDragonBallGraphRepository's profiledQueries is not equal to the given one.
+   */
+  public S hasProfiledQueries(ThreadLocal profiledQueries) {
+    // check that actual InstrumentedDragonBallGraphRepository we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting profiledQueries of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    ThreadLocal actualProfiledQueries = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("profiledQueries", ThreadLocal.class, actual);
+    if (!Objects.deepEquals(actualProfiledQueries, profiledQueries)) {
+      failWithMessage(assertjErrorMessage, actual, profiledQueries, actualProfiledQueries);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
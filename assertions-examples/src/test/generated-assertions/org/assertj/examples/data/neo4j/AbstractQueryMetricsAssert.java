@@ -0,0 +1,19 @@
+package org.assertj.examples.data.neo4j;
+
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link QueryMetrics} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractQueryMetricsAssert<S extends AbstractQueryMetricsAssert<S, A>, A extends QueryMetrics> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractQueryMetricsAssert}</code> to make assertions on actual QueryMetrics.
+   * @param actual the QueryMetrics we want to make assertions on.
+   */
+  protected AbstractQueryMetricsAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+}
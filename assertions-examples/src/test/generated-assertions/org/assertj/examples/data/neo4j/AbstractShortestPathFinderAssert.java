@@ -0,0 +1,127 @@
+package org.assertj.examples.data.neo4j;
+
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Abstract base class for {@link ShortestPathFinder} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractShortestPathFinderAssert<S extends AbstractShortestPathFinderAssert<S, A>, A extends ShortestPathFinder> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractShortestPathFinderAssert}</code> to make assertions on actual ShortestPathFinder.
+   * @param actual the ShortestPathFinder we want to make assertions on.
+   */
+  protected AbstractShortestPathFinderAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual ShortestPathFinder's maxDepth is equal to the given one.
+   * @param maxDepth the given maxDepth to compare the actual ShortestPathFinder's maxDepth to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual ShortestPathFinder's maxDepth is not equal to the given one.
+   */
+  public S hasMaxDepth(int maxDepth) {
+    // check that actual ShortestPathFinder we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting maxDepth of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualMaxDepth = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("maxDepth", int.class, actual);
+    if (actualMaxDepth != maxDepth) {
+      failWithMessage(assertjErrorMessage, actual, maxDepth, actualMaxDepth);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual ShortestPathFinder's relationshipTypes contains the given org.neo4j.graphdb.RelationshipType elements.
+   * @param relationshipTypes the given elements that should be contained in actual ShortestPathFinder's relationshipTypes.
+   * @return this assertion object.
+   * @throws AssertionError if the actual ShortestPathFinder's relationshipTypes does not contain all given org.neo4j.graphdb.RelationshipType elements.
+   */
+  public S hasRelationshipTypes(org.neo4j.graphdb.RelationshipType... relationshipTypes) {
+    // check that actual ShortestPathFinder we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.neo4j.graphdb.RelationshipType varargs is not null.
+    if (relationshipTypes == null) failWithMessage("Expecting relationshipTypes parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("relationshipTypes", org.neo4j.graphdb.RelationshipType[].class, actual)).contains(relationshipTypes);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual ShortestPathFinder's relationshipTypes contains <b>only</b> the given org.neo4j.graphdb.RelationshipType elements and nothing else in whatever order.
+   *
+   * @param relationshipTypes the given elements that should be contained in actual ShortestPathFinder's relationshipTypes.
+   * @return this assertion object.
+   * @throws AssertionError if the actual ShortestPathFinder's relationshipTypes does not contain all given org.neo4j.graphdb.RelationshipType elements and nothing else.
+   */
+  public S hasOnlyRelationshipTypes(org.neo4j.graphdb.RelationshipType... relationshipTypes) {
+    // check that actual ShortestPathFinder we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.neo4j.graphdb.RelationshipType varargs is not null.
+    if (relationshipTypes == null) failWithMessage("Expecting relationshipTypes parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("relationshipTypes", org.neo4j.graphdb.RelationshipType[].class, actual)).containsOnly(relationshipTypes);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual ShortestPathFinder's relationshipTypes does not contain the given org.neo4j.graphdb.RelationshipType elements.
+   *
+   * @param relationshipTypes the given elements that should not be in actual ShortestPathFinder's relationshipTypes.
+   * @return this assertion object.
+   * @throws AssertionError if the actual ShortestPathFinder's relationshipTypes contains any given org.neo4j.graphdb.RelationshipType elements.
+   */
+  public S doesNotHaveRelationshipTypes(org.neo4j.graphdb.RelationshipType... relationshipTypes) {
+    // check that actual ShortestPathFinder we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.neo4j.graphdb.RelationshipType varargs is not null.
+    if (relationshipTypes == null) failWithMessage("Expecting relationshipTypes parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Assertions.assertThat(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("relationshipTypes", org.neo4j.graphdb.RelationshipType[].class, actual)).doesNotContain(relationshipTypes);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual ShortestPathFinder has no relationshipTypes.
+   * @return this assertion object.
+   * @throws AssertionError if the actual ShortestPathFinder's relationshipTypes is not empty.
+   */
+  public S hasNoRelationshipTypes() {
+    // check that actual ShortestPathFinder we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have relationshipTypes but had :\n  <%s>";
+
+    // check that it is not empty
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("relationshipTypes", org.neo4j.graphdb.RelationshipType[].class, actual).length > 0)  {
+      failWithMessage(assertjErrorMessage, actual, java.util.Arrays.toString(org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("relationshipTypes", org.neo4j.graphdb.RelationshipType[].class, actual)));
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+}
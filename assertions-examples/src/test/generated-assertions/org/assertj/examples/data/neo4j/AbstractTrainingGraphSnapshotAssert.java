@@ -0,0 +1,194 @@
+package org.assertj.examples.data.neo4j;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link TrainingGraphSnapshot} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractTrainingGraphSnapshotAssert<S extends AbstractTrainingGraphSnapshotAssert<S, A>, A extends TrainingGraphSnapshot> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractTrainingGraphSnapshotAssert}</code> to make assertions on actual TrainingGraphSnapshot.
+   * @param actual the TrainingGraphSnapshot we want to make assertions on.
+   */
+  protected AbstractTrainingGraphSnapshotAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual TrainingGraphSnapshot's graphDatabase is equal to the given one.
+   * @param graphDatabase the given graphDatabase to compare the actual TrainingGraphSnapshot's graphDatabase to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TrainingGraphSnapshot's graphDatabase is not equal to the given one.
+   */
+  public S hasGraphDatabase(org.neo4j.graphdb.GraphDatabaseService graphDatabase) {
+    // check that actual TrainingGraphSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting graphDatabase of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.neo4j.graphdb.GraphDatabaseService actualGraphDatabase = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("graphDatabase", org.neo4j.graphdb.GraphDatabaseService.class, actual);
+    if (!Objects.deepEquals(actualGraphDatabase, graphDatabase)) {
+      failWithMessage(assertjErrorMessage, actual, graphDatabase, actualGraphDatabase);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TrainingGraphSnapshot's pendingRefresh is equal to the given one.
+   * @param pendingRefresh the given pendingRefresh to compare the actual TrainingGraphSnapshot's pendingRefresh to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TrainingGraphSnapshot's pendingRefresh is not equal to the given one.
+   */
+  public S hasPendingRefresh(java.util.concurrent.Future pendingRefresh) {
+    // check that actual TrainingGraphSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting pendingRefresh of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.Future actualPendingRefresh = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("pendingRefresh", java.util.concurrent.Future.class, actual);
+    if (!Objects.deepEquals(actualPendingRefresh, pendingRefresh)) {
+      failWithMessage(assertjErrorMessage, actual, pendingRefresh, actualPendingRefresh);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TrainingGraphSnapshot is refreshScheduled.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TrainingGraphSnapshot is not refreshScheduled.
+   */
+  public S isRefreshScheduled() {
+    // check that actual TrainingGraphSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // check that property call/field access is true
+    if (!org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("refreshScheduled", Boolean.class, actual)) {
+      failWithMessage("\nExpecting that actual TrainingGraphSnapshot is refreshScheduled but is not.");
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TrainingGraphSnapshot is not refreshScheduled.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TrainingGraphSnapshot is refreshScheduled.
+   */
+  public S isNotRefreshScheduled() {
+    // check that actual TrainingGraphSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // check that property call/field access is false
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("refreshScheduled", Boolean.class, actual)) {
+      failWithMessage("\nExpecting that actual TrainingGraphSnapshot is not refreshScheduled but is.");
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TrainingGraphSnapshot's refreshScheduling is equal to the given one.
+   * @param refreshScheduling the given refreshScheduling to compare the actual TrainingGraphSnapshot's refreshScheduling to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TrainingGraphSnapshot's refreshScheduling is not equal to the given one.
+   */
+  public S hasRefreshScheduling(Object refreshScheduling) {
+    // check that actual TrainingGraphSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting refreshScheduling of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    Object actualRefreshScheduling = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("refreshScheduling", Object.class, actual);
+    if (!Objects.deepEquals(actualRefreshScheduling, refreshScheduling)) {
+      failWithMessage(assertjErrorMessage, actual, refreshScheduling, actualRefreshScheduling);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TrainingGraphSnapshot's refreshTrigger is equal to the given one.
+   * @param refreshTrigger the given refreshTrigger to compare the actual TrainingGraphSnapshot's refreshTrigger to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TrainingGraphSnapshot's refreshTrigger is not equal to the given one.
+   */
+  public S hasRefreshTrigger(org.neo4j.graphdb.event.TransactionEventHandler refreshTrigger) {
+    // check that actual TrainingGraphSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting refreshTrigger of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.neo4j.graphdb.event.TransactionEventHandler actualRefreshTrigger = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("refreshTrigger", org.neo4j.graphdb.event.TransactionEventHandler.class, actual);
+    if (!Objects.deepEquals(actualRefreshTrigger, refreshTrigger)) {
+      failWithMessage(assertjErrorMessage, actual, refreshTrigger, actualRefreshTrigger);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TrainingGraphSnapshot's refresher is equal to the given one.
+   * @param refresher the given refresher to compare the actual TrainingGraphSnapshot's refresher to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TrainingGraphSnapshot's refresher is not equal to the given one.
+   */
+  public S hasRefresher(java.util.concurrent.ExecutorService refresher) {
+    // check that actual TrainingGraphSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting refresher of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.ExecutorService actualRefresher = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("refresher", java.util.concurrent.ExecutorService.class, actual);
+    if (!Objects.deepEquals(actualRefresher, refresher)) {
+      failWithMessage(assertjErrorMessage, actual, refresher, actualRefresher);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TrainingGraphSnapshot's trainings is equal to the given one.
+   * @param trainings the given trainings to compare the actual TrainingGraphSnapshot's trainings to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TrainingGraphSnapshot's trainings is not equal to the given one.
+   */
+  public S hasTrainings(TrainingGraphSnapshot.Trainings trainings) {
+    // check that actual TrainingGraphSnapshot we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting trainings of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    TrainingGraphSnapshot.Trainings actualTrainings = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("trainings", TrainingGraphSnapshot.Trainings.class, actual);
+    if (!Objects.deepEquals(actualTrainings, trainings)) {
+      failWithMessage(assertjErrorMessage, actual, trainings, actualTrainings);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
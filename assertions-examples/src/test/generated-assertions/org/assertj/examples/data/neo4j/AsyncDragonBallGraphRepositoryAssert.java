@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link AsyncDragonBallGraphRepository} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractAsyncDragonBallGraphRepositoryAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class AsyncDragonBallGraphRepositoryAssert extends AbstractAsyncDragonBallGraphRepositoryAssert<AsyncDragonBallGraphRepositoryAssert, AsyncDragonBallGraphRepository> {
+
+  /**
+   * Creates a new <code>{@link AsyncDragonBallGraphRepositoryAssert}</code> to make assertions on actual AsyncDragonBallGraphRepository.
+   * @param actual the AsyncDragonBallGraphRepository we want to make assertions on.
+   */
+  public AsyncDragonBallGraphRepositoryAssert(AsyncDragonBallGraphRepository actual) {
+    super(actual, AsyncDragonBallGraphRepositoryAssert.class);
+  }
+
+  /**
+   * An entry point for AsyncDragonBallGraphRepositoryAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myAsyncDragonBallGraphRepository)</code> and get specific assertion with code completion.
+   * @param actual the AsyncDragonBallGraphRepository we want to make assertions on.
+   * @return a new <code>{@link AsyncDragonBallGraphRepositoryAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static AsyncDragonBallGraphRepositoryAssert assertThat(AsyncDragonBallGraphRepository actual) {
+    return new AsyncDragonBallGraphRepositoryAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link CachingDragonBallGraphRepository} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractCachingDragonBallGraphRepositoryAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class CachingDragonBallGraphRepositoryAssert extends AbstractCachingDragonBallGraphRepositoryAssert<CachingDragonBallGraphRepositoryAssert, CachingDragonBallGraphRepository> {
+
+  /**
+   * Creates a new <code>{@link CachingDragonBallGraphRepositoryAssert}</code> to make assertions on actual CachingDragonBallGraphRepository.
+   * @param actual the CachingDragonBallGraphRepository we want to make assertions on.
+   */
+  public CachingDragonBallGraphRepositoryAssert(CachingDragonBallGraphRepository actual) {
+    super(actual, CachingDragonBallGraphRepositoryAssert.class);
+  }
+
+  /**
+   * An entry point for CachingDragonBallGraphRepositoryAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myCachingDragonBallGraphRepository)</code> and get specific assertion with code completion.
+   * @param actual the CachingDragonBallGraphRepository we want to make assertions on.
+   * @return a new <code>{@link CachingDragonBallGraphRepositoryAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static CachingDragonBallGraphRepositoryAssert assertThat(CachingDragonBallGraphRepository actual) {
+    return new CachingDragonBallGraphRepositoryAssert(actual);
+  }
+}
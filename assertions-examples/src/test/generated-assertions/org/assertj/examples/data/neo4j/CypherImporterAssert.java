@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link CypherImporter} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractCypherImporterAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class CypherImporterAssert extends AbstractCypherImporterAssert<CypherImporterAssert, CypherImporter> {
+
+  /**
+   * Creates a new <code>{@link CypherImporterAssert}</code> to make assertions on actual CypherImporter.
+   * @param actual the CypherImporter we want to make assertions on.
+   */
+  public CypherImporterAssert(CypherImporter actual) {
+    super(actual, CypherImporterAssert.class);
+  }
+
+  /**
+   * An entry point for CypherImporterAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myCypherImporter)</code> and get specific assertion with code completion.
+   * @param actual the CypherImporter we want to make assertions on.
+   * @return a new <code>{@link CypherImporterAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static CypherImporterAssert assertThat(CypherImporter actual) {
+    return new CypherImporterAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link CypherImporter.Report} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractCypherImporterReportAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class CypherImporterReportAssert extends AbstractCypherImporterReportAssert<CypherImporterReportAssert, CypherImporter.Report> {
+
+  /**
+   * Creates a new <code>{@link CypherImporterReportAssert}</code> to make assertions on actual CypherImporter.Report.
+   * @param actual the CypherImporter.Report we want to make assertions on.
+   */
+  public CypherImporterReportAssert(CypherImporter.Report actual) {
+    super(actual, CypherImporterReportAssert.class);
+  }
+
+  /**
+   * An entry point for CypherImporterReportAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myCypherImporter.Report)</code> and get specific assertion with code completion.
+   * @param actual the CypherImporter.Report we want to make assertions on.
+   * @return a new <code>{@link CypherImporterReportAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static CypherImporterReportAssert assertThat(CypherImporter.Report actual) {
+    return new CypherImporterReportAssert(actual);
+  }
+}
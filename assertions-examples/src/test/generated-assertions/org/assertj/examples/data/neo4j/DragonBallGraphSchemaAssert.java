@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link DragonBallGraphSchema} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractDragonBallGraphSchemaAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class DragonBallGraphSchemaAssert extends AbstractDragonBallGraphSchemaAssert<DragonBallGraphSchemaAssert, DragonBallGraphSchema> {
+
+  /**
+   * Creates a new <code>{@link DragonBallGraphSchemaAssert}</code> to make assertions on actual DragonBallGraphSchema.
+   * @param actual the DragonBallGraphSchema we want to make assertions on.
+   */
+  public DragonBallGraphSchemaAssert(DragonBallGraphSchema actual) {
+    super(actual, DragonBallGraphSchemaAssert.class);
+  }
+
+  /**
+   * An entry point for DragonBallGraphSchemaAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myDragonBallGraphSchema)</code> and get specific assertion with code completion.
+   * @param actual the DragonBallGraphSchema we want to make assertions on.
+   * @return a new <code>{@link DragonBallGraphSchemaAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static DragonBallGraphSchemaAssert assertThat(DragonBallGraphSchema actual) {
+    return new DragonBallGraphSchemaAssert(actual);
+  }
+}
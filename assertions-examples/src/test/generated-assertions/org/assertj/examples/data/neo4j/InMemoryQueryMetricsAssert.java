@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link InMemoryQueryMetrics} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractInMemoryQueryMetricsAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class InMemoryQueryMetricsAssert extends AbstractInMemoryQueryMetricsAssert<InMemoryQueryMetricsAssert, InMemoryQueryMetrics> {
+
+  /**
+   * Creates a new <code>{@link InMemoryQueryMetricsAssert}</code> to make assertions on actual InMemoryQueryMetrics.
+   * @param actual the InMemoryQueryMetrics we want to make assertions on.
+   */
+  public InMemoryQueryMetricsAssert(InMemoryQueryMetrics actual) {
+    super(actual, InMemoryQueryMetricsAssert.class);
+  }
+
+  /**
+   * An entry point for InMemoryQueryMetricsAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myInMemoryQueryMetrics)</code> and get specific assertion with code completion.
+   * @param actual the InMemoryQueryMetrics we want to make assertions on.
+   * @return a new <code>{@link InMemoryQueryMetricsAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static InMemoryQueryMetricsAssert assertThat(InMemoryQueryMetrics actual) {
+    return new InMemoryQueryMetricsAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link InMemoryQueryMetrics.MethodStatistics} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractInMemoryQueryMetricsMethodStatisticsAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class InMemoryQueryMetricsMethodStatisticsAssert extends AbstractInMemoryQueryMetricsMethodStatisticsAssert<InMemoryQueryMetricsMethodStatisticsAssert, InMemoryQueryMetrics.MethodStatistics> {
+
+  /**
+   * Creates a new <code>{@link InMemoryQueryMetricsMethodStatisticsAssert}</code> to make assertions on actual InMemoryQueryMetrics.MethodStatistics.
+   * @param actual the InMemoryQueryMetrics.MethodStatistics we want to make assertions on.
+   */
+  public InMemoryQueryMetricsMethodStatisticsAssert(InMemoryQueryMetrics.MethodStatistics actual) {
+    super(actual, InMemoryQueryMetricsMethodStatisticsAssert.class);
+  }
+
+  /**
+   * An entry point for InMemoryQueryMetricsMethodStatisticsAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myInMemoryQueryMetrics.MethodStatistics)</code> and get specific assertion with code completion.
+   * @param actual the InMemoryQueryMetrics.MethodStatistics we want to make assertions on.
+   * @return a new <code>{@link InMemoryQueryMetricsMethodStatisticsAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static InMemoryQueryMetricsMethodStatisticsAssert assertThat(InMemoryQueryMetrics.MethodStatistics actual) {
+    return new InMemoryQueryMetricsMethodStatisticsAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link InstrumentedDragonBallGraphRepository} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractInstrumentedDragonBallGraphRepositoryAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class InstrumentedDragonBallGraphRepositoryAssert extends AbstractInstrumentedDragonBallGraphRepositoryAssert<InstrumentedDragonBallGraphRepositoryAssert, InstrumentedDragonBallGraphRepository> {
+
+  /**
+   * Creates a new <code>{@link InstrumentedDragonBallGraphRepositoryAssert}</code> to make assertions on actual InstrumentedDragonBallGraphRepository.
+   * @param actual the InstrumentedDragonBallGraphRepository we want to make assertions on.
+   */
+  public InstrumentedDragonBallGraphRepositoryAssert(InstrumentedDragonBallGraphRepository actual) {
+    super(actual, InstrumentedDragonBallGraphRepositoryAssert.class);
+  }
+
+  /**
+   * An entry point for InstrumentedDragonBallGraphRepositoryAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myInstrumentedDragonBallGraphRepository)</code> and get specific assertion with code completion.
+   * @param actual the InstrumentedDragonBallGraphRepository we want to make assertions on.
+   * @return a new <code>{@link InstrumentedDragonBallGraphRepositoryAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static InstrumentedDragonBallGraphRepositoryAssert assertThat(InstrumentedDragonBallGraphRepository actual) {
+    return new InstrumentedDragonBallGraphRepositoryAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link QueryMetrics} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractQueryMetricsAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class QueryMetricsAssert extends AbstractQueryMetricsAssert<QueryMetricsAssert, QueryMetrics> {
+
+  /**
+   * Creates a new <code>{@link QueryMetricsAssert}</code> to make assertions on actual QueryMetrics.
+   * @param actual the QueryMetrics we want to make assertions on.
+   */
+  public QueryMetricsAssert(QueryMetrics actual) {
+    super(actual, QueryMetricsAssert.class);
+  }
+
+  /**
+   * An entry point for QueryMetricsAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myQueryMetrics)</code> and get specific assertion with code completion.
+   * @param actual the QueryMetrics we want to make assertions on.
+   * @return a new <code>{@link QueryMetricsAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static QueryMetricsAssert assertThat(QueryMetrics actual) {
+    return new QueryMetricsAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link ShortestPathFinder} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractShortestPathFinderAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class ShortestPathFinderAssert extends AbstractShortestPathFinderAssert<ShortestPathFinderAssert, ShortestPathFinder> {
+
+  /**
+   * Creates a new <code>{@link ShortestPathFinderAssert}</code> to make assertions on actual ShortestPathFinder.
+   * @param actual the ShortestPathFinder we want to make assertions on.
+   */
+  public ShortestPathFinderAssert(ShortestPathFinder actual) {
+    super(actual, ShortestPathFinderAssert.class);
+  }
+
+  /**
+   * An entry point for ShortestPathFinderAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myShortestPathFinder)</code> and get specific assertion with code completion.
+   * @param actual the ShortestPathFinder we want to make assertions on.
+   * @return a new <code>{@link ShortestPathFinderAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static ShortestPathFinderAssert assertThat(ShortestPathFinder actual) {
+    return new ShortestPathFinderAssert(actual);
+  }
+}
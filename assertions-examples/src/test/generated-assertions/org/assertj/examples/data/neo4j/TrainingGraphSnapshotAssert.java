@@ -0,0 +1,30 @@
+package org.assertj.examples.data.neo4j;
+
+/**
+ * {@link TrainingGraphSnapshot} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractTrainingGraphSnapshotAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class TrainingGraphSnapshotAssert extends AbstractTrainingGraphSnapshotAssert<TrainingGraphSnapshotAssert, TrainingGraphSnapshot> {
+
+  /**
+   * Creates a new <code>{@link TrainingGraphSnapshotAssert}</code> to make assertions on actual TrainingGraphSnapshot.
+   * @param actual the TrainingGraphSnapshot we want to make assertions on.
+   */
+  public TrainingGraphSnapshotAssert(TrainingGraphSnapshot actual) {
+    super(actual, TrainingGraphSnapshotAssert.class);
+  }
+
+  /**
+   * An entry point for TrainingGraphSnapshotAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myTrainingGraphSnapshot)</code> and get specific assertion with code completion.
+   * @param actual the TrainingGraphSnapshot we want to make assertions on.
+   * @return a new <code>{@link TrainingGraphSnapshotAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static TrainingGraphSnapshotAssert assertThat(TrainingGraphSnapshot actual) {
+    return new TrainingGraphSnapshotAssert(actual);
+  }
+}
@@ -0,0 +1,371 @@
+package org.assertj.examples.data.service;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.internal.Iterables;
+
+/**
+ * Abstract base class for {@link BatchingTeamManager} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractBatchingTeamManagerAssert<S extends AbstractBatchingTeamManagerAssert<S, A>, A extends BatchingTeamManager> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractBatchingTeamManagerAssert}</code> to make assertions on actual BatchingTeamManager.
+   * @param actual the BatchingTeamManager we want to make assertions on.
+   */
+  protected AbstractBatchingTeamManagerAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's players contains the given org.assertj.examples.data.BasketBallPlayer elements.
+   * @param players the given elements that should be contained in actual BatchingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BatchingTeamManager's players does not contain all given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S hasPlayers(org.assertj.examples.data.BasketBallPlayer... players) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer varargs is not null.
+    if (players == null) failWithMessage("Expecting players parameter not to be null.");
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContains(info, actual.getPlayers(), players);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's players contains the given org.assertj.examples.data.BasketBallPlayer elements in Collection.
+   * @param players the given elements that should be contained in actual BatchingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BatchingTeamManager's players does not contain all given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S hasPlayers(java.util.Collection<? extends org.assertj.examples.data.BasketBallPlayer> players) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer collection is not null.
+    if (players == null) {
+      failWithMessage("Expecting players parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContains(info, actual.getPlayers(), players.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's players contains <b>only</b> the given org.assertj.examples.data.BasketBallPlayer elements and nothing else in whatever order.
+   * @param players the given elements that should be contained in actual BatchingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BatchingTeamManager's players does not contain all given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S hasOnlyPlayers(org.assertj.examples.data.BasketBallPlayer... players) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer varargs is not null.
+    if (players == null) failWithMessage("Expecting players parameter not to be null.");
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContainsOnly(info, actual.getPlayers(), players);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's players contains <b>only</b> the given org.assertj.examples.data.BasketBallPlayer elements in Collection and nothing else in whatever order.
+   * @param players the given elements that should be contained in actual BatchingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BatchingTeamManager's players does not contain all given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S hasOnlyPlayers(java.util.Collection<? extends org.assertj.examples.data.BasketBallPlayer> players) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer collection is not null.
+    if (players == null) {
+      failWithMessage("Expecting players parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContainsOnly(info, actual.getPlayers(), players.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's players does not contain the given org.assertj.examples.data.BasketBallPlayer elements.
+   *
+   * @param players the given elements that should not be in actual BatchingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BatchingTeamManager's players contains any given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S doesNotHavePlayers(org.assertj.examples.data.BasketBallPlayer... players) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer varargs is not null.
+    if (players == null) failWithMessage("Expecting players parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Iterables.instance().assertDoesNotContain(info, actual.getPlayers(), players);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's players does not contain the given org.assertj.examples.data.BasketBallPlayer elements in Collection.
+   *
+   * @param players the given elements that should not be in actual BatchingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BatchingTeamManager's players contains any given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S doesNotHavePlayers(java.util.Collection<? extends org.assertj.examples.data.BasketBallPlayer> players) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer collection is not null.
+    if (players == null) {
+      failWithMessage("Expecting players parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Iterables.instance().assertDoesNotContain(info, actual.getPlayers(), players.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager has no players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual BatchingTeamManager's players is not empty.
+   */
+  public S hasNoPlayers() {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have players but had :\n  <%s>";
+
+    // check
+    if (actual.getPlayers().iterator().hasNext()) {
+      failWithMessage(assertjErrorMessage, actual, actual.getPlayers());
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual BatchingTeamManager's batchSizes is equal to the given one.
+   * @param batchSizes the given batchSizes to compare the actual BatchingTeamManager's batchSizes to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BatchingTeamManager's batchSizes is not equal to the given one.
+   */
+  public S hasBatchSizes(org.assertj.examples.data.Histogram batchSizes) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting batchSizes of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.assertj.examples.data.Histogram actualBatchSizes = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("batchSizes", org.assertj.examples.data.Histogram.class, actual);
+    if (!Objects.deepEquals(actualBatchSizes, batchSizes)) {
+      failWithMessage(assertjErrorMessage, actual, batchSizes, actualBatchSizes);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager is closed.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BatchingTeamManager is not closed.
+   */
+  public S isClosed() {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that property call/field access is true
+    if (!org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("closed", Boolean.class, actual)) {
+      failWithMessage("\nExpecting that actual BatchingTeamManager is closed but is not.");
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager is not closed.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BatchingTeamManager is closed.
+   */
+  public S isNotClosed() {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that property call/field access is false
+    if (org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("closed", Boolean.class, actual)) {
+      failWithMessage("\nExpecting that actual BatchingTeamManager is not closed but is.");
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's lock is equal to the given one.
+   * @param lock the given lock to compare the actual BatchingTeamManager's lock to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BatchingTeamManager's lock is not equal to the given one.
+   */
+  public S hasLock(Object lock) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting lock of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    Object actualLock = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("lock", Object.class, actual);
+    if (!Objects.deepEquals(actualLock, lock)) {
+      failWithMessage(assertjErrorMessage, actual, lock, actualLock);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's maxBatchSize is equal to the given one.
+   * @param maxBatchSize the given maxBatchSize to compare the actual BatchingTeamManager's maxBatchSize to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BatchingTeamManager's maxBatchSize is not equal to the given one.
+   */
+  public S hasMaxBatchSize(int maxBatchSize) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting maxBatchSize of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    int actualMaxBatchSize = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("maxBatchSize", int.class, actual);
+    if (actualMaxBatchSize != maxBatchSize) {
+      failWithMessage(assertjErrorMessage, actual, maxBatchSize, actualMaxBatchSize);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's openBatch is equal to the given one.
+   * @param openBatch the given openBatch to compare the actual BatchingTeamManager's openBatch to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BatchingTeamManager's openBatch is not equal to the given one.
+   */
+  public S hasOpenBatch(BatchingTeamManager.Batch openBatch) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting openBatch of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    BatchingTeamManager.Batch actualOpenBatch = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("openBatch", BatchingTeamManager.Batch.class, actual);
+    if (!Objects.deepEquals(actualOpenBatch, openBatch)) {
+      failWithMessage(assertjErrorMessage, actual, openBatch, actualOpenBatch);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's teamManager is equal to the given one.
+   * @param teamManager the given teamManager to compare the actual BatchingTeamManager's teamManager to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BatchingTeamManager's teamManager is not equal to the given one.
+   */
+  public S hasTeamManager(TeamManager teamManager) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting teamManager of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    TeamManager actualTeamManager = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("teamManager", TeamManager.class, actual);
+    if (!Objects.deepEquals(actualTeamManager, teamManager)) {
+      failWithMessage(assertjErrorMessage, actual, teamManager, actualTeamManager);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's waitTimesNanos is equal to the given one.
+   * @param waitTimesNanos the given waitTimesNanos to compare the actual BatchingTeamManager's waitTimesNanos to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BatchingTeamManager's waitTimesNanos is not equal to the given one.
+   */
+  public S hasWaitTimesNanos(org.assertj.examples.data.Histogram waitTimesNanos) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting waitTimesNanos of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    org.assertj.examples.data.Histogram actualWaitTimesNanos = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("waitTimesNanos", org.assertj.examples.data.Histogram.class, actual);
+    if (!Objects.deepEquals(actualWaitTimesNanos, waitTimesNanos)) {
+      failWithMessage(assertjErrorMessage, actual, waitTimesNanos, actualWaitTimesNanos);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual BatchingTeamManager's windowNanos is equal to the given one.
+   * @param windowNanos the given windowNanos to compare the actual BatchingTeamManager's windowNanos to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual BatchingTeamManager's windowNanos is not equal to the given one.
+   */
+  public S hasWindowNanos(long windowNanos) {
+    // check that actual BatchingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting windowNanos of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualWindowNanos = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("windowNanos", long.class, actual);
+    if (actualWindowNanos != windowNanos) {
+      failWithMessage(assertjErrorMessage, actual, windowNanos, actualWindowNanos);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
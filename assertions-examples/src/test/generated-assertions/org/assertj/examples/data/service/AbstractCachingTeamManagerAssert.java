@@ -0,0 +1,220 @@
+package org.assertj.examples.data.service;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.internal.Iterables;
+
+/**
+ * Abstract base class for {@link CachingTeamManager} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractCachingTeamManagerAssert<S extends AbstractCachingTeamManagerAssert<S, A>, A extends CachingTeamManager> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractCachingTeamManagerAssert}</code> to make assertions on actual CachingTeamManager.
+   * @param actual the CachingTeamManager we want to make assertions on.
+   */
+  protected AbstractCachingTeamManagerAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual CachingTeamManager's players contains the given org.assertj.examples.data.BasketBallPlayer elements.
+   * @param players the given elements that should be contained in actual CachingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual CachingTeamManager's players does not contain all given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S hasPlayers(org.assertj.examples.data.BasketBallPlayer... players) {
+    // check that actual CachingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer varargs is not null.
+    if (players == null) failWithMessage("Expecting players parameter not to be null.");
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContains(info, actual.getPlayers(), players);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingTeamManager's players contains the given org.assertj.examples.data.BasketBallPlayer elements in Collection.
+   * @param players the given elements that should be contained in actual CachingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual CachingTeamManager's players does not contain all given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S hasPlayers(java.util.Collection<? extends org.assertj.examples.data.BasketBallPlayer> players) {
+    // check that actual CachingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer collection is not null.
+    if (players == null) {
+      failWithMessage("Expecting players parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContains(info, actual.getPlayers(), players.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingTeamManager's players contains <b>only</b> the given org.assertj.examples.data.BasketBallPlayer elements and nothing else in whatever order.
+   * @param players the given elements that should be contained in actual CachingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual CachingTeamManager's players does not contain all given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S hasOnlyPlayers(org.assertj.examples.data.BasketBallPlayer... players) {
+    // check that actual CachingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer varargs is not null.
+    if (players == null) failWithMessage("Expecting players parameter not to be null.");
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContainsOnly(info, actual.getPlayers(), players);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingTeamManager's players contains <b>only</b> the given org.assertj.examples.data.BasketBallPlayer elements in Collection and nothing else in whatever order.
+   * @param players the given elements that should be contained in actual CachingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual CachingTeamManager's players does not contain all given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S hasOnlyPlayers(java.util.Collection<? extends org.assertj.examples.data.BasketBallPlayer> players) {
+    // check that actual CachingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer collection is not null.
+    if (players == null) {
+      failWithMessage("Expecting players parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message, to set another message call: info.overridingErrorMessage("my error message");
+    Iterables.instance().assertContainsOnly(info, actual.getPlayers(), players.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingTeamManager's players does not contain the given org.assertj.examples.data.BasketBallPlayer elements.
+   *
+   * @param players the given elements that should not be in actual CachingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual CachingTeamManager's players contains any given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S doesNotHavePlayers(org.assertj.examples.data.BasketBallPlayer... players) {
+    // check that actual CachingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer varargs is not null.
+    if (players == null) failWithMessage("Expecting players parameter not to be null.");
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Iterables.instance().assertDoesNotContain(info, actual.getPlayers(), players);
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingTeamManager's players does not contain the given org.assertj.examples.data.BasketBallPlayer elements in Collection.
+   *
+   * @param players the given elements that should not be in actual CachingTeamManager's players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual CachingTeamManager's players contains any given org.assertj.examples.data.BasketBallPlayer elements.
+   */
+  public S doesNotHavePlayers(java.util.Collection<? extends org.assertj.examples.data.BasketBallPlayer> players) {
+    // check that actual CachingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that given org.assertj.examples.data.BasketBallPlayer collection is not null.
+    if (players == null) {
+      failWithMessage("Expecting players parameter not to be null.");
+      return myself; // to fool Eclipse "Null pointer access" warning on toArray.
+    }
+
+    // check with standard error message (use overridingErrorMessage before contains to set your own message).
+    Iterables.instance().assertDoesNotContain(info, actual.getPlayers(), players.toArray());
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingTeamManager has no players.
+   * @return this assertion object.
+   * @throws AssertionError if the actual CachingTeamManager's players is not empty.
+   */
+  public S hasNoPlayers() {
+    // check that actual CachingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // we override the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting :\n  <%s>\nnot to have players but had :\n  <%s>";
+
+    // check
+    if (actual.getPlayers().iterator().hasNext()) {
+      failWithMessage(assertjErrorMessage, actual, actual.getPlayers());
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+
+  /**
+   * Verifies that the actual CachingTeamManager's refresher is equal to the given one.
+   * @param refresher the given refresher to compare the actual CachingTeamManager's refresher to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CachingTeamManager's refresher is not equal to the given one.
+   */
+  public S hasRefresher(java.util.concurrent.ExecutorService refresher) {
+    // check that actual CachingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting refresher of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.ExecutorService actualRefresher = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("refresher", java.util.concurrent.ExecutorService.class, actual);
+    if (!Objects.deepEquals(actualRefresher, refresher)) {
+      failWithMessage(assertjErrorMessage, actual, refresher, actualRefresher);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual CachingTeamManager's roster is equal to the given one.
+   * @param roster the given roster to compare the actual CachingTeamManager's roster to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual CachingTeamManager's roster is not equal to the given one.
+   */
+  public S hasRoster(com.google.common.cache.LoadingCache roster) {
+    // check that actual CachingTeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting roster of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    com.google.common.cache.LoadingCache actualRoster = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("roster", com.google.common.cache.LoadingCache.class, actual);
+    if (!Objects.deepEquals(actualRoster, roster)) {
+      failWithMessage(assertjErrorMessage, actual, roster, actualRoster);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
@@ -0,0 +1,112 @@
+package org.assertj.examples.data.service;
+
+import java.util.Objects;
+import org.assertj.core.api.AbstractObjectAssert;
+
+/**
+ * Abstract base class for {@link GameScheduler} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractGameSchedulerAssert<S extends AbstractGameSchedulerAssert<S, A>, A extends GameScheduler> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractGameSchedulerAssert}</code> to make assertions on actual GameScheduler.
+   * @param actual the GameScheduler we want to make assertions on.
+   */
+  protected AbstractGameSchedulerAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual GameScheduler's executor is equal to the given one.
+   * @param executor the given executor to compare the actual GameScheduler's executor to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler's executor is not equal to the given one.
+   */
+  public S hasExecutor(java.util.concurrent.ExecutorService executor) {
+    // check that actual GameScheduler we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting executor of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.ExecutorService actualExecutor = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("executor", java.util.concurrent.ExecutorService.class, actual);
+    if (!Objects.deepEquals(actualExecutor, executor)) {
+      failWithMessage(assertjErrorMessage, actual, executor, actualExecutor);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual GameScheduler's gameService is equal to the given one.
+   * @param gameService the given gameService to compare the actual GameScheduler's gameService to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler's gameService is not equal to the given one.
+   */
+  public S hasGameService(GameService gameService) {
+    // check that actual GameScheduler we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting gameService of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    GameService actualGameService = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("gameService", GameService.class, actual);
+    if (!Objects.deepEquals(actualGameService, gameService)) {
+      failWithMessage(assertjErrorMessage, actual, gameService, actualGameService);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual GameScheduler's gameTimeout is equal to the given one.
+   * @param gameTimeout the given gameTimeout to compare the actual GameScheduler's gameTimeout to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler's gameTimeout is not equal to the given one.
+   */
+  public S hasGameTimeout(java.time.Duration gameTimeout) {
+    // check that actual GameScheduler we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting gameTimeout of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.time.Duration actualGameTimeout = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("gameTimeout", java.time.Duration.class, actual);
+    if (!Objects.deepEquals(actualGameTimeout, gameTimeout)) {
+      failWithMessage(assertjErrorMessage, actual, gameTimeout, actualGameTimeout);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual GameScheduler's timeouts is equal to the given one.
+   * @param timeouts the given timeouts to compare the actual GameScheduler's timeouts to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler's timeouts is not equal to the given one.
+   */
+  public S hasTimeouts(java.util.concurrent.ScheduledExecutorService timeouts) {
+    // check that actual GameScheduler we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting timeouts of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // null safe check
+    java.util.concurrent.ScheduledExecutorService actualTimeouts = org.assertj.core.util.introspection.FieldSupport.EXTRACTION.fieldValue("timeouts", java.util.concurrent.ScheduledExecutorService.class, actual);
+    if (!Objects.deepEquals(actualTimeouts, timeouts)) {
+      failWithMessage(assertjErrorMessage, actual, timeouts, actualTimeouts);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
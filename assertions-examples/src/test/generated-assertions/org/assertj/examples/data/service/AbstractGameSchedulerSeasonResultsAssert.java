@@ -0,0 +1,207 @@
+package org.assertj.examples.data.service;
+
+import org.assertj.core.api.AbstractObjectAssert;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Abstract base class for {@link GameScheduler.SeasonResults} specific assertions - Generated by CustomAssertionGenerator.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public abstract class AbstractGameSchedulerSeasonResultsAssert<S extends AbstractGameSchedulerSeasonResultsAssert<S, A>, A extends GameScheduler.SeasonResults> extends AbstractObjectAssert<S, A> {
+
+  /**
+   * Creates a new <code>{@link AbstractGameSchedulerSeasonResultsAssert}</code> to make assertions on actual GameScheduler.SeasonResults.
+   * @param actual the GameScheduler.SeasonResults we want to make assertions on.
+   */
+  protected AbstractGameSchedulerSeasonResultsAssert(A actual, Class<S> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual GameScheduler.SeasonResults's elapsedNanos is equal to the given one.
+   * @param elapsedNanos the given elapsedNanos to compare the actual GameScheduler.SeasonResults's elapsedNanos to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler.SeasonResults's elapsedNanos is not equal to the given one.
+   */
+  public S hasElapsedNanos(long elapsedNanos) {
+    // check that actual GameScheduler.SeasonResults we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting elapsedNanos of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualElapsedNanos = actual.getElapsedNanos();
+    if (actualElapsedNanos != elapsedNanos) {
+      failWithMessage(assertjErrorMessage, actual, elapsedNanos, actualElapsedNanos);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual GameScheduler.SeasonResults's failed is equal to the given one.
+   * @param failed the given failed to compare the actual GameScheduler.SeasonResults's failed to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler.SeasonResults's failed is not equal to the given one.
+   */
+  public S hasFailed(long failed) {
+    // check that actual GameScheduler.SeasonResults we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting failed of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualFailed = actual.getFailed();
+    if (actualFailed != failed) {
+      failWithMessage(assertjErrorMessage, actual, failed, actualFailed);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual GameScheduler.SeasonResults's games is equal to the given one.
+   * @param games the given games to compare the actual GameScheduler.SeasonResults's games to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler.SeasonResults's games is not equal to the given one.
+   */
+  public S hasGames(long games) {
+    // check that actual GameScheduler.SeasonResults we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting games of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualGames = actual.getGames();
+    if (actualGames != games) {
+      failWithMessage(assertjErrorMessage, actual, games, actualGames);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual GameScheduler.SeasonResults's gamesPerSecond is equal to the given one.
+   * @param gamesPerSecond the given gamesPerSecond to compare the actual GameScheduler.SeasonResults's gamesPerSecond to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler.SeasonResults's gamesPerSecond is not equal to the given one.
+   */
+  public S hasGamesPerSecond(double gamesPerSecond) {
+    // check that actual GameScheduler.SeasonResults we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting gamesPerSecond of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check value for gamesPerSecond
+    double actualGamesPerSecond = actual.getGamesPerSecond();
+    if (actualGamesPerSecond != gamesPerSecond) {
+      failWithMessage(assertjErrorMessage, actual, gamesPerSecond, actualGamesPerSecond);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual GameScheduler.SeasonResults's gamesPerSecond is close to the given value by less than the given offset.
+   * <p>
+   * If difference is equal to the offset value, assertion is considered successful.
+   * @param gamesPerSecond the value to compare the actual GameScheduler.SeasonResults's gamesPerSecond to.
+   * @param assertjOffset the given offset.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler.SeasonResults's gamesPerSecond is not close enough to the given value.
+   */
+  public S hasGamesPerSecondCloseTo(double gamesPerSecond, double assertjOffset) {
+    // check that actual GameScheduler.SeasonResults we want to make assertions on is not null.
+    isNotNull();
+
+    double actualGamesPerSecond = actual.getGamesPerSecond();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = String.format("\nExpecting gamesPerSecond:\n  <%s>\nto be close to:\n  <%s>\nby less than <%s> but difference was <%s>",
+                                               actualGamesPerSecond, gamesPerSecond, assertjOffset, Math.abs(gamesPerSecond - actualGamesPerSecond));
+
+    // check
+    Assertions.assertThat(actualGamesPerSecond).overridingErrorMessage(assertjErrorMessage).isCloseTo(gamesPerSecond, Assertions.within(assertjOffset));
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual GameScheduler.SeasonResults's notPlayed is equal to the given one.
+   * @param notPlayed the given notPlayed to compare the actual GameScheduler.SeasonResults's notPlayed to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler.SeasonResults's notPlayed is not equal to the given one.
+   */
+  public S hasNotPlayed(long notPlayed) {
+    // check that actual GameScheduler.SeasonResults we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting notPlayed of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualNotPlayed = actual.getNotPlayed();
+    if (actualNotPlayed != notPlayed) {
+      failWithMessage(assertjErrorMessage, actual, notPlayed, actualNotPlayed);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual GameScheduler.SeasonResults's played is equal to the given one.
+   * @param played the given played to compare the actual GameScheduler.SeasonResults's played to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler.SeasonResults's played is not equal to the given one.
+   */
+  public S hasPlayed(long played) {
+    // check that actual GameScheduler.SeasonResults we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting played of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualPlayed = actual.getPlayed();
+    if (actualPlayed != played) {
+      failWithMessage(assertjErrorMessage, actual, played, actualPlayed);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual GameScheduler.SeasonResults's timedOut is equal to the given one.
+   * @param timedOut the given timedOut to compare the actual GameScheduler.SeasonResults's timedOut to.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual GameScheduler.SeasonResults's timedOut is not equal to the given one.
+   */
+  public S hasTimedOut(long timedOut) {
+    // check that actual GameScheduler.SeasonResults we want to make assertions on is not null.
+    isNotNull();
+
+    // overrides the default error message with a more explicit one
+    String assertjErrorMessage = "\nExpecting timedOut of:\n  <%s>\nto be:\n  <%s>\nbut was:\n  <%s>";
+
+    // check
+    long actualTimedOut = actual.getTimedOut();
+    if (actualTimedOut != timedOut) {
+      failWithMessage(assertjErrorMessage, actual, timedOut, actualTimedOut);
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+}
@@ -170,4 +170,40 @@ public abstract class AbstractTeamManagerAssert<S extends AbstractTeamManagerAss
   }
 
 
+  /**
+   * Verifies that the actual TeamManager has players.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TeamManager does not have players.
+   */
+  public S hasPlayers() {
+    // check that actual TeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that property call/field access is true
+    if (!actual.hasPlayers()) {
+      failWithMessage("\nExpecting that actual TeamManager has players but does not have.");
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual TeamManager does not have players.
+   * @return this assertion object.
+   * @throws AssertionError - if the actual TeamManager has players.
+   */
+  public S doesNotHavePlayers() {
+    // check that actual TeamManager we want to make assertions on is not null.
+    isNotNull();
+
+    // check that property call/field access is false
+    if (actual.hasPlayers()) {
+      failWithMessage("\nExpecting that actual TeamManager does not have players but has.");
+    }
+
+    // return the current assertion for method chaining
+    return myself;
+  }
+
 }
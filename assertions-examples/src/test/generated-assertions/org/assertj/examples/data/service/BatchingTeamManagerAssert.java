@@ -0,0 +1,30 @@
+package org.assertj.examples.data.service;
+
+/**
+ * {@link BatchingTeamManager} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractBatchingTeamManagerAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class BatchingTeamManagerAssert extends AbstractBatchingTeamManagerAssert<BatchingTeamManagerAssert, BatchingTeamManager> {
+
+  /**
+   * Creates a new <code>{@link BatchingTeamManagerAssert}</code> to make assertions on actual BatchingTeamManager.
+   * @param actual the BatchingTeamManager we want to make assertions on.
+   */
+  public BatchingTeamManagerAssert(BatchingTeamManager actual) {
+    super(actual, BatchingTeamManagerAssert.class);
+  }
+
+  /**
+   * An entry point for BatchingTeamManagerAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myBatchingTeamManager)</code> and get specific assertion with code completion.
+   * @param actual the BatchingTeamManager we want to make assertions on.
+   * @return a new <code>{@link BatchingTeamManagerAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static BatchingTeamManagerAssert assertThat(BatchingTeamManager actual) {
+    return new BatchingTeamManagerAssert(actual);
+  }
+}
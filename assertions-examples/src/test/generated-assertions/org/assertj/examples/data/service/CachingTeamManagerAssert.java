@@ -0,0 +1,30 @@
+package org.assertj.examples.data.service;
+
+/**
+ * {@link CachingTeamManager} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractCachingTeamManagerAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class CachingTeamManagerAssert extends AbstractCachingTeamManagerAssert<CachingTeamManagerAssert, CachingTeamManager> {
+
+  /**
+   * Creates a new <code>{@link CachingTeamManagerAssert}</code> to make assertions on actual CachingTeamManager.
+   * @param actual the CachingTeamManager we want to make assertions on.
+   */
+  public CachingTeamManagerAssert(CachingTeamManager actual) {
+    super(actual, CachingTeamManagerAssert.class);
+  }
+
+  /**
+   * An entry point for CachingTeamManagerAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myCachingTeamManager)</code> and get specific assertion with code completion.
+   * @param actual the CachingTeamManager we want to make assertions on.
+   * @return a new <code>{@link CachingTeamManagerAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static CachingTeamManagerAssert assertThat(CachingTeamManager actual) {
+    return new CachingTeamManagerAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data.service;
+
+/**
+ * {@link GameScheduler} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractGameSchedulerAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class GameSchedulerAssert extends AbstractGameSchedulerAssert<GameSchedulerAssert, GameScheduler> {
+
+  /**
+   * Creates a new <code>{@link GameSchedulerAssert}</code> to make assertions on actual GameScheduler.
+   * @param actual the GameScheduler we want to make assertions on.
+   */
+  public GameSchedulerAssert(GameScheduler actual) {
+    super(actual, GameSchedulerAssert.class);
+  }
+
+  /**
+   * An entry point for GameSchedulerAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myGameScheduler)</code> and get specific assertion with code completion.
+   * @param actual the GameScheduler we want to make assertions on.
+   * @return a new <code>{@link GameSchedulerAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static GameSchedulerAssert assertThat(GameScheduler actual) {
+    return new GameSchedulerAssert(actual);
+  }
+}
@@ -0,0 +1,30 @@
+package org.assertj.examples.data.service;
+
+/**
+ * {@link GameScheduler.SeasonResults} specific assertions - Generated by CustomAssertionGenerator.
+ *
+ * Although this class is not final to allow Soft assertions proxy, if you wish to extend it, 
+ * extend {@link AbstractGameSchedulerSeasonResultsAssert} instead.
+ */
+@javax.annotation.Generated(value="assertj-assertions-generator")
+public class GameSchedulerSeasonResultsAssert extends AbstractGameSchedulerSeasonResultsAssert<GameSchedulerSeasonResultsAssert, GameScheduler.SeasonResults> {
+
+  /**
+   * Creates a new <code>{@link GameSchedulerSeasonResultsAssert}</code> to make assertions on actual GameScheduler.SeasonResults.
+   * @param actual the GameScheduler.SeasonResults we want to make assertions on.
+   */
+  public GameSchedulerSeasonResultsAssert(GameScheduler.SeasonResults actual) {
+    super(actual, GameSchedulerSeasonResultsAssert.class);
+  }
+
+  /**
+   * An entry point for GameSchedulerSeasonResultsAssert to follow AssertJ standard <code>assertThat()</code> statements.<br>
+   * With a static import, one can write directly: <code>assertThat(myGameScheduler.SeasonResults)</code> and get specific assertion with code completion.
+   * @param actual the GameScheduler.SeasonResults we want to make assertions on.
+   * @return a new <code>{@link GameSchedulerSeasonResultsAssert}</code>
+   */
+  @org.assertj.core.util.CheckReturnValue
+  public static GameSchedulerSeasonResultsAssert assertThat(GameScheduler.SeasonResults actual) {
+    return new GameSchedulerSeasonResultsAssert(actual);
+  }
+}
@@ -13,8 +13,10 @@
 package org.assertj.examples;
 
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 
 import java.util.ArrayList;
@@ -36,7 +38,8 @@ import org.junit.jupiter.api.Test;
  */
 public class BDDAssertionsExamples extends AbstractAssertionsExamples {
 
-  private TeamManager teamManager = mock(TeamManager.class);
+  // default methods like hasPlayers() are called for real and use the stubbed getPlayers()
+  private TeamManager teamManager = mock(TeamManager.class, CALLS_REAL_METHODS);
 
   private GameService sut = new GameService(teamManager); // system under test
 
@@ -51,6 +54,19 @@ public class BDDAssertionsExamples extends AbstractAssertionsExamples {
     then(result).isTrue();
   }
 
+  @Test
+  public void given_when_then_with_paged_players() {
+
+    // given
+    TeamManager bulls = () -> asList(rose, noah, james);
+
+    // when
+    List<List<BasketBallPlayer>> pages = bulls.players(2).collect(toList());
+
+    then(pages).containsExactly(asList(rose, noah), asList(james));
+    then(bulls.playerCount()).isEqualTo(3);
+  }
+
   @Test
   public void bdd_host_dinner_party_where_nobody_dies() {
 
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.LongUnaryOperator;
 
 import org.assertj.core.api.AutoCloseableBDDSoftAssertions;
 import org.assertj.core.api.AutoCloseableSoftAssertions;
@@ -31,6 +32,7 @@ import org.assertj.core.api.BDDSoftAssertions;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.util.Arrays;
 import org.assertj.examples.custom.MyProjectAssertions;
+import org.assertj.examples.data.DinnerPartySimulator;
 import org.assertj.examples.data.Mansion;
 import org.assertj.examples.data.TolkienCharacter;
 import org.junit.jupiter.api.Test;
@@ -375,6 +377,34 @@ public class SoftAssertionsExamples extends AbstractAssertionsExamples {
     }
   }
 
+  @Test
+  void simulated_dinner_parties_soft_assertions_example() {
+    DinnerPartySimulator simulator = new DinnerPartySimulator();
+    // each party starts in a random mansion and ends like the reference party for that mansion
+    assertThat(simulator.run(100_000).getFailedParties()).isZero();
+
+    // a harmless party would leave the mansion as it was, it is the case when the library was already messy, the
+    // candlestick bent and the professor bloodied and disheveled: about one mansion out of 8
+    DinnerPartySimulator.Report report = simulator.run(1_000_000, 42, LongUnaryOperator.identity());
+
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(report.getParties()).as("Parties").isEqualTo(1_000_000);
+    softly.assertThat(report.getFailedParties()).as("Parties where somebody got hurt")
+          .isBetween(850_000L, 900_000L);
+    softly.assertThat(report.getFailuresBySlot()).as("Failures by mansion part")
+          .containsEntry("guests", 0L)
+          .containsEntry("revolverAmmo", 0L)
+          .containsEntry("kitchen", 0L)
+          .containsEntry("colonel", 0L);
+    softly.assertThat(report.getFailuresBySlot().get("library")).as("Messed up libraries")
+          .isBetween(450_000L, 550_000L);
+    softly.assertThat(report.getFailuresBySlot().get("candlestick")).as("Bent candlesticks")
+          .isBetween(450_000L, 550_000L);
+    softly.assertThat(report.getFailuresBySlot().get("professor")).as("Bloodied professors")
+          .isBetween(450_000L, 550_000L);
+    softly.assertAll();
+  }
+
   class Example implements Comparable<Example> {
 
     int id;
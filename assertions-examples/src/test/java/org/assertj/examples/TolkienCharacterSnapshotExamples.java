@@ -0,0 +1,97 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.examples.data.Race.DWARF;
+import static org.assertj.examples.data.Race.ELF;
+import static org.assertj.examples.data.Race.HOBBIT;
+import static org.assertj.examples.data.Race.MAIA;
+import static org.assertj.examples.data.Race.MAN;
+import static org.assertj.examples.extractor.TolkienCharacterSnapshotExtractors.age;
+import static org.assertj.examples.extractor.TolkienCharacterSnapshotExtractors.ageAndRace;
+import static org.assertj.examples.extractor.TolkienCharacterSnapshotExtractors.race;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.assertj.examples.comparator.SnapshotAgeComparator;
+import org.assertj.examples.data.TolkienCharacter;
+import org.assertj.examples.data.TolkienCharacterSnapshot;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Assertions examples on {@link TolkienCharacterSnapshot}, immutable copies of live characters.
+ */
+public class TolkienCharacterSnapshotExamples extends AbstractAssertionsExamples {
+
+  private final Comparator<TolkienCharacterSnapshot> snapshotAgeComparator = new SnapshotAgeComparator();
+
+  @Test
+  public void snapshot_assertions_examples() {
+    List<TolkienCharacterSnapshot> fellowship = TolkienCharacterSnapshot.snapshot(fellowshipOfTheRing);
+
+    assertThat(fellowship).hasSameSizeAs(fellowshipOfTheRing)
+                          .extracting(TolkienCharacterSnapshot::toCharacter)
+                          .containsExactlyElementsOf(fellowshipOfTheRing);
+    assertThat(fellowship).extracting(TolkienCharacterSnapshot::getSurname)
+                          .contains("Frodo the Hobbit", "Gandalf the Maia");
+    // same hash code as the live characters
+    assertThat(fellowship).extracting(TolkienCharacterSnapshot::hashCode)
+                          .containsExactlyElementsOf(fellowshipOfTheRing.stream().map(Object::hashCode)
+                                                                        .collect(toList()));
+  }
+
+  @Test
+  public void snapshot_is_not_affected_by_live_changes_example() {
+    TolkienCharacterSnapshot frodoAtTheShire = TolkienCharacterSnapshot.of(frodo);
+
+    frodo.age = 50;
+
+    assertThat(frodoAtTheShire.getAge()).isEqualTo(33);
+    assertThat(frodoAtTheShire).isNotEqualTo(TolkienCharacterSnapshot.of(frodo))
+                               .isEqualTo(TolkienCharacterSnapshot.of(new TolkienCharacter("Frodo", 33, HOBBIT)));
+  }
+
+  @Test
+  public void snapshot_comparator_examples() {
+    List<TolkienCharacterSnapshot> fellowship = TolkienCharacterSnapshot.snapshot(fellowshipOfTheRing);
+    fellowship.sort(snapshotAgeComparator);
+
+    assertThat(fellowship).isSortedAccordingTo(snapshotAgeComparator)
+                          .extracting(TolkienCharacterSnapshot::getName)
+                          .startsWith("Pippin", "Frodo", "Merry")
+                          .endsWith("Gandalf");
+    // a snapshot of the same age as Frodo is considered equal
+    assertThat(fellowship).usingElementComparator(snapshotAgeComparator)
+                          .contains(TolkienCharacterSnapshot.of(new TolkienCharacter("Old Frodo", 33, MAN)));
+  }
+
+  @Test
+  public void snapshot_extractors_examples() {
+    List<TolkienCharacterSnapshot> fellowship = TolkienCharacterSnapshot.snapshot(fellowshipOfTheRing);
+
+    assertThat(fellowship).extracting(race())
+                          .containsOnly(HOBBIT, MAIA, ELF, DWARF, MAN);
+    assertThat(fellowship).extracting(age())
+                          .contains(33, 38, 2020);
+    assertThat(fellowship).extracting(ageAndRace())
+                          .contains(tuple(33, HOBBIT), tuple(1000, ELF));
+    // extract on the public age field, like for TolkienCharacter
+    assertThat(fellowship).extracting("age", Integer.class)
+                          .contains(139);
+  }
+
+}
@@ -0,0 +1,33 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.comparator;
+
+import java.util.Comparator;
+
+import org.assertj.examples.data.TolkienCharacterSnapshot;
+
+/**
+ * Compare {@link TolkienCharacterSnapshot} age, like {@link AgeComparator} but without volatile reads.
+ */
+public class SnapshotAgeComparator implements Comparator<TolkienCharacterSnapshot> {
+  @Override
+  public int compare(TolkienCharacterSnapshot snapshot1, TolkienCharacterSnapshot snapshot2) {
+    return Integer.compare(snapshot1.age, snapshot2.age);
+  }
+
+  @Override
+  public String toString() {
+    return "TolkienCharacterSnapshotAgeComparator";
+  }
+
+}
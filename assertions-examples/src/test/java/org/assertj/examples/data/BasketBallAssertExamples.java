@@ -12,6 +12,8 @@
  */
 package org.assertj.examples.data;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import org.assertj.examples.AbstractAssertionsExamples;
 import org.assertj.examples.exception.NameException;
 import org.junit.jupiter.api.Test;
@@ -42,4 +44,26 @@ public class BasketBallAssertExamples extends AbstractAssertionsExamples {
     rose.setWeight(189.5f);
     BasketBallPlayerAssert.assertThat(rose).hasSizeCloseTo(6.2, 0.1).hasWeightCloseTo(189, 0.51f);
   }
+
+  @Test
+  public void basketBallPlayer_points_assertion() {
+    BasketBallPlayer curry = new BasketBallPlayer(new Name("Stephen", "Curry"), "Warriors");
+    curry.getPointsLog().addGame(30, 6, 5);
+    curry.getPointsLog().addGame(40, 8, 7);
+    // getPoints() is a view over the player's PointsLog
+    curry.getPoints().add(new int[] { 20, 4, 3 });
+
+    BasketBallPlayerAssert.assertThat(curry).hasPoints(new int[] { 40, 8, 7 })
+                          .hasOnlyPoints(new int[] { 30, 6, 5 }, new int[] { 40, 8, 7 }, new int[] { 20, 4, 3 });
+    assertThat(curry.getPointsLog().totalPoints()).isEqualTo(90);
+    assertThat(curry.getPointsLog().averageAssists()).isEqualTo(6.0);
+    assertThat(curry.getPoints()).isSameAs(curry.getPoints());
+
+    // the log does not depend on the way it was filled
+    BasketBallPlayer curryAgain = new BasketBallPlayer(new Name("Stephen", "Curry"), "Warriors");
+    curryAgain.getPoints().add(new int[] { 30, 6, 5 });
+    curryAgain.getPoints().add(new int[] { 40, 8, 7 });
+    curryAgain.getPointsLog().addGame(20, 4, 3);
+    assertThat(curryAgain).usingRecursiveComparison().isEqualTo(curry);
+  }
 }
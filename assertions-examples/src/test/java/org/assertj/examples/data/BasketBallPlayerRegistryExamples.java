@@ -0,0 +1,64 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.examples.AbstractAssertionsExamples;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link BasketBallPlayerRegistry} usage examples.
+ */
+public class BasketBallPlayerRegistryExamples extends AbstractAssertionsExamples {
+
+  @Test
+  public void registry_team_mates_examples() {
+    BasketBallPlayerRegistry registry = BasketBallPlayerRegistry.of(basketBallPlayers);
+    int roseId = registry.idOf(rose);
+    int jamesId = registry.idOf(james);
+    int wadeId = registry.idOf(wade);
+
+    assertThat(registry.size()).isEqualTo(basketBallPlayers.size());
+    assertThat(registry.areTeamMates(roseId, jamesId)).isTrue();
+    assertThat(registry.areTeamMates(wadeId, roseId)).isTrue();
+    assertThat(registry.areTeamMates(roseId, registry.idOf(durant))).isFalse();
+    assertThat(registry.teamMatesCount(registry.idOf(noah))).isZero();
+
+    List<BasketBallPlayer> roseTeamMates = new ArrayList<>();
+    registry.forEachTeamMate(roseId, id -> roseTeamMates.add(registry.player(id)));
+    assertThat(roseTeamMates).containsExactlyInAnyOrderElementsOf(rose.getTeamMates());
+  }
+
+  @Test
+  public void registry_team_mates_comparison_example() {
+    BasketBallPlayerRegistry registry = BasketBallPlayerRegistry.of(basketBallPlayers);
+    BasketBallPlayerRegistry sameRegistry = new BasketBallPlayerRegistry();
+    for (BasketBallPlayer player : basketBallPlayers) {
+      sameRegistry.register(player);
+    }
+    sameRegistry.linkTeamMates(sameRegistry.idOf(rose), sameRegistry.idOf(james));
+    sameRegistry.linkTeamMates(sameRegistry.idOf(james), sameRegistry.idOf(wade));
+    sameRegistry.linkTeamMates(sameRegistry.idOf(wade), sameRegistry.idOf(rose));
+    // linking twice has no effect
+    sameRegistry.linkTeamMates(sameRegistry.idOf(rose), sameRegistry.idOf(wade));
+
+    assertThat(registry.hasSameTeamMatesAs(sameRegistry)).isTrue();
+    assertThat(registry.hasSameTeamMatesAs(registry.idOf(rose), sameRegistry, sameRegistry.idOf(rose))).isTrue();
+    assertThat(registry.hasSameTeamMatesAs(registry.idOf(rose), sameRegistry, sameRegistry.idOf(noah))).isFalse();
+  }
+
+}
@@ -0,0 +1,45 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link EmployeeDirectory} usage examples.
+ */
+public class EmployeeDirectoryExamples {
+
+  private final Employee luke = new Employee("Luke", 26, "Rebels");
+  private final Employee leia = new Employee("Leia", 26, "Rebels");
+  private final Employee lando = new Employee("Lando", 40, "Cloud City");
+  private final Employee han = new Employee("Han", 32, "Rebels");
+  private final EmployeeOfTheMonth yoda = new EmployeeOfTheMonth("Yoda", 800, "Jedi");
+  private final Person vader = new Person("Vader", 45);
+
+  @Test
+  public void employee_directory_examples() {
+    EmployeeDirectory directory = EmployeeDirectory.of(luke, leia, vader, lando, han, yoda);
+
+    assertThat(directory.size()).isEqualTo(6);
+    assertThat(directory.employeesOf("Rebels")).containsExactly(luke, leia, han);
+    assertThat(directory.employeesOf("Empire")).isEmpty();
+    assertThat(directory.employeesOfTheMonth("July")).containsExactly(yoda);
+    assertThat(directory.namesStartingWith("L")).containsExactly(lando, leia, luke);
+    assertThat(directory.namesStartingWith("Le")).containsExactly(leia);
+    assertThat(directory.namesStartingWith("Lux")).isEmpty();
+    assertThat(directory.namesStartingWith("")).hasSize(6);
+  }
+
+}
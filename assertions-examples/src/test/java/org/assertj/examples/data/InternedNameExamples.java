@@ -0,0 +1,46 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.examples.AbstractAssertionsExamples;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link InternedName} usage examples.
+ */
+public class InternedNameExamples extends AbstractAssertionsExamples {
+
+  @Test
+  public void interned_name_examples() {
+    InternedName derrickRose = InternedName.of("Derrick", "Rose");
+
+    assertThat(InternedName.of(new Name("Derrick", "Rose"))).isSameAs(derrickRose);
+    assertThat(derrickRose).isNotEqualTo(InternedName.of("Derrick", "Roses"))
+                           .hasSameHashCodeAs(new Name("Derrick", "Rose"));
+    assertThat(derrickRose.toName()).isEqualTo(new Name("Derrick", "Rose"))
+                                    .isNotSameAs(derrickRose.toName());
+    assertThat(derrickRose.toString()).isSameAs(derrickRose.toString())
+                                      .isEqualTo("InternedName[first=Derrick, last=Rose]");
+  }
+
+  @Test
+  public void interned_name_compare_examples() {
+    assertThat(InternedName.of("Dwayne", "Wade")).isGreaterThan(InternedName.of("Derrick", "Rose"))
+                                                 .isGreaterThan(InternedName.of("Lebron", "Wad"))
+                                                 .isLessThan(InternedName.of("Dwayne", "Wadezz"))
+                                                 .isEqualByComparingTo(InternedName.of("John", "Wade"));
+  }
+
+}
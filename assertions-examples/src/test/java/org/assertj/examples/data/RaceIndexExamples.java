@@ -0,0 +1,58 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.examples.data.Alignment.EVIL;
+import static org.assertj.examples.data.Alignment.GOOD;
+import static org.assertj.examples.data.Race.ELF;
+import static org.assertj.examples.data.Race.HOBBIT;
+
+import java.util.BitSet;
+
+import org.assertj.examples.AbstractAssertionsExamples;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RaceIndex} usage examples.
+ */
+public class RaceIndexExamples extends AbstractAssertionsExamples {
+
+  @Test
+  public void race_index_examples() {
+    RaceIndex index = new RaceIndex(fellowshipOfTheRing);
+
+    assertThat(index.characters(index.withRace(HOBBIT))).containsExactly(frodo, sam, merry, pippin);
+    assertThat(index.count(HOBBIT)).isEqualTo(4);
+    assertThat(index.characters(index.mortals())).containsOnly(frodo, sam, merry, pippin, gimli, aragorn, boromir);
+
+    BitSet immortalGood = index.immortals();
+    immortalGood.and(index.withAlignment(GOOD));
+    assertThat(index.characters(immortalGood)).containsExactly(gandalf, legolas);
+    // the index has not been modified by the and operation
+    assertThat(index.characters(index.immortals())).containsExactly(gandalf, legolas);
+  }
+
+  @Test
+  public void race_index_should_follow_appended_characters() {
+    RaceIndex index = new RaceIndex(fellowshipOfTheRing);
+    assertThat(index.count(EVIL)).isZero();
+
+    index.add(guruk);
+    fellowshipOfTheRing.add(galadriel);
+
+    assertThat(index.characters(index.withAlignment(EVIL))).containsExactly(guruk);
+    assertThat(index.characters(index.withRace(ELF))).containsExactly(legolas, galadriel);
+  }
+
+}
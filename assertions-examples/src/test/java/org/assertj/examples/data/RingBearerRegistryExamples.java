@@ -0,0 +1,80 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.examples.data.Ring.narya;
+import static org.assertj.examples.data.Ring.nenya;
+import static org.assertj.examples.data.Ring.oneRing;
+import static org.assertj.examples.data.Ring.vilya;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.examples.AbstractAssertionsExamples;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link RingBearerRegistry} usage examples.
+ */
+public class RingBearerRegistryExamples extends AbstractAssertionsExamples {
+
+  @Test
+  public void ring_bearer_registry_examples() {
+    RingBearerRegistry registry = RingBearerRegistry.of(ringBearers);
+
+    assertThat(registry.snapshot()).isEqualTo(ringBearers);
+    assertThat(registry.bearerOf(oneRing)).isSameAs(frodo);
+
+    // sam is not the bearer, transfer fails
+    assertThat(registry.transfer(oneRing, sam, gandalf)).isFalse();
+    assertThat(registry.transfer(oneRing, frodo, sam)).isTrue();
+    assertThat(registry.bearerOf(oneRing)).isSameAs(sam);
+
+    registry.transfer(nenya, galadriel, gandalf);
+    assertThat(registry.ringsHeldBy(gandalf)).containsExactly(nenya, narya);
+    assertThat(registry.ringsHeldBy(galadriel)).isEmpty();
+    assertThat(registry.snapshot()).containsOnlyKeys(oneRing, vilya, nenya, narya);
+  }
+
+  @Test
+  public void ring_bearer_registry_concurrent_transfers_example() throws Exception {
+    RingBearerRegistry registry = RingBearerRegistry.of(ringBearers);
+    AtomicInteger transfers = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<?>> tasks = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      tasks.add(executor.submit(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          if (registry.transfer(oneRing, frodo, sam) || registry.transfer(oneRing, sam, frodo)) {
+            transfers.incrementAndGet();
+          }
+          assertThat(registry.snapshot()).containsKey(oneRing);
+        }
+      }));
+    }
+    for (Future<?> task : tasks) {
+      task.get(1, TimeUnit.MINUTES);
+    }
+    executor.shutdown();
+
+    // frodo started with the ring, an even number of transfers gives it back to him
+    assertThat(registry.bearerOf(oneRing)).isSameAs(transfers.get() % 2 == 0 ? frodo : sam);
+  }
+
+}
@@ -0,0 +1,64 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.examples.data.Race.HOBBIT;
+import static org.assertj.examples.data.Race.MAN;
+
+import org.assertj.examples.AbstractAssertionsExamples;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Shows that filtering a {@link TolkienCharacterTable} gives the same results as filtering the characters list.
+ */
+public class TolkienCharacterTableExamples extends AbstractAssertionsExamples {
+
+  @Test
+  public void table_filter_examples() {
+    TolkienCharacterTable table = TolkienCharacterTable.of(fellowshipOfTheRing);
+
+    assertThat(table.size()).isEqualTo(fellowshipOfTheRing.size());
+    // same results as assertThat(fellowshipOfTheRing).filteredOn("race", HOBBIT)
+    assertThat(table.characters(table.rowsWithRace(HOBBIT))).containsExactly(frodo, sam, merry, pippin);
+    assertThat(table.characters(table.rowsWithRace(MAN))).containsOnly(aragorn, boromir);
+    assertThat(table.characters(table.rowsWithAgeBetween(30, 40))).containsOnly(frodo, sam, merry, boromir);
+    assertThat(table.rowsWithRace(Race.ORC)).isEmpty();
+  }
+
+  @Test
+  public void table_sort_examples() {
+    TolkienCharacterTable table = TolkienCharacterTable.of(fellowshipOfTheRing);
+
+    assertThat(table.characters(table.rowsSortedByAge())).isSortedAccordingTo(ageComparator)
+                                                         .startsWith(pippin, frodo)
+                                                         .endsWith(legolas, gandalf);
+    assertThat(table.characters(table.rowsSortedByName())).extracting(TolkienCharacter::getName)
+                                                          .isSorted()
+                                                          .startsWith("Aragorn", "Boromir");
+  }
+
+  @Test
+  public void table_deduplicates_names() {
+    TolkienCharacterTable table = new TolkienCharacterTable(1);
+    table.add(frodo);
+    table.add("Frodo", 50, HOBBIT);
+    table.add(sam);
+
+    assertThat(table.size()).isEqualTo(3);
+    assertThat(table.distinctNames()).isEqualTo(2);
+    assertThat(table.characterAt(0)).isEqualTo(frodo).isNotSameAs(frodo);
+    assertThat(table.nameAt(1)).isSameAs(table.nameAt(0));
+  }
+
+}
@@ -0,0 +1,54 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.movie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.DateUtil.parse;
+
+import java.time.LocalDate;
+
+import org.assertj.examples.AbstractAssertionsExamples;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link MovieCatalog} usage examples.
+ */
+public class MovieCatalogExamples extends AbstractAssertionsExamples {
+
+  @Test
+  public void movie_catalog_release_date_examples() {
+    MovieCatalog catalog = MovieCatalog.of(theSilmarillion, theReturnOfTheKing, theFellowshipOfTheRing, theTwoTowers);
+
+    assertThat(catalog.releasedBetween(LocalDate.of(2001, 1, 1), LocalDate.of(2002, 12, 18))).containsExactly(theFellowshipOfTheRing,
+                                                                                                              theTwoTowers);
+    assertThat(catalog.releasedBetween(parse("2002-12-19"), parse("2100-01-01"))).containsExactly(theReturnOfTheKing,
+                                                                                                  theSilmarillion);
+    assertThat(catalog.releasedBetween(LocalDate.of(1990, 1, 1), LocalDate.of(2000, 1, 1))).isEmpty();
+  }
+
+  @Test
+  public void movie_catalog_duration_examples() {
+    MovieCatalog catalog = MovieCatalog.of(trilogy);
+
+    assertThat(catalog.longerThan(178)).containsExactly(theTwoTowers, theReturnOfTheKing);
+    assertThat(catalog.shorterThan(179)).containsExactly(theFellowshipOfTheRing);
+    assertThat(MovieCatalog.durationInMinutes(theReturnOfTheKing)).isEqualTo(201);
+    // unknown duration
+    assertThat(MovieCatalog.durationInMinutes(theSilmarillion)).isEqualTo(-1);
+    assertThat(MovieCatalog.of(theSilmarillion).longerThan(0)).isEmpty();
+    // too long to be a duration in minutes
+    Movie endless = new Movie("the endless Fellowship", parse("2042-01-01"), "12345678901 min");
+    assertThat(MovieCatalog.durationInMinutes(endless)).isEqualTo(-1);
+  }
+
+}
@@ -0,0 +1,122 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.service;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.examples.AbstractAssertionsExamples;
+import org.assertj.examples.data.BasketBallPlayer;
+import org.junit.jupiter.api.Test;
+
+public class BatchingTeamManagerExamples extends AbstractAssertionsExamples {
+
+  private static final int CALLERS = 50;
+
+  @Test
+  public void batching_team_manager_examples() throws Exception {
+    AtomicInteger fetches = new AtomicInteger();
+    TeamManager bulls = () -> {
+      fetches.incrementAndGet();
+      return asList(rose, noah);
+    };
+    // the window is long enough for all the callers to join the first batch
+    try (BatchingTeamManager batchingTeamManager = new BatchingTeamManager(bulls, Duration.ofSeconds(1), CALLERS)) {
+      List<List<BasketBallPlayer>> players = callConcurrently(batchingTeamManager);
+
+      assertThat(players).hasSize(CALLERS)
+                         .allSatisfy(roster -> assertThat(roster).containsExactly(rose, noah));
+      assertThat(fetches).hasValue(1);
+      assertThat(batchingTeamManager.batchSizes().getCount()).isEqualTo(1);
+      assertThat(batchingTeamManager.batchSizes().getMax()).isEqualTo(CALLERS);
+      assertThat(batchingTeamManager.waitTimesNanos().getCount()).isEqualTo(CALLERS);
+      assertThat(batchingTeamManager.waitTimesNanos().getPercentile(50)).isPositive();
+    }
+  }
+
+  @Test
+  public void batching_team_manager_max_batch_size_example() throws Exception {
+    AtomicInteger fetches = new AtomicInteger();
+    TeamManager bulls = () -> {
+      fetches.incrementAndGet();
+      return asList(rose, noah);
+    };
+    // the window never ends, batches are fetched when they are full
+    try (BatchingTeamManager batchingTeamManager = new BatchingTeamManager(bulls, Duration.ofHours(1), 10)) {
+      List<List<BasketBallPlayer>> players = callConcurrently(batchingTeamManager);
+
+      assertThat(players).hasSize(CALLERS);
+      assertThat(fetches).hasValue(CALLERS / 10);
+      assertThat(batchingTeamManager.batchSizes().getMean()).isEqualTo(10.0);
+    }
+  }
+
+  @Test
+  public void batching_team_manager_failure_example() {
+    TeamManager downTeamManager = () -> {
+      throw new IllegalStateException("team manager is down");
+    };
+    try (BatchingTeamManager batchingTeamManager = new BatchingTeamManager(downTeamManager, Duration.ZERO, 10)) {
+      Throwable thrown = catchThrowable(batchingTeamManager::getPlayers);
+
+      assertThat(thrown).isInstanceOf(IllegalStateException.class)
+                        .hasMessage("team manager is down");
+    }
+  }
+
+  @Test
+  public void closed_batching_team_manager_example() {
+    TeamManager bulls = () -> asList(rose, noah);
+    BatchingTeamManager batchingTeamManager = new BatchingTeamManager(bulls, Duration.ZERO, 10);
+    batchingTeamManager.close();
+
+    assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(batchingTeamManager::getPlayers);
+    assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(batchingTeamManager::getPlayers);
+  }
+
+  private static List<List<BasketBallPlayer>> callConcurrently(TeamManager teamManager) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    try {
+      CountDownLatch ready = new CountDownLatch(CALLERS);
+      List<Future<List<BasketBallPlayer>>> calls = new ArrayList<>();
+      for (int i = 0; i < CALLERS; i++) {
+        calls.add(executor.submit(() -> {
+          ready.countDown();
+          ready.await();
+          return teamManager.getPlayers();
+        }));
+      }
+      List<List<BasketBallPlayer>> players = new ArrayList<>();
+      for (Future<List<BasketBallPlayer>> call : calls) {
+        players.add(call.get(1, TimeUnit.MINUTES));
+      }
+      return players;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}
@@ -0,0 +1,149 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.service;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.examples.AbstractAssertionsExamples;
+import org.assertj.examples.data.BasketBallPlayer;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.base.Ticker;
+
+public class CachingTeamManagerExamples extends AbstractAssertionsExamples {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final Ticker ticker = new Ticker() {
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+  };
+
+  @Test
+  public void caching_team_manager_examples() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    List<BasketBallPlayer> roster = new ArrayList<>(asList(rose, noah));
+    CountDownLatch reloadAllowed = new CountDownLatch(1);
+    TeamManager bulls = () -> {
+      if (loads.incrementAndGet() > 1) await(reloadAllowed);
+      return roster;
+    };
+    try (CachingTeamManager cachingTeamManager = new CachingTeamManager(bulls, Duration.ofMinutes(1),
+                                                                       Duration.ofMinutes(5), 100, ticker)) {
+      assertThat(cachingTeamManager.getPlayers()).containsExactly(rose, noah);
+      assertThat(cachingTeamManager.playerCount()).isEqualTo(2);
+      assertThat(loads).hasValue(1);
+      assertThat(cachingTeamManager.stats().hitCount()).isEqualTo(1);
+      assertThat(cachingTeamManager.stats().missCount()).isEqualTo(1);
+
+      // after refreshAfter, the cached players are served while they are reloaded in the background
+      roster.add(james);
+      nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+      assertThat(cachingTeamManager.getPlayers()).containsExactly(rose, noah);
+      reloadAllowed.countDown();
+      // wait for the reloaded players to replace the cached ones
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (cachingTeamManager.playerCount() < 3) {
+        assertThat(System.nanoTime()).as("time waiting for the reloaded players").isLessThan(deadline);
+        Thread.sleep(1);
+      }
+      assertThat(cachingTeamManager.getPlayers()).containsExactly(rose, noah, james);
+      assertThat(loads).hasValue(2);
+      assertThat(cachingTeamManager.stats().missCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void caching_team_manager_single_flight_example() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch slowStore = new CountDownLatch(1);
+    TeamManager slowTeamManager = () -> {
+      loads.incrementAndGet();
+      await(slowStore);
+      return asList(rose, noah);
+    };
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (CachingTeamManager cachingTeamManager = new CachingTeamManager(slowTeamManager, Duration.ofMinutes(1),
+                                                                       Duration.ofMinutes(5), 100, ticker)) {
+      List<Future<List<BasketBallPlayer>>> games = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        games.add(executor.submit(cachingTeamManager::getPlayers));
+      }
+      // let the calls pile up on the single load
+      Thread.sleep(100);
+      slowStore.countDown();
+
+      for (Future<List<BasketBallPlayer>> game : games) {
+        assertThat(game.get(1, TimeUnit.MINUTES)).containsExactly(rose, noah);
+      }
+      assertThat(loads).hasValue(1);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void caching_team_manager_size_bound_example() {
+    AtomicInteger loads = new AtomicInteger();
+    TeamManager bigTeam = () -> {
+      loads.incrementAndGet();
+      return asList(rose, noah, james, durant);
+    };
+    // the roster is bigger than the cache, it is not kept
+    try (CachingTeamManager cachingTeamManager = new CachingTeamManager(bigTeam, Duration.ofMinutes(1),
+                                                                       Duration.ofMinutes(5), 3, ticker)) {
+      cachingTeamManager.getPlayers();
+      cachingTeamManager.getPlayers();
+      assertThat(loads).hasValue(2);
+    }
+  }
+
+  @Test
+  public void caching_team_manager_keeps_rosters_up_to_max_cached_players_example() {
+    AtomicInteger loads = new AtomicInteger();
+    TeamManager bigTeam = () -> {
+      loads.incrementAndGet();
+      return nCopies(60, rose);
+    };
+    // 60 players fit in a cache of 100 players
+    try (CachingTeamManager cachingTeamManager = new CachingTeamManager(bigTeam, Duration.ofMinutes(1),
+                                                                       Duration.ofMinutes(5), 100, ticker)) {
+      assertThat(cachingTeamManager.getPlayers()).hasSize(60);
+      assertThat(cachingTeamManager.getPlayers()).hasSize(60);
+      assertThat(loads).hasValue(1);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
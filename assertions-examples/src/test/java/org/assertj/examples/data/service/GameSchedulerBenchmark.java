@@ -0,0 +1,71 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.service;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.assertj.examples.AbstractAssertionsExamples;
+import org.assertj.examples.data.BasketBallPlayer;
+import org.assertj.examples.data.service.GameScheduler.SeasonResults;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Scaling test of {@link GameScheduler}: plays the same season with an increasing parallelism and prints the throughput
+ * and the speedup over a parallelism of 1, which should be close to the parallelism up to the number of cores.
+ * <p>
+ * The stub {@link TeamManager} spins for {@link #LATENCY_NANOS} to simulate CPU bound work, a sleeping stub would keep
+ * scaling beyond the number of cores.
+ * <p>
+ * Not run by the build (surefire only runs *Examples classes), run it from your IDE.
+ */
+public class GameSchedulerBenchmark extends AbstractAssertionsExamples {
+
+  private static final int GAMES = 5_000;
+  private static final long LATENCY_NANOS = 200_000;
+
+  @Test
+  public void measure_game_scheduler_scaling() throws Exception {
+    List<BasketBallPlayer> players = asList(rose, noah, james);
+    TeamManager slowTeamManager = () -> {
+      long end = System.nanoTime() + LATENCY_NANOS;
+      while (System.nanoTime() < end) {
+        // spin
+      }
+      return players;
+    };
+    int cores = Runtime.getRuntime().availableProcessors();
+    // warm up
+    play(slowTeamManager, cores);
+
+    double sequentialGamesPerSecond = play(slowTeamManager, 1).getGamesPerSecond();
+    for (int parallelism = 1; parallelism <= 2 * cores; parallelism *= 2) {
+      SeasonResults season = play(slowTeamManager, parallelism);
+      System.out.printf("parallelism %3d: %,8.0f games/s, speedup %5.2f%n", parallelism, season.getGamesPerSecond(),
+                        season.getGamesPerSecond() / sequentialGamesPerSecond);
+    }
+  }
+
+  private static SeasonResults play(TeamManager teamManager, int parallelism) throws Exception {
+    try (GameScheduler gameScheduler = GameScheduler.withForkJoinPool(teamManager, parallelism,
+                                                                      Duration.ofMinutes(1))) {
+      SeasonResults season = gameScheduler.play(GAMES);
+      assertThat(season.getPlayed()).isEqualTo(GAMES);
+      return season;
+    }
+  }
+
+}
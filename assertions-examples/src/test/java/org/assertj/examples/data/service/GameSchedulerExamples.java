@@ -0,0 +1,86 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.data.service;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.examples.AbstractAssertionsExamples;
+import org.assertj.examples.data.service.GameScheduler.SeasonResults;
+import org.junit.jupiter.api.Test;
+
+public class GameSchedulerExamples extends AbstractAssertionsExamples {
+
+  @Test
+  public void game_scheduler_examples() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    // every third call the team has no players
+    TeamManager bulls = () -> calls.incrementAndGet() % 3 == 0 ? emptyList() : asList(rose, noah);
+
+    try (GameScheduler gameScheduler = GameScheduler.withForkJoinPool(bulls, 4, Duration.ofMinutes(1))) {
+      SeasonResults season = gameScheduler.play(300);
+
+      assertThat(season.getGames()).isEqualTo(300);
+      assertThat(season.getPlayed()).isEqualTo(200);
+      assertThat(season.getNotPlayed()).isEqualTo(100);
+      assertThat(season.getTimedOut()).isZero();
+      assertThat(season.getFailed()).isZero();
+      assertThat(season.getGamesPerSecond()).isPositive();
+    }
+  }
+
+  @Test
+  public void game_scheduler_timeout_and_failure_examples() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    TeamManager unreliableTeamManager = () -> {
+      int call = calls.incrementAndGet();
+      if (call % 10 == 0) sleep(500);
+      if (call % 10 == 1) throw new IllegalStateException("team manager is down");
+      return asList(rose);
+    };
+
+    try (GameScheduler gameScheduler = GameScheduler.withVirtualThreads(unreliableTeamManager,
+                                                                        Duration.ofMillis(100))) {
+      SeasonResults season = gameScheduler.play(20);
+
+      assertThat(season.getGames()).isEqualTo(20);
+      assertThat(season.getPlayed()).isEqualTo(16);
+      assertThat(season.getTimedOut()).isEqualTo(2);
+      assertThat(season.getFailed()).isEqualTo(2);
+      // the games that timed out were interrupted instead of sleeping 500ms
+      assertThat(season.getElapsedNanos()).isLessThan(TimeUnit.MILLISECONDS.toNanos(450));
+    }
+  }
+
+  @Test
+  public void game_scheduler_needs_a_positive_timeout() {
+    TeamManager teamManager = () -> asList(rose);
+    assertThatIllegalArgumentException().isThrownBy(() -> GameScheduler.withForkJoinPool(teamManager, 1, Duration.ZERO))
+                                        .withMessage("gameTimeout must be positive but was PT0S");
+  }
+
+  private static void sleep(long millis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
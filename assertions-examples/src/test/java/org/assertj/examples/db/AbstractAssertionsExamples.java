@@ -14,11 +14,14 @@ package org.assertj.examples.db;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
 
 import org.assertj.db.type.AssertDbConnection;
 import org.assertj.db.type.AssertDbConnectionFactory;
 import org.h2.jdbcx.JdbcConnectionPool;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestReporter;
 
 /**
  *
@@ -58,18 +61,55 @@ public class AbstractAssertionsExamples {
     "insert into albums values (15, PARSEDATETIME('09/09/2014', 'dd/MM/yyyy'), 'Songs of Innocence', 11, PARSEDATETIME('48:11', 'mm:ss'), null);",
   };
 
+  /**
+   * How the tables are reset before each test, set with the {@code assertj.examples.db.fixture} system property.
+   */
+  enum FixtureMode {
+    /** drops, recreates and fills the tables with single row inserts */
+    REBUILD,
+    /** builds the tables once, copies them in the fixture schema, then restores them from it in one batch */
+    SNAPSHOT
+  }
+
+  private static final FixtureMode FIXTURE_MODE = FixtureMode.valueOf(System.getProperty("assertj.examples.db.fixture",
+                                                                                         "snapshot")
+                                                                            .toUpperCase());
+  private static final String[] TABLES = { "members", "albums" };
+  // the fixture schema is not seen by assertj-db which only reads the tables of the connection schema
+  private static final String FIXTURE_SCHEMA = "fixture";
+  /**
+   * Resets the tables and publishes the time it took to JUnit as {@code fixtureSetUpMicros}, except for the first test
+   * which builds the fixture and publishes {@code fixtureInitMicros} instead.
+   */
   @BeforeEach
-  public void setUp() throws SQLException {
+  public void setUp(TestReporter testReporter) throws SQLException {
+    long start = System.nanoTime();
     if (dataSource == null) {
       dataSource = JdbcConnectionPool.create("jdbc:h2:mem:test;DB_CLOSE_DELAY=-1", "user", "password");
       assertConnection = AssertDbConnectionFactory.of(dataSource).create();
+      createTables();
+      if (FIXTURE_MODE == FixtureMode.SNAPSHOT) takeSnapshot();
+      testReporter.publishEntry("fixtureInitMicros", elapsedMicrosSince(start));
+      return;
+    }
+    if (FIXTURE_MODE == FixtureMode.SNAPSHOT) {
+      restoreSnapshot();
     }
     else {
       Connection conn = dataSource.getConnection();
       conn.createStatement().executeUpdate("drop table albums;");
       conn.createStatement().executeUpdate("drop table members;");
       conn.close();
+      createTables();
     }
+    testReporter.publishEntry("fixtureSetUpMicros", elapsedMicrosSince(start));
+  }
+
+  private static String elapsedMicrosSince(long start) {
+    return String.valueOf(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+  }
+
+  private static void createTables() throws SQLException {
     Connection conn = dataSource.getConnection();
     conn.createStatement().executeUpdate(MEMBERS_CREATE_REQUEST);
     for (String request : MEMBERS_INSERT_REQUESTS) {
@@ -82,6 +122,29 @@ public class AbstractAssertionsExamples {
     conn.close();
   }
 
+  private static void takeSnapshot() throws SQLException {
+    try (Connection conn = dataSource.getConnection(); Statement statement = conn.createStatement()) {
+      statement.executeUpdate("create schema " + FIXTURE_SCHEMA + ";");
+      for (String table : TABLES) {
+        statement.executeUpdate("create table " + FIXTURE_SCHEMA + "." + table + " as select * from " + table + ";");
+      }
+    }
+  }
+
+  private static void restoreSnapshot() throws SQLException {
+    try (Connection conn = dataSource.getConnection(); Statement statement = conn.createStatement()) {
+      conn.setAutoCommit(false);
+      for (String table : TABLES) {
+        statement.addBatch("delete from " + table + ";");
+        statement.addBatch("insert into " + table + " select * from " + FIXTURE_SCHEMA + "." + table + ";");
+      }
+      statement.executeBatch();
+      conn.commit();
+      // pooled connections keep their settings
+      conn.setAutoCommit(true);
+    }
+  }
+
   protected void makeChangesInTheData() throws SQLException {
     Connection conn = dataSource.getConnection();
     conn.createStatement().executeUpdate("insert into members values (5, 'McGuiness', 'Paul', null, PARSEDATETIME('17/06/1951', 'dd/MM/yyyy'), null);");
@@ -0,0 +1,77 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepository;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphdb.Transaction;
+
+/**
+ * Load test of {@link AsyncDragonBallGraphRepository}: runs the same lookups synchronously on the calling thread then
+ * asynchronously with an increasing number of threads, and prints the throughput of each run.
+ * <p>
+ * Not run by the build (surefire only runs *Examples classes), run it from your IDE.
+ */
+public class AsyncDragonBallGraphRepositoryBenchmark extends Neo4jAssertionExamples {
+
+  private static final int LOOKUPS = 20_000;
+  private static final String[] MASTERS = { "Master Roshi", "Master Shen", "Master Mutaito" };
+
+  @Test
+  public void measure_async_lookups_throughput() throws Exception {
+    // warm up
+    runSynchronously();
+    runAsynchronously(Runtime.getRuntime().availableProcessors());
+
+    report("synchronous", runSynchronously());
+    for (int threads = 1; threads <= 4 * Runtime.getRuntime().availableProcessors(); threads *= 2) {
+      report(threads + " threads", runAsynchronously(threads));
+    }
+  }
+
+  private static long runSynchronously() {
+    long start = System.nanoTime();
+    for (int i = 0; i < LOOKUPS; i++) {
+      try (Transaction ignored = graphDatabase().beginTx()) {
+        assertThat(dragonBallGraphRepository().findDisciplesOfMaster(MASTERS[i % MASTERS.length])).isNotEmpty();
+      }
+    }
+    return System.nanoTime() - start;
+  }
+
+  private static long runAsynchronously(int threads) throws Exception {
+    try (AsyncDragonBallGraphRepository repository = AsyncDragonBallGraphRepository.withThreads(graphDatabase(), threads,
+                                                                                                4 * threads)) {
+      long start = System.nanoTime();
+      List<CompletableFuture<Iterable<?>>> lookups = new ArrayList<>(LOOKUPS);
+      for (int i = 0; i < LOOKUPS; i++) {
+        lookups.add(repository.findDisciplesOfMaster(MASTERS[i % MASTERS.length]).thenApply(disciples -> disciples));
+      }
+      CompletableFuture.allOf(lookups.toArray(new CompletableFuture[0])).join();
+      long elapsed = System.nanoTime() - start;
+      lookups.forEach(lookup -> assertThat(lookup.join()).isNotEmpty());
+      return elapsed;
+    }
+  }
+
+  private static void report(String run, long elapsedNanos) {
+    System.out.printf("%-12s: %,.0f lookups/s%n", run, LOOKUPS * 1_000_000_000d / elapsedNanos);
+  }
+
+}
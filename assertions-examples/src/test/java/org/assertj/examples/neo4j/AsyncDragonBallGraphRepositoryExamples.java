@@ -0,0 +1,76 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.neo4j;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.examples.data.neo4j.AsyncDragonBallGraphRepository;
+import org.junit.jupiter.api.Test;
+
+public class AsyncDragonBallGraphRepositoryExamples extends Neo4jAssertionExamples {
+
+  @Test
+  public void async_repository_examples() throws Exception {
+    try (AsyncDragonBallGraphRepository repository = AsyncDragonBallGraphRepository.withThreads(graphDatabase(), 2,
+                                                                                                10)) {
+      // read node properties in the query transaction
+      CompletableFuture<Object> bulmaName = repository.query(graph -> graph.findUniqueCharacter("Bulma")
+                                                                           .getProperty("name"));
+      CompletableFuture<Integer> fusionsCount = repository.findFusions().thenApply(fusions -> fusions.size());
+
+      assertThat(bulmaName).succeedsWithin(1, TimeUnit.MINUTES).isEqualTo("Bulma");
+      assertThat(fusionsCount).succeedsWithin(1, TimeUnit.MINUTES).isEqualTo(4);
+      assertThat(repository.findCharacters(asList("Bulma", "Frieza")).get()).containsOnlyKeys("Bulma");
+      // the unique lookups fail like their synchronous versions
+      assertThat(repository.findUniqueCharacter("Frieza")).failsWithin(1, TimeUnit.MINUTES)
+                                                          .withThrowableOfType(ExecutionException.class)
+                                                          .withCauseInstanceOf(NoSuchElementException.class);
+      // the Path length can be read outside the query transaction
+      CompletableFuture<Integer> bulmaToMasterRoshi = repository.findShortestPath("Bulma", "Master Roshi", 15)
+                                                                .thenApply(path -> path.get().length());
+      assertThat(bulmaToMasterRoshi).succeedsWithin(1, TimeUnit.MINUTES).isEqualTo(3);
+    }
+  }
+
+  @Test
+  public void async_repository_back_pressure_example() throws Exception {
+    try (AsyncDragonBallGraphRepository repository = AsyncDragonBallGraphRepository.withThreads(graphDatabase(), 1,
+                                                                                                1)) {
+      CountDownLatch release = new CountDownLatch(1);
+      CompletableFuture<Boolean> blockedQuery = repository.query(graph -> awaitUninterruptibly(release));
+      // the only slot is taken, a new query would block the caller until the first one completes
+      assertThat(repository.availablePermits()).isZero();
+
+      release.countDown();
+      assertThat(blockedQuery).succeedsWithin(1, TimeUnit.MINUTES).isEqualTo(true);
+      assertThat(repository.findTraining("Son Goku")).succeedsWithin(1, TimeUnit.MINUTES);
+    }
+  }
+
+  private static boolean awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      return latch.await(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+}
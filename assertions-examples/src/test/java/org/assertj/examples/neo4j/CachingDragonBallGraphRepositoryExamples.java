@@ -0,0 +1,110 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.assertj.examples.data.neo4j.CachingDragonBallGraphRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+// uses its own database as the examples change the graph
+public class CachingDragonBallGraphRepositoryExamples {
+
+  private GraphDatabaseService graphDatabase;
+  private CachingDragonBallGraphRepository repository;
+
+  @BeforeEach
+  public void prepare_graph() {
+    graphDatabase = new TestGraphDatabaseFactory().newImpermanentDatabase();
+    Neo4jAssertionExamples.importGraph(graphDatabase);
+    repository = new CachingDragonBallGraphRepository(graphDatabase, 100);
+  }
+
+  @AfterEach
+  public void cleanUp() {
+    repository.close();
+    graphDatabase.shutdown();
+  }
+
+  @Test
+  public void cached_queries_examples() {
+    Iterable<Node> disciples = repository.findDisciplesOfMaster("Master Roshi");
+    assertThat(repository.findDisciplesOfMaster("Master Roshi")).isSameAs(disciples);
+    assertThat(repository.findFusions()).isSameAs(repository.findFusions());
+    assertThat(repository.cacheStats().hitCount()).isEqualTo(2);
+
+    // writes not related to the cached queries keep the cache
+    try (Transaction transaction = graphDatabase.beginTx()) {
+      graphDatabase.createNode(Label.label("Organization")).setProperty("name", "Capsule Corporation");
+      transaction.success();
+    }
+    assertThat(repository.findDisciplesOfMaster("Master Roshi")).isSameAs(disciples);
+
+    // a new training invalidates the disciples but not the fusions
+    try (Transaction transaction = graphDatabase.beginTx()) {
+      Node gohan = graphDatabase.createNode(Label.label("Character"), Label.label("Hero"));
+      gohan.setProperty("name", "Gohan");
+      gohan.createRelationshipTo(graphDatabase.findNode(Label.label("Master"), "name", "Master Roshi"),
+                                 RelationshipType.withName("HAS_TRAINED_WITH"));
+      transaction.success();
+    }
+    assertThat(repository.cacheSize()).isEqualTo(1);
+    try (Transaction ignored = graphDatabase.beginTx()) {
+      assertThat(repository.findDisciplesOfMaster("Master Roshi")).extracting(disciple -> disciple.getProperty("name"))
+                                                                  .containsExactly("Gohan", "Krillin", "Son Goku",
+                                                                                   "Yamcha");
+    }
+  }
+
+  @Test
+  public void deleted_relationships_invalidate_cached_queries_example() {
+    assertThat(repository.findFusions()).hasSize(4);
+
+    try (Transaction transaction = graphDatabase.beginTx()) {
+      repository.findFusions().iterator().next().delete();
+      transaction.success();
+    }
+
+    assertThat(repository.findFusions()).hasSize(3);
+  }
+
+  @Test
+  public void rolled_back_writes_are_not_cached_example() {
+    Throwable rollback = catchThrowable(() -> repository.write(graph -> {
+      Node gohan = graph.createNode(Label.label("Character"), Label.label("Hero"));
+      gohan.setProperty("name", "Gohan");
+      gohan.createRelationshipTo(graph.findNode(Label.label("Master"), "name", "Master Roshi"),
+                                 RelationshipType.withName("HAS_TRAINED_WITH"));
+      // the writes see their own changes
+      assertThat(repository.findDisciplesOfMaster("Master Roshi")).hasSize(4);
+      throw new IllegalStateException("Gohan is too young to train");
+    }));
+
+    assertThat(rollback).hasMessage("Gohan is too young to train");
+    try (Transaction ignored = graphDatabase.beginTx()) {
+      assertThat(repository.findDisciplesOfMaster("Master Roshi")).extracting(disciple -> disciple.getProperty("name"))
+                                                                  .containsExactly("Krillin", "Son Goku", "Yamcha");
+    }
+    assertThat(repository.cacheSize()).isEqualTo(1);
+  }
+
+}
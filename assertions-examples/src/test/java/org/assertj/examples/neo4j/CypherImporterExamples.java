@@ -0,0 +1,54 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.assertj.examples.data.neo4j.CypherImporter;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+public class CypherImporterExamples {
+
+  @Test
+  public void cypher_importer_examples() throws IOException {
+    GraphDatabaseService graphDatabase = new TestGraphDatabaseFactory().newImpermanentDatabase();
+    try {
+      String dump = "CREATE (:Character {name : 'Son Goku'});\n"
+                    + "// ; in comments and string literals do not end statements\n"
+                    + "CREATE (:Character {name : 'Mr. Satan; the champion'});\n"
+                    + ";\n"
+                    + "MATCH (sonGoku:Character {name : 'Son Goku'}) CREATE (sonGoku)-[:HAS_TRAINED_WITH]->(:Master {name : \"King Kai\"})";
+
+      CypherImporter.Report report = new CypherImporter(graphDatabase, 2).importFrom(new StringReader(dump));
+
+      assertThat(report.getStatements()).isEqualTo(3);
+      assertThat(report.getBatches()).isEqualTo(2);
+      try (Transaction ignored = graphDatabase.beginTx()) {
+        Node mrSatan = graphDatabase.findNode(Label.label("Character"), "name", "Mr. Satan; the champion");
+        assertThat(mrSatan).isNotNull();
+        assertThat(graphDatabase.findNode(Label.label("Master"), "name", "King Kai").getDegree()).isEqualTo(1);
+      }
+    } finally {
+      graphDatabase.shutdown();
+    }
+  }
+
+}
@@ -0,0 +1,77 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.neo4j;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.examples.neo4j.ShortestPathBenchmark.UNIVERSES;
+import static org.assertj.examples.neo4j.ShortestPathBenchmark.copyInParallelUniverses;
+import static org.assertj.examples.neo4j.ShortestPathBenchmark.universeSuffix;
+
+import java.util.Random;
+
+import org.assertj.examples.data.neo4j.DragonBallGraphRepository;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Result;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+/**
+ * Measures character lookups by name on the parallel universes graph (see {@link ShortestPathBenchmark}) before and
+ * after the {@link DragonBallGraphRepository} creates its schema.
+ * <p>
+ * Not run by the build (surefire only runs *Examples classes), run it from your IDE.
+ */
+public class DragonBallGraphSchemaBenchmark {
+
+  private static final int LOOKUPS = 5_000;
+  private static final String CHARACTER_QUERY = "MATCH (character:Character {name: {name}}) RETURN character";
+
+  @Test
+  public void compare_character_lookups_before_and_after_schema_creation() {
+    GraphDatabaseService graphDatabase = new TestGraphDatabaseFactory().newImpermanentDatabase();
+    try {
+      Neo4jAssertionExamples.importGraph(graphDatabase);
+      copyInParallelUniverses(graphDatabase);
+
+      // warm up, then measure
+      lookUpCharacters(graphDatabase);
+      long labelScanNanos = lookUpCharacters(graphDatabase);
+
+      DragonBallGraphRepository dragonBallGraphRepository = new DragonBallGraphRepository(graphDatabase);
+      System.out.println("indexes: " + dragonBallGraphRepository.schema().indexStates());
+      lookUpCharacters(graphDatabase);
+      long indexSeekNanos = lookUpCharacters(graphDatabase);
+
+      System.out.printf("%d character lookups on %d universes: %d us/lookup without schema, %d us/lookup with schema%n",
+                        LOOKUPS, UNIVERSES, labelScanNanos / LOOKUPS / 1_000, indexSeekNanos / LOOKUPS / 1_000);
+    } finally {
+      graphDatabase.shutdown();
+    }
+  }
+
+  private static long lookUpCharacters(GraphDatabaseService graphDatabase) {
+    Random random = new Random(42);
+    long start = System.nanoTime();
+    for (int i = 0; i < LOOKUPS; i++) {
+      String name = "Krillin" + universeSuffix(random.nextInt(UNIVERSES));
+      try (Transaction ignored = graphDatabase.beginTx();
+          Result characters = graphDatabase.execute(CHARACTER_QUERY, singletonMap("name", name))) {
+        assertThat(characters.hasNext()).isTrue();
+      }
+    }
+    return System.nanoTime() - start;
+  }
+
+}
@@ -0,0 +1,74 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.assertj.examples.data.neo4j.DragonBallGraphRepository;
+import org.assertj.examples.data.neo4j.DragonBallGraphSchema;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphdb.ConstraintViolationException;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema.IndexState;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+public class DragonBallGraphSchemaExamples extends Neo4jAssertionExamples {
+
+  @Test
+  public void schema_examples() {
+    // the repository has created the schema at startup
+    DragonBallGraphSchema schema = dragonBallGraphRepository().schema();
+    assertThat(schema.indexStates()).containsOnly(entry(":Character(name)", IndexState.ONLINE),
+                                                   entry(":Master(name)", IndexState.ONLINE));
+    assertThat(schema.indexPopulationProgress()).containsEntry(":Character(name)", 100f);
+
+    // creating it again is a no-op
+    schema.create();
+    assertThat(schema.indexStates()).hasSize(2);
+
+    // character names are unique
+    assertThatExceptionOfType(ConstraintViolationException.class).isThrownBy(() -> {
+      try (Transaction transaction = graphDatabase().beginTx()) {
+        graphDatabase().createNode(Label.label("Character")).setProperty("name", "Son Goku");
+        transaction.success();
+      }
+    });
+  }
+
+  @Test
+  public void schema_replaces_plain_name_index_example() {
+    GraphDatabaseService database = new TestGraphDatabaseFactory().newImpermanentDatabase();
+    try {
+      try (Transaction transaction = database.beginTx()) {
+        database.schema().indexFor(Label.label("Character")).on("name").create();
+        transaction.success();
+      }
+
+      DragonBallGraphSchema schema = new DragonBallGraphRepository(database).schema();
+
+      assertThat(schema.indexStates()).containsOnly(entry(":Character(name)", IndexState.ONLINE),
+                                                     entry(":Master(name)", IndexState.ONLINE));
+      try (Transaction ignored = database.beginTx()) {
+        assertThat(database.schema().getIndexes(Label.label("Character"))).allMatch(IndexDefinition::isConstraintIndex);
+      }
+    } finally {
+      database.shutdown();
+    }
+  }
+
+}
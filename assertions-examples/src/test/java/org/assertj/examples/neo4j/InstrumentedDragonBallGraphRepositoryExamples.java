@@ -0,0 +1,51 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.examples.data.neo4j.InMemoryQueryMetrics;
+import org.assertj.examples.data.neo4j.InMemoryQueryMetrics.MethodStatistics;
+import org.assertj.examples.data.neo4j.InstrumentedDragonBallGraphRepository;
+import org.junit.jupiter.api.Test;
+
+public class InstrumentedDragonBallGraphRepositoryExamples extends Neo4jAssertionExamples {
+
+  @Test
+  public void instrumented_repository_examples() {
+    InMemoryQueryMetrics metrics = new InMemoryQueryMetrics();
+    // profile one call out of two
+    InstrumentedDragonBallGraphRepository repository = new InstrumentedDragonBallGraphRepository(graphDatabase(),
+                                                                                                 metrics, 2);
+    for (int i = 0; i < 4; i++) {
+      repository.findDisciplesOfMaster("Master Roshi");
+    }
+    repository.findUniqueCharacter("Bulma");
+    repository.findCharacter("Frieza");
+
+    MethodStatistics disciplesStatistics = metrics.statisticsOf("findDisciplesOfMaster");
+    assertThat(disciplesStatistics.getCalls()).isEqualTo(4);
+    assertThat(disciplesStatistics.getRows()).isEqualTo(12);
+    assertThat(disciplesStatistics.getProfiledCalls()).isEqualTo(2);
+    assertThat(disciplesStatistics.getMeanDbHits()).isPositive();
+    long medianLatency = disciplesStatistics.getLatencyPercentileNanos(50);
+    assertThat(medianLatency).isPositive().isLessThanOrEqualTo(disciplesStatistics.getLatencyPercentileNanos(100));
+    // findUniqueCharacter is recorded as findCharacter
+    assertThat(metrics.statisticsOf("findCharacter").getCalls()).isEqualTo(2);
+    assertThat(metrics.statisticsOf("findCharacter").getRows()).isEqualTo(1);
+    // methods not called have empty statistics
+    assertThat(metrics.statisticsOf("findFusions").getCalls()).isZero();
+    assertThat(metrics.statistics()).containsOnlyKeys("findDisciplesOfMaster", "findCharacter");
+  }
+
+}
@@ -12,20 +12,14 @@
  */
 package org.assertj.examples.neo4j;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
+import org.assertj.examples.data.neo4j.CypherImporter;
 import org.assertj.examples.data.neo4j.DragonBallGraphRepository;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.neo4j.graphdb.GraphDatabaseService;
-import org.neo4j.graphdb.Transaction;
 import org.neo4j.test.TestGraphDatabaseFactory;
 
 public class Neo4jAssertionExamples {
@@ -53,22 +47,11 @@ public class Neo4jAssertionExamples {
     return dragonBallGraphRepository;
   }
 
-  private static void importGraph(GraphDatabaseService graphDatabase) {
-    try (InputStream dumpFile = Neo4jAssertionExamples.class.getResourceAsStream("/dragonBall.cypher");
-        Transaction transaction = graphDatabase.beginTx()) {
-
-      cypherStatements(dumpFile).forEach(graphDatabase::execute);
-      transaction.success();
+  static void importGraph(GraphDatabaseService graphDatabase) {
+    try (InputStream dumpFile = Neo4jAssertionExamples.class.getResourceAsStream("/dragonBall.cypher")) {
+      new CypherImporter(graphDatabase).importFrom(dumpFile);
     } catch (IOException e) {
       throw new RuntimeException(e.getMessage(), e);
     }
   }
-
-  private static Collection<String> cypherStatements(InputStream inputStream) throws IOException {
-    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-      Predicate<String> isEmpty = String::isEmpty;
-      String statements = reader.lines().filter(isEmpty.negate()).collect(Collectors.joining("\n"));
-      return Arrays.asList(statements.split(";"));
-    }
-  }
 }
@@ -12,11 +12,16 @@
  */
 package org.assertj.examples.neo4j;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Transaction;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.neo4j.api.Assertions.assertThat;
 
@@ -65,4 +70,40 @@ public class NodeAssertionExamples extends Neo4jAssertionExamples {
     // just check that we can use standard assertions along with Neo4j ones
     assertThat("hello world").startsWith("hello");
   }
+
+  @Test
+  public void streamed_nodes_assertion_examples() {
+    // disciples are read lazily, the stream must be closed to release the underlying transaction
+    try (Stream<Node> disciples = dragonBallGraphRepository().streamDisciplesOfMaster("Master Roshi")) {
+      assertThat(disciples.map(disciple -> disciple.getProperty("name"))).containsExactly("Krillin", "Son Goku",
+                                                                                           "Yamcha");
+    }
+  }
+
+  @Test
+  public void optional_node_assertion_examples() {
+    try (Transaction ignored = graphDatabase().beginTx()) {
+      // unique lookups give an empty Optional when nothing matches
+      assertThat(dragonBallGraphRepository().findCharacter("Frieza")).isEmpty();
+      assertThat(dragonBallGraphRepository().findCharacter("Bulma")).hasValueSatisfying(
+          bulma -> assertThat(bulma).hasProperty("name", "Bulma"));
+    }
+  }
+
+  @Test
+  public void batched_nodes_assertion_examples() {
+    try (Transaction ignored = graphDatabase().beginTx()) {
+      // a single query resolves all the names
+      Map<String, Node> characters = dragonBallGraphRepository().findCharacters(asList("Yamcha", "Frieza", "Bulma"));
+      // in the given names order
+      assertThat(characters.keySet()).containsExactly("Yamcha", "Bulma");
+      assertThat(characters.get("Yamcha")).hasLabel("Hero");
+
+      Map<String, List<Node>> disciples = dragonBallGraphRepository().findDisciplesOfMasters(asList("Master Roshi",
+                                                                                                    "Bulma"));
+      assertThat(disciples.get("Master Roshi")).extracting(disciple -> disciple.getProperty("name"))
+                                               .containsExactly("Krillin", "Son Goku", "Yamcha");
+      assertThat(disciples.get("Bulma")).isEmpty();
+    }
+  }
 }
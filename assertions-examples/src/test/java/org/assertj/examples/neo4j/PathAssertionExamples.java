@@ -12,6 +12,7 @@
  */
 package org.assertj.examples.neo4j;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.neo4j.api.Assertions.assertThat;
 
 import org.assertj.examples.data.neo4j.DragonBallGraphRepository;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Path;
 import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
 import org.neo4j.graphdb.Transaction;
 
 public class PathAssertionExamples extends Neo4jAssertionExamples {
@@ -62,4 +64,31 @@ public class PathAssertionExamples extends Neo4jAssertionExamples {
           .doesNotEndWithRelationship(masterShenTraining);
     }
   }
+
+  @Test
+  public void core_api_path_assertion_examples() {
+    try (Transaction ignored = graphDatabase().beginTx()) {
+      // same shortest path as above but found without Cypher
+      DragonBallGraphRepository dragonBallGraphRepository = dragonBallGraphRepository();
+      Path bulmaToMasterRoshiPath = dragonBallGraphRepository.findShortestPath("Bulma", "Master Roshi", 15).get();
+      assertThat(bulmaToMasterRoshiPath)
+        .hasLength(3)
+        .startsWithNode(dragonBallGraphRepository.findUniqueCharacter("Bulma"))
+        .endsWithNode(dragonBallGraphRepository.findUniqueCharacter("Master Roshi"))
+        .endsWithRelationship(dragonBallGraphRepository.findUniqueTraining("Son Goku"));
+      assertThat(bulmaToMasterRoshiPath.nodes()).hasSize(4)
+                                                .startsWith(dragonBallGraphRepository.findUniqueCharacter("Bulma"))
+                                                .endsWith(dragonBallGraphRepository.findUniqueCharacter("Master Roshi"));
+
+      // the path can be restricted by depth and relationship types
+      RelationshipType isMarriedTo = RelationshipType.withName("IS_MARRIED_TO");
+      RelationshipType inFusionWith = RelationshipType.withName("IN_FUSION_WITH");
+      RelationshipType hasTrainedWith = RelationshipType.withName("HAS_TRAINED_WITH");
+      assertThat(dragonBallGraphRepository.findShortestPath("Bulma", "Master Roshi", 2)).isEmpty();
+      assertThat(dragonBallGraphRepository.findShortestPath("Bulma", "Master Roshi", 15, isMarriedTo,
+                                                            hasTrainedWith)).isEmpty();
+      assertThat(dragonBallGraphRepository.findShortestPath("Bulma", "Master Roshi", 15, isMarriedTo, inFusionWith,
+                                                            hasTrainedWith)).isPresent();
+    }
+  }
 }
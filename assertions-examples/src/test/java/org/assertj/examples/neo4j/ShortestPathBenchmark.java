@@ -0,0 +1,139 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+import org.assertj.examples.data.neo4j.DragonBallGraphRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+/**
+ * Compares the Cypher and the core API shortest path lookups of {@link DragonBallGraphRepository} on the dragon ball
+ * graph copied in many parallel universes, the Son Goku of each universe knows the Son Goku of the next one.
+ * <p>
+ * Not run by the build (surefire only runs *Examples classes), run it from your IDE.
+ */
+public class ShortestPathBenchmark {
+
+  static final int UNIVERSES = 200;
+  private static final int LOOKUPS = 2_000;
+  private static final RelationshipType KNOWS_PARALLEL_SELF = RelationshipType.withName("KNOWS_PARALLEL_SELF");
+
+  private static GraphDatabaseService graphDatabase;
+  private static DragonBallGraphRepository dragonBallGraphRepository;
+
+  @BeforeAll
+  public static void prepare_graph() {
+    graphDatabase = new TestGraphDatabaseFactory().newImpermanentDatabase();
+    Neo4jAssertionExamples.importGraph(graphDatabase);
+    copyInParallelUniverses(graphDatabase);
+    dragonBallGraphRepository = new DragonBallGraphRepository(graphDatabase);
+  }
+
+  @AfterAll
+  public static void cleanUp() {
+    graphDatabase.shutdown();
+  }
+
+  @Test
+  public void compare_cypher_and_core_api_shortest_paths() {
+    Random random = new Random(42);
+    List<String[]> lookups = new ArrayList<>();
+    for (int i = 0; i < LOOKUPS; i++) {
+      // up to 10 universes away to stay within the max depth of 15
+      int universe = random.nextInt(UNIVERSES - 10);
+      lookups.add(new String[] { "Bulma" + universeSuffix(universe),
+          "Master Roshi" + universeSuffix(universe + random.nextInt(10)) });
+    }
+    BiFunction<String, String, Optional<Path>> cypher = dragonBallGraphRepository::findShortestPath;
+    BiFunction<String, String, Optional<Path>> coreApi = (start, end) -> dragonBallGraphRepository.findShortestPath(start,
+                                                                                                                   end,
+                                                                                                                   15);
+    // warm up, then measure
+    run(cypher, lookups);
+    run(coreApi, lookups);
+    long cypherNanos = run(cypher, lookups);
+    long coreApiNanos = run(coreApi, lookups);
+    System.out.printf("%d shortest path lookups on %d universes: cypher %d ms, core API %d ms%n", LOOKUPS, UNIVERSES,
+                      cypherNanos / 1_000_000, coreApiNanos / 1_000_000);
+
+    // both must agree on the path lengths
+    try (Transaction ignored = graphDatabase.beginTx()) {
+      for (String[] lookup : lookups.subList(0, 100)) {
+        assertThat(coreApi.apply(lookup[0], lookup[1]).map(Path::length))
+            .isEqualTo(cypher.apply(lookup[0], lookup[1]).map(Path::length));
+      }
+    }
+  }
+
+  private static long run(BiFunction<String, String, Optional<Path>> shortestPath, List<String[]> lookups) {
+    long start = System.nanoTime();
+    for (String[] lookup : lookups) {
+      assertThat(shortestPath.apply(lookup[0], lookup[1])).isPresent();
+    }
+    return System.nanoTime() - start;
+  }
+
+  static String universeSuffix(int universe) {
+    return universe == 0 ? "" : " #" + universe;
+  }
+
+  // universe 0 is the imported graph, the other ones are copies with suffixed names
+  static void copyInParallelUniverses(GraphDatabaseService graphDatabase) {
+    Label character = Label.label("Character");
+    for (int universe = 1; universe < UNIVERSES; universe++) {
+      try (Transaction transaction = graphDatabase.beginTx()) {
+        Map<Node, Node> copies = new HashMap<>();
+        for (Node node : graphDatabase.getAllNodes()) {
+          String name = (String) node.getProperty("name");
+          if (name.contains(" #")) continue;
+          Node copy = graphDatabase.createNode();
+          node.getLabels().forEach(copy::addLabel);
+          node.getAllProperties().forEach(copy::setProperty);
+          copy.setProperty("name", name + universeSuffix(universe));
+          copies.put(node, copy);
+        }
+        for (Relationship relationship : graphDatabase.getAllRelationships()) {
+          Node copiedStart = copies.get(relationship.getStartNode());
+          Node copiedEnd = copies.get(relationship.getEndNode());
+          if (copiedStart == null || copiedEnd == null) continue;
+          Relationship copy = copiedStart.createRelationshipTo(copiedEnd, relationship.getType());
+          relationship.getAllProperties().forEach(copy::setProperty);
+        }
+        Node previousSonGoku = graphDatabase.findNode(character, "name", "Son Goku" + universeSuffix(universe - 1));
+        Node sonGoku = graphDatabase.findNode(character, "name", "Son Goku" + universeSuffix(universe));
+        previousSonGoku.createRelationshipTo(sonGoku, KNOWS_PARALLEL_SELF);
+        transaction.success();
+      }
+    }
+  }
+
+}
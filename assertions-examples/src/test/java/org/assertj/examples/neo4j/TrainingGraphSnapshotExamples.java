@@ -0,0 +1,68 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2016 the original author or authors.
+ */
+package org.assertj.examples.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.examples.data.neo4j.TrainingGraphSnapshot;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+// uses its own database as the example changes the graph
+public class TrainingGraphSnapshotExamples {
+
+  @Test
+  public void training_graph_snapshot_examples() throws Exception {
+    GraphDatabaseService graphDatabase = new TestGraphDatabaseFactory().newImpermanentDatabase();
+    Neo4jAssertionExamples.importGraph(graphDatabase);
+    try (TrainingGraphSnapshot snapshot = new TrainingGraphSnapshot(graphDatabase)) {
+      // no transaction needed
+      assertThat(snapshot.trainingsCount()).isEqualTo(7);
+      assertThat(snapshot.disciplesOf("Master Roshi")).containsExactly("Krillin", "Son Goku", "Yamcha");
+      assertThat(snapshot.mastersOf("Master Roshi")).containsExactly("Master Mutaito");
+      assertThat(snapshot.disciplesOf("Bulma")).isEmpty();
+
+      // the snapshot is rebuilt after trainings change
+      try (Transaction transaction = graphDatabase.beginTx()) {
+        Node gohan = graphDatabase.createNode(Label.label("Character"), Label.label("Hero"));
+        gohan.setProperty("name", "Gohan");
+        gohan.createRelationshipTo(graphDatabase.findNode(Label.label("Master"), "name", "Master Roshi"),
+                                   RelationshipType.withName("HAS_TRAINED_WITH"));
+        transaction.success();
+      }
+      snapshot.awaitPendingRefresh(1, TimeUnit.MINUTES);
+      assertThat(snapshot.disciplesOf("Master Roshi")).containsExactly("Gohan", "Krillin", "Son Goku", "Yamcha");
+      assertThat(snapshot.mastersOf("Gohan")).containsExactly("Master Roshi");
+
+      // characters without name are left out
+      try (Transaction transaction = graphDatabase.beginTx()) {
+        graphDatabase.createNode(Label.label("Character"))
+                     .createRelationshipTo(graphDatabase.findNode(Label.label("Master"), "name", "Master Roshi"),
+                                           RelationshipType.withName("HAS_TRAINED_WITH"));
+        transaction.success();
+      }
+      snapshot.awaitPendingRefresh(1, TimeUnit.MINUTES);
+      assertThat(snapshot.trainingsCount()).isEqualTo(8);
+    } finally {
+      graphDatabase.shutdown();
+    }
+  }
+
+}